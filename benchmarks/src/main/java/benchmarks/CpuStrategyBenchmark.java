@@ -0,0 +1,100 @@
+package benchmarks;
+
+import cpu.Schedulers.FCFS;
+import cpu.Schedulers.MultiLevelFeedbackQueue;
+import cpu.Schedulers.RoundRobin;
+import cpu.Schedulers.Strategy;
+import cpu.Schedulers.scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one full scheduling run of every cpu.Schedulers strategy through the scheduler,
+ * including the reset between runs. Arrivals are spaced so the CPU runs at roughly 90% load.
+ * The deadline-driven strategies, edf and rm, get processes with deadlines and periods (see
+ * Workloads.realTime()); the others ignore those columns.
+ *
+ * Some legacy strategies are still quadratic, so restrict the grid with -p when running the
+ * largest process counts, e.g. -p strategy=srtf,rr -p processCount=1000000.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CpuStrategyBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int processCount;
+
+    @Param({"fcfs", "sjf", "ljf", "priority", "hrrn", "srtf", "lrtf", "rr", "mlfq",
+            "lottery", "stride", "cfs", "edf", "rm"})
+    public String strategy;
+
+    @Param({"uniform", "poisson", "batch"})
+    public String arrivalDistribution;
+
+    @Param({"uniform", "exponential", "bimodal"})
+    public String burstDistribution;
+
+    @Param({"0", "2"})
+    public int contextSwitchDelay;
+
+    private scheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] arrivals = Workloads.arrivals(processCount, arrivalDistribution, Workloads.MEAN_BURST / 0.9);
+        int[] bursts = Workloads.bursts(processCount, burstDistribution);
+        int[] priorities = Workloads.priorities(processCount);
+
+        if (strategy.equals("edf") || strategy.equals("rm")) {
+            scheduler = new scheduler(Workloads.realTime(arrivals, bursts, priorities), contextSwitchDelay);
+        } else {
+            scheduler = new scheduler(arrivals, bursts, priorities, contextSwitchDelay);
+        }
+        Strategy instance = createStrategy(strategy);
+        if (instance != null) {
+            scheduler.setStrategy(instance);
+        } else {
+            scheduler.setStrategy(strategy);
+        }
+    }
+
+    @Benchmark
+    public void execute(Blackhole blackhole) {
+        scheduler.reset();
+        scheduler.execute();
+        blackhole.consume(scheduler.getProcessTable().getCompletionTime(processCount - 1));
+    }
+
+    /**
+     * Builds the strategies that need parameters; the others are looked up by name.
+     */
+    static Strategy createStrategy(String name) {
+        switch (name) {
+            case "rr":
+                return new RoundRobin(4);
+            case "mlfq":
+                return new MultiLevelFeedbackQueue(3,
+                        new Strategy[] {new RoundRobin(4), new RoundRobin(8), new FCFS()},
+                        new int[] {4, 8, Integer.MAX_VALUE});
+            default:
+                return null; // Resolved by name in setUp()
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package benchmarks;
+
+import disk.Schedulers.scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one full run of every implemented disk.Schedulers strategy over the same request
+ * list. SCAN, C-SCAN, C-LOOK, RSS, LIFO, N-step SCAN and FSCAN are still stubs that return 0
+ * without scheduling anything, so they are left out until they exist.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiskStrategyBenchmark {
+    private static final int DISK_SIZE = 1 << 16;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int requestCount;
+
+    @Param({"fcfs", "sstf", "look"})
+    public String strategy;
+
+    @Param({"uniform", "clustered"})
+    public String cylinderDistribution;
+
+    private scheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Workloads.SEED);
+        List<Integer> requests = new ArrayList<>(requestCount);
+        int hotSpot = random.nextInt(DISK_SIZE);
+        for (int i = 0; i < requestCount; i++) {
+            int cylinder;
+            if (cylinderDistribution.equals("clustered") && random.nextInt(10) < 8) {
+                cylinder = Math.floorMod(hotSpot + random.nextInt(-512, 512), DISK_SIZE);
+            } else {
+                cylinder = random.nextInt(DISK_SIZE);
+            }
+            requests.add(cylinder);
+        }
+        scheduler = new scheduler(strategy, DISK_SIZE, requests, DISK_SIZE / 2);
+    }
+
+    @Benchmark
+    public int execute() {
+        scheduler.execute();
+        return scheduler.getTotalMovement();
+    }
+}
@@ -0,0 +1,137 @@
+package benchmarks;
+
+import cpu.Schedulers.PolicyExecutor;
+import cpu.Schedulers.TaskOrdering;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the mean latency of a burst of mixed-size tasks on a FIFO ThreadPoolExecutor and
+ * on PolicyExecutor orderings. Every invocation submits taskCount tasks at once, 90% short
+ * and 10% long, each spinning for its cost, and waits for all of them.
+ *
+ * The primary score is the time to drain the burst, which is about the same for every
+ * executor; the meanLatency counter is the average time from the start of the burst until a
+ * task completed, in microseconds, which is where the orderings differ.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = 1)
+@Measurement(iterations = 20, batchSize = 1)
+@Fork(1)
+public class ExecutorLatencyBenchmark {
+    private static final long SHORT_TASK_NANOS = 20_000;
+    private static final long LONG_TASK_NANOS = 1_000_000;
+
+    @Param({"fifo", "sjf", "hrrn", "mlfq"})
+    public String executor;
+
+    @Param({"4"})
+    public int threads;
+
+    @Param({"2000"})
+    public int taskCount;
+
+    private ExecutorService service;
+    private long[] costs;
+
+    /**
+     * Reports the mean completion latency of the burst run in each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Latency {
+        public double meanLatency;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            meanLatency = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        costs = new long[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            costs[i] = random.nextInt(10) == 0 ? LONG_TASK_NANOS : SHORT_TASK_NANOS;
+        }
+
+        switch (executor) {
+            case "fifo":
+                service = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+                break;
+            case "sjf":
+                service = new PolicyExecutor(threads, TaskOrdering.shortestJobFirst());
+                break;
+            case "hrrn":
+                service = new PolicyExecutor(threads, TaskOrdering.responseRatio(1));
+                break;
+            case "mlfq":
+                service = new PolicyExecutor(threads, TaskOrdering.multiLevelFeedback(50_000, 500_000, Long.MAX_VALUE));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor: " + executor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        service.shutdown();
+        service.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public void burst(Latency latency) throws InterruptedException {
+        long[] completions = new long[taskCount];
+        CountDownLatch done = new CountDownLatch(taskCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < taskCount; i++) {
+            int task = i;
+            Runnable work = () -> {
+                spin(costs[task]);
+                completions[task] = System.nanoTime();
+                done.countDown();
+            };
+            if (service instanceof PolicyExecutor) {
+                ((PolicyExecutor) service).execute(work, costs[task], 0);
+            } else {
+                service.execute(work);
+            }
+        }
+        done.await();
+
+        double total = 0;
+        for (long completion : completions) {
+            total += completion - start;
+        }
+        latency.meanLatency = total / taskCount / 1_000;
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import cpu.Schedulers.EventDrivenStrategy;
+import cpu.Schedulers.IoJob;
+import cpu.Schedulers.IoSimulation;
+import cpu.Schedulers.RoundRobin;
+import cpu.Schedulers.SRTF;
+import disk.Schedulers.LOOK;
+import disk.Schedulers.OnlineStrategy;
+import disk.Schedulers.SSTF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one CPU/disk co-simulation of jobs that alternate 1 to 4 CPU bursts with I/O
+ * bursts of 1 to 3 uniform cylinder requests, for pairs of CPU and disk strategies. The
+ * end-to-end results of the last run (utilization, turnaround and disk queueing delay) are
+ * printed when the trial ends.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IoSimulationBenchmark {
+    private static final int DISK_SIZE = 1 << 16;
+
+    @Param({"10000", "100000"})
+    public int jobCount;
+
+    @Param({"srtf+look", "rr+sstf", "srtf+sstf", "rr+look"})
+    public String strategies;
+
+    private IoSimulation simulation;
+    private EventDrivenStrategy cpuStrategy;
+    private OnlineStrategy diskStrategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Workloads.SEED);
+        int[] arrivals = Workloads.arrivals(jobCount, "poisson", 2.0 * Workloads.MEAN_BURST);
+        IoJob[] jobs = new IoJob[jobCount];
+        for (int i = 0; i < jobCount; i++) {
+            int[] cpuBursts = new int[1 + random.nextInt(4)];
+            int[][] ioRequests = new int[cpuBursts.length - 1][];
+            for (int burst = 0; burst < cpuBursts.length; burst++) {
+                cpuBursts[burst] = 1 + random.nextInt(Workloads.MEAN_BURST / 2);
+            }
+            for (int burst = 0; burst < ioRequests.length; burst++) {
+                ioRequests[burst] = random.ints(1 + random.nextInt(3), 0, DISK_SIZE).toArray();
+            }
+            jobs[i] = new IoJob(i + 1, arrivals[i], 1, cpuBursts, ioRequests);
+        }
+        simulation = new IoSimulation(jobs, DISK_SIZE, DISK_SIZE / 2, 1, 8192);
+
+        String[] pair = strategies.split("\\+");
+        cpuStrategy = pair[0].equals("srtf") ? new SRTF() : new RoundRobin(4);
+        diskStrategy = pair[1].equals("look") ? new LOOK() : new SSTF();
+    }
+
+    @TearDown(Level.Trial)
+    public void printResults() {
+        System.out.println();
+        System.out.println("=== " + strategies + ", " + jobCount + " jobs ===");
+        simulation.printSummary();
+    }
+
+    @Benchmark
+    public long run() {
+        simulation.run(cpuStrategy, diskStrategy, 1);
+        return simulation.getMakespan();
+    }
+}
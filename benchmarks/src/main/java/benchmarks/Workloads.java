@@ -0,0 +1,102 @@
+package benchmarks;
+
+import cpu.Schedulers.ProcessTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic workloads for the benchmarks. The same parameters and seed always
+ * produce the same arrays, so every strategy is measured on identical input.
+ */
+final class Workloads {
+    static final long SEED = 0x5EED_CAFEL;
+    static final int MEAN_BURST = 20;
+
+    private Workloads() {
+    }
+
+    /**
+     * Generates arrival times in non-decreasing order.
+     *
+     * @param count        The number of processes.
+     * @param distribution "batch" (all at 0), "uniform" (uniform gaps) or "poisson" (exponential gaps).
+     * @param meanGap      The mean time between two arrivals.
+     */
+    static int[] arrivals(int count, String distribution, double meanGap) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] arrivals = new int[count];
+        double time = 0;
+        for (int i = 0; i < count; i++) {
+            switch (distribution) {
+                case "batch":
+                    break;
+                case "uniform":
+                    time += random.nextDouble(2 * meanGap);
+                    break;
+                case "poisson":
+                    time += -meanGap * Math.log(1 - random.nextDouble());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown arrival distribution: " + distribution);
+            }
+            arrivals[i] = (int) time;
+        }
+        return arrivals;
+    }
+
+    /**
+     * Generates positive burst times with mean close to MEAN_BURST.
+     *
+     * @param count        The number of processes.
+     * @param distribution "uniform", "exponential" or "bimodal" (90% short, 10% long jobs).
+     */
+    static int[] bursts(int count, String distribution) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        int[] bursts = new int[count];
+        for (int i = 0; i < count; i++) {
+            double burst;
+            switch (distribution) {
+                case "uniform":
+                    burst = random.nextDouble(2 * MEAN_BURST);
+                    break;
+                case "exponential":
+                    burst = -MEAN_BURST * Math.log(1 - random.nextDouble());
+                    break;
+                case "bimodal":
+                    burst = random.nextInt(10) == 0 ? 11 * MEAN_BURST : MEAN_BURST / 10.0;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown burst distribution: " + distribution);
+            }
+            bursts[i] = Math.max(1, (int) Math.round(burst));
+        }
+        return bursts;
+    }
+
+    /**
+     * Generates priorities between 1 and 10.
+     */
+    static int[] priorities(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        int[] priorities = new int[count];
+        for (int i = 0; i < count; i++) {
+            priorities[i] = 1 + random.nextInt(10);
+        }
+        return priorities;
+    }
+
+    /**
+     * Builds a table of real-time processes for the deadline-driven strategies. Every
+     * process gets a relative deadline of 2 to 9 times its burst, which also serves as the
+     * period of the task it belongs to.
+     */
+    static ProcessTable realTime(int[] arrivals, int[] bursts, int[] priorities) {
+        SplittableRandom random = new SplittableRandom(SEED + 3);
+        ProcessTable table = new ProcessTable(arrivals.length);
+        for (int i = 0; i < arrivals.length; i++) {
+            int relativeDeadline = bursts[i] * (2 + random.nextInt(8));
+            table.add(i + 1, arrivals[i], bursts[i], priorities[i], arrivals[i] + relativeDeadline, relativeDeadline);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,377 @@
+package cpu.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The AdmissionController class decides, one task at a time, whether a periodic task can be
+ * added to a task set without any job missing its deadline on one CPU, and keeps the set of
+ * admitted tasks. It is created for EDF or for RateMonotonic scheduling.
+ *
+ * The checks are incremental: running sums of the admitted set are kept, so the common cases
+ * are decided in O(1) whatever the size of the set.
+ *
+ * EDF admits a task when the total density (execution time over deadline) stays at most 1,
+ * which is exact when every deadline equals its period and sufficient otherwise.
+ *
+ * Rate-monotonic analysis works on priority levels, one per distinct period, since tasks
+ * sharing a period have the same priority. A level behaves like one task whose cost is the
+ * sum of its tasks' execution times and whose deadline is the shortest of theirs, which is
+ * exact for the job of the level that runs last and safe for the others. Admission goes from
+ * cheap to exact:
+ * - a task that would push the total utilization above 1 is rejected;
+ * - while every deadline equals its period, the hyperbolic bound, prod(U_L + 1) <= 2 over
+ *   the levels, admits in O(1); it is tighter than the Liu and Layland bound n(2^(1/n) - 1);
+ * - otherwise each level at or below the priority of the new task is checked against the
+ *   response-time upper bound of Bini and Baruah, in one pass over the levels;
+ * - only levels that fail it get an exact response-time analysis, which starts from the
+ *   response time cached for the level, a lower bound, instead of from scratch.
+ * The last two steps cost O(number of levels), so real task sets, which use a handful of
+ * distinct periods, are decided in microseconds however many tasks they hold.
+ */
+public final class AdmissionController {
+    private static final double EPSILON = 1e-9;
+    private static final double LN2 = Math.log(2);
+
+    private final boolean rateMonotonic;
+    private final Map<Integer, PeriodicTask> tasks = new HashMap<>();
+    private double utilization;   // Sum of execution time over period
+    private double density;       // Sum of execution time over deadline
+    private double hyperbolic;    // Sum of log(U_L + 1) over the levels
+    private int constrainedCount; // Tasks whose deadline is shorter than their period
+
+    // Rate-monotonic only: the priority levels, by period
+    private int[] periods = new int[16];
+    private long[] costs = new long[16];     // Sum of the execution times of the level
+    private int[] deadlines = new int[16];   // Shortest deadline of the level
+    private long[] responses = new long[16]; // Lower bound on the response time of the level
+    private int[] pending = new int[16];     // Levels fitsFrom() analyses exactly
+    private long[] found = new long[16];     // Their response times
+    private final Map<Integer, TreeMap<Integer, Integer>> levelDeadlines = new HashMap<>(); // Deadline counts per period
+    private int levelCount;
+
+    private AdmissionController(boolean rateMonotonic) {
+        this.rateMonotonic = rateMonotonic;
+    }
+
+    /**
+     * Creates a controller for task sets scheduled by EDF.
+     *
+     * @return A controller with no admitted tasks.
+     */
+    public static AdmissionController edf() {
+        return new AdmissionController(false);
+    }
+
+    /**
+     * Creates a controller for task sets scheduled by RateMonotonic.
+     *
+     * @return A controller with no admitted tasks.
+     */
+    public static AdmissionController rateMonotonic() {
+        return new AdmissionController(true);
+    }
+
+    /**
+     * Returns the Liu and Layland utilization bound for n tasks under rate-monotonic scheduling.
+     *
+     * @param n The number of tasks.
+     * @return The bound n(2^(1/n) - 1), 1 for no tasks.
+     */
+    public static double liuLaylandBound(int n) {
+        return n == 0 ? 1 : n * (Math.pow(2, 1.0 / n) - 1);
+    }
+
+    /**
+     * Admits the task if the task set stays schedulable with it, otherwise leaves the set
+     * unchanged.
+     *
+     * @param task The task to add.
+     * @return true if the task was admitted, false if it was rejected.
+     * @throws IllegalArgumentException if a task with the same ID is already admitted.
+     */
+    public boolean admit(PeriodicTask task) {
+        if (tasks.containsKey(task.getId())) {
+            throw new IllegalArgumentException("Task " + task.getId() + " is already admitted.");
+        }
+        if (!rateMonotonic) {
+            if (density + task.density() > 1 + EPSILON) {
+                return false;
+            }
+            add(task);
+            return true;
+        }
+
+        if (utilization + task.utilization() > 1 + EPSILON) {
+            return false; // Necessary for any scheduler
+        }
+        int level = level(task.getPeriod());
+        boolean newLevel = level < 0;
+        if (newLevel) {
+            level = insertLevel(-level - 1, task.getPeriod());
+        }
+        long oldCost = costs[level];
+        int oldDeadline = deadlines[level];
+        double oldUtilization = (double) oldCost / task.getPeriod();
+        costs[level] += task.getExecutionTime();
+        deadlines[level] = Math.min(deadlines[level], task.getDeadline());
+        double levelHyperbolic = Math.log1p((double) costs[level] / task.getPeriod()) - Math.log1p(oldUtilization);
+
+        boolean implicit = constrainedCount == 0 && task.getDeadline() == task.getPeriod();
+        if (!(implicit && hyperbolic + levelHyperbolic <= LN2 + EPSILON) && !fitsFrom(level)) {
+            if (newLevel) {
+                removeLevel(level);
+            } else {
+                costs[level] = oldCost;
+                deadlines[level] = oldDeadline;
+            }
+            return false;
+        }
+        hyperbolic += levelHyperbolic;
+        levelDeadlines.computeIfAbsent(task.getPeriod(), period -> new TreeMap<>())
+                .merge(task.getDeadline(), 1, Integer::sum);
+        add(task);
+        return true;
+    }
+
+    /**
+     * Removes an admitted task.
+     *
+     * @param taskId The ID of the task.
+     * @return true if the task was admitted and has been removed, false otherwise.
+     */
+    public boolean remove(int taskId) {
+        PeriodicTask task = tasks.remove(taskId);
+        if (task == null) {
+            return false;
+        }
+        utilization -= task.utilization();
+        density -= task.density();
+        if (task.getDeadline() < task.getPeriod()) {
+            constrainedCount--;
+        }
+        if (rateMonotonic) {
+            int level = level(task.getPeriod());
+            double oldUtilization = (double) costs[level] / task.getPeriod();
+            costs[level] -= task.getExecutionTime();
+            hyperbolic += Math.log1p((double) costs[level] / task.getPeriod()) - Math.log1p(oldUtilization);
+            TreeMap<Integer, Integer> levelTasks = levelDeadlines.get(task.getPeriod());
+            if (levelTasks.merge(task.getDeadline(), -1, Integer::sum) == 0) {
+                levelTasks.remove(task.getDeadline());
+            }
+            if (levelTasks.isEmpty()) {
+                levelDeadlines.remove(task.getPeriod());
+                removeLevel(level);
+            } else {
+                deadlines[level] = levelTasks.firstKey();
+            }
+            for (int i = Math.min(level, levelCount); i < levelCount; i++) {
+                responses[i] = costs[i]; // Less interference now, so the cached values may be too high
+            }
+        }
+        if (tasks.isEmpty()) {
+            utilization = 0; // Drop accumulated rounding errors
+            density = 0;
+            hyperbolic = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a task is admitted.
+     *
+     * @param taskId The ID of the task.
+     * @return true if the task is admitted, false otherwise.
+     */
+    public boolean isAdmitted(int taskId) {
+        return tasks.containsKey(taskId);
+    }
+
+    /**
+     * Returns the number of admitted tasks.
+     *
+     * @return The number of tasks.
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns the total utilization of the admitted tasks.
+     *
+     * @return The sum of execution time over period.
+     */
+    public double getUtilization() {
+        return utilization;
+    }
+
+    /**
+     * Returns the total density of the admitted tasks.
+     *
+     * @return The sum of execution time over deadline.
+     */
+    public double getDensity() {
+        return density;
+    }
+
+    /**
+     * Returns the worst-case response time of an admitted task under rate-monotonic
+     * scheduling, computed exactly by response-time analysis. Tasks sharing a period share
+     * their worst case, that of the job of the level that runs last.
+     *
+     * @param taskId The ID of the task.
+     * @return The longest time from the release of a job to its completion.
+     * @throws IllegalStateException    if the controller is for EDF.
+     * @throws IllegalArgumentException if the task is not admitted.
+     */
+    public long getResponseTime(int taskId) {
+        if (!rateMonotonic) {
+            throw new IllegalStateException("Response times are only analysed for rate-monotonic scheduling.");
+        }
+        PeriodicTask task = tasks.get(taskId);
+        if (task == null) {
+            throw new IllegalArgumentException("Task " + taskId + " is not admitted.");
+        }
+        int level = level(task.getPeriod());
+        responses[level] = responseTime(level, responses[level], deadlines[level]);
+        return responses[level];
+    }
+
+    /**
+     * Returns the admitted tasks.
+     *
+     * @return A new list of the tasks, in no particular order.
+     */
+    public List<PeriodicTask> getTasks() {
+        return new ArrayList<>(tasks.values());
+    }
+
+    /**
+     * Expands the admitted tasks into the jobs they release before the horizon.
+     *
+     * @param horizon The time at which releases stop.
+     * @return A new table holding every job.
+     */
+    public ProcessTable releaseJobs(int horizon) {
+        return PeriodicTask.releaseJobs(tasks.values(), horizon);
+    }
+
+    private void add(PeriodicTask task) {
+        tasks.put(task.getId(), task);
+        utilization += task.utilization();
+        density += task.density();
+        if (task.getDeadline() < task.getPeriod()) {
+            constrainedCount++;
+        }
+    }
+
+    /**
+     * Checks that every level from the given one down meets its deadline. Each level is first
+     * checked against the Bini and Baruah bound
+     * R <= (C + sum of C_j(1 - U_j)) / (1 - sum of U_j) over the levels of higher priority,
+     * and the levels whose bound exceeds their deadline are then analysed exactly, lowest
+     * priority first since those are the likeliest to miss. Response times found exactly are
+     * only kept if every level fits.
+     */
+    private boolean fitsFrom(int from) {
+        double higherUtilization = 0;
+        double higherCarry = 0;
+        int unbounded = 0;
+        for (int i = 0; i < levelCount; i++) {
+            if (i >= from) {
+                double bound = higherUtilization < 1
+                        ? (costs[i] + higherCarry) / (1 - higherUtilization) : Double.POSITIVE_INFINITY;
+                if (bound > deadlines[i] + EPSILON) {
+                    if (unbounded == pending.length) {
+                        pending = Arrays.copyOf(pending, unbounded * 2);
+                        found = Arrays.copyOf(found, unbounded * 2);
+                    }
+                    pending[unbounded++] = i;
+                }
+            }
+            double u = (double) costs[i] / periods[i];
+            higherUtilization += u;
+            higherCarry += costs[i] * (1 - u);
+        }
+        for (int k = unbounded - 1; k >= 0; k--) {
+            int i = pending[k];
+            found[k] = responseTime(i, responses[i], deadlines[i]);
+            if (found[k] < 0) {
+                return false;
+            }
+        }
+        for (int k = 0; k < unbounded; k++) {
+            responses[pending[k]] = found[k];
+        }
+        return true;
+    }
+
+    /**
+     * Computes the least fixed point of R = C_i + sum over higher-priority levels j of
+     * ceil(R / T_j) * C_j by iteration from a lower bound.
+     *
+     * @return The response time, or -1 as soon as it exceeds the limit.
+     */
+    private long responseTime(int i, long start, long limit) {
+        long response = Math.max(start, costs[i]);
+        while (true) {
+            long demand = costs[i];
+            for (int j = 0; j < i && demand <= limit; j++) {
+                demand += (response + periods[j] - 1) / periods[j] * costs[j];
+            }
+            if (demand > limit) {
+                return -1;
+            }
+            if (demand <= response) {
+                return response;
+            }
+            response = demand;
+        }
+    }
+
+    /**
+     * Inserts an empty level at the given position and returns that position.
+     */
+    private int insertLevel(int position, int period) {
+        if (levelCount == periods.length) {
+            int capacity = levelCount * 2;
+            periods = Arrays.copyOf(periods, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            responses = Arrays.copyOf(responses, capacity);
+        }
+        int tail = levelCount - position;
+        System.arraycopy(periods, position, periods, position + 1, tail);
+        System.arraycopy(costs, position, costs, position + 1, tail);
+        System.arraycopy(deadlines, position, deadlines, position + 1, tail);
+        System.arraycopy(responses, position, responses, position + 1, tail);
+        periods[position] = period;
+        costs[position] = 0;
+        deadlines[position] = Integer.MAX_VALUE;
+        responses[position] = 0;
+        levelCount++;
+        return position;
+    }
+
+    private void removeLevel(int position) {
+        int tail = levelCount - position - 1;
+        System.arraycopy(periods, position + 1, periods, position, tail);
+        System.arraycopy(costs, position + 1, costs, position, tail);
+        System.arraycopy(deadlines, position + 1, deadlines, position, tail);
+        System.arraycopy(responses, position + 1, responses, position, tail);
+        levelCount--;
+    }
+
+    /**
+     * Binary search for the level of a period.
+     *
+     * @return The position of the level, or -(insertion point) - 1 if there is none.
+     */
+    private int level(int period) {
+        return Arrays.binarySearch(periods, 0, levelCount, period);
+    }
+}
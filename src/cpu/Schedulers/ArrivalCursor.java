@@ -0,0 +1,78 @@
+package cpu.Schedulers;
+
+import java.util.Arrays;
+
+/**
+ * The ArrivalCursor class walks the processes of a workload in arrival order.
+ * The slots are sorted by arrival time once, ties broken by slot, and a strategy then
+ * consumes new arrivals by advancing the cursor instead of rescanning every process.
+ */
+final class ArrivalCursor implements ArrivalSource {
+    private final int[] order;        // Slots sorted by arrival time
+    private final int[] arrivalTimes; // Arrival time per slot
+    private int position;
+
+    /**
+     * Constructs a cursor over the first count slots of the given arrival times.
+     *
+     * @param arrivalTimes The arrival time of each slot.
+     * @param count        The number of slots to walk.
+     */
+    ArrivalCursor(int[] arrivalTimes, int count) {
+        int n = count;
+        long[] keys = new long[n];
+        for (int slot = 0; slot < n; slot++) {
+            keys[slot] = ((long) arrivalTimes[slot] << 32) | slot;
+        }
+        Arrays.sort(keys);
+
+        this.order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+        }
+        this.arrivalTimes = arrivalTimes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < order.length;
+    }
+
+    @Override
+    public int peekTime() {
+        return arrivalTimes[order[position]];
+    }
+
+    @Override
+    public int next() {
+        return order[position++];
+    }
+
+    @Override
+    public void rewind() {
+        position = 0;
+    }
+
+    /**
+     * Returns the number of slots the cursor has handed out.
+     *
+     * @return The position of the cursor.
+     */
+    int position() {
+        return position;
+    }
+
+    /**
+     * Moves the cursor to a position returned by position(), e.g. when a simulation is
+     * restored from a snapshot.
+     *
+     * @param position The number of slots already handed out.
+     * @throws IllegalArgumentException if the position is outside the workload.
+     */
+    void seek(int position) {
+        if (position < 0 || position > order.length) {
+            throw new IllegalArgumentException("Cursor position out of range: " + position);
+        }
+        this.position = position;
+    }
+}
@@ -0,0 +1,48 @@
+package cpu.Schedulers;
+
+/**
+ * The ArrivalSource interface hands processes to the SimulationEngine in arrival order.
+ * Each arriving process already occupies a slot of the engine's ProcessTable by the time
+ * next() returns it.
+ */
+interface ArrivalSource {
+
+    /**
+     * Checks whether any process has not arrived yet.
+     *
+     * @return true if there are arrivals left, false otherwise.
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the arrival time of the next process without consuming it.
+     *
+     * @return The arrival time of the next process.
+     */
+    int peekTime();
+
+    /**
+     * Consumes the next process. A source that simulates something alongside the CPU may
+     * instead consume an event of its own at peekTime() and return -1.
+     *
+     * @return The slot of the next process in arrival order, or -1 if no process arrived.
+     */
+    int next();
+
+    /**
+     * Called when the engine has nothing left to run, to wait for a process that has not
+     * been handed over yet. Sources that know their whole workload up front return at once.
+     *
+     * @return true if another process can now arrive, false if the workload is finished.
+     */
+    default boolean awaitNext() {
+        return hasNext();
+    }
+
+    /**
+     * Moves the source back to the first arrival.
+     *
+     * @throws IllegalStateException if the source cannot be replayed.
+     */
+    void rewind();
+}
@@ -0,0 +1,209 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The CFS (Completely Fair Scheduler) class implements the fair scheduling strategy of the
+ * Linux kernel. The priority of a process is its nice value, clamped to [-20, 19], and is
+ * turned into a weight through the kernel's nice-to-weight table. Every process accumulates
+ * virtual runtime, i.e. the time it ran scaled inversely by its weight, and the runnable
+ * process with the smallest virtual runtime runs next, so CPU time is shared in proportion to
+ * the weights.
+ *
+ * There is no fixed quantum. A process runs for its share of the scheduling period, which is
+ * the target latency, stretched to the minimum granularity per runnable process when there
+ * are too many of them to give each one at least that much. A newly arrived process starts at
+ * the smallest virtual runtime so far, and preempts the running process when that one is
+ * ahead of it by more than the minimum granularity.
+ *
+ * The strategy runs on the event-driven SimulationEngine, so the clock jumps between
+ * decisions instead of advancing one time unit at a time. Runnable processes sit in an
+ * indexed min-heap keyed on virtual runtime, ties broken by slot, so enqueueing and picking
+ * the next process both cost O(log n).
+ */
+public class CFS implements EventDrivenStrategy {
+    /** Target latency used when none is given, e.g. by scheduler.setStrategy("cfs"). */
+    public static final int DEFAULT_TARGET_LATENCY = 48;
+    /** Minimum granularity used when none is given. */
+    public static final int DEFAULT_MIN_GRANULARITY = 6;
+
+    private static final int NICE_0_WEIGHT = 1024;
+    private static final int VRUNTIME_SHIFT = 16; // Fractional bits of virtual runtime
+
+    // Weight of nice values -20 to 19, as in the Linux kernel; each step is about 1.25x
+    private static final int[] NICE_TO_WEIGHT = {
+        88761, 71755, 56483, 46273, 36291,
+        29154, 23254, 18705, 14949, 11916,
+        9548, 7620, 6100, 4904, 3906,
+        3121, 2501, 1991, 1586, 1277,
+        1024, 820, 655, 526, 423,
+        335, 272, 215, 172, 137,
+        110, 87, 70, 56, 45,
+        36, 29, 23, 18, 15
+    };
+
+    private final int targetLatency;
+    private final int minGranularity;
+
+    /**
+     * Constructs a fair scheduler with the default target latency and minimum granularity.
+     */
+    public CFS() {
+        this(DEFAULT_TARGET_LATENCY, DEFAULT_MIN_GRANULARITY);
+    }
+
+    /**
+     * Constructs a fair scheduler.
+     *
+     * @param targetLatency  The period in which every runnable process should run once.
+     * @param minGranularity The shortest time a process runs before it can be switched out.
+     * @throws IllegalArgumentException if either value is not positive or the granularity
+     *                                  exceeds the target latency.
+     */
+    public CFS(int targetLatency, int minGranularity) {
+        if (targetLatency <= 0 || minGranularity <= 0) {
+            throw new IllegalArgumentException("Target latency and minimum granularity must be greater than 0.");
+        }
+        if (minGranularity > targetLatency) {
+            throw new IllegalArgumentException("Minimum granularity cannot exceed the target latency.");
+        }
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+    }
+
+    @Override
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(targetLatency, minGranularity, context);
+    }
+
+    /**
+     * Returns the load weight of a process with the given priority, read as a nice value.
+     *
+     * @param priority The priority of the process.
+     * @return The weight, 1024 for nice 0.
+     */
+    public static int weight(int priority) {
+        return NICE_TO_WEIGHT[Math.max(-20, Math.min(19, priority)) + 20];
+    }
+
+    /**
+     * Keeps runnable slots in a heap keyed on virtual runtime. The running process is not in
+     * the heap; its virtual runtime is brought up to date from the time it actually ran when
+     * it loses the CPU, so slices the engine merges for a lone process are charged in full.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final int targetLatency;
+        private final int minGranularity;
+        private final SchedulingContext context;
+        private final IndexedMinHeap ready; // Keyed on virtual runtime
+        private long[] vruntimes;           // Virtual runtime per slot
+        private long minVruntime;           // Never decreases; newcomers start here
+        private long readyWeight;           // Sum of the weights in the heap
+        private int dispatchedRemaining;    // Remaining time of the slot picked last when it was picked
+
+        Policy(int targetLatency, int minGranularity, SchedulingContext context) {
+            this.targetLatency = targetLatency;
+            this.minGranularity = minGranularity;
+            this.context = context;
+            this.ready = new IndexedMinHeap(context.size());
+            this.vruntimes = new long[Math.max(context.size(), 16)];
+        }
+
+        @Override
+        public void onArrival(int slot) {
+            if (slot >= vruntimes.length) {
+                vruntimes = Arrays.copyOf(vruntimes, Math.max(slot + 1, vruntimes.length * 2));
+            }
+            vruntimes[slot] = minVruntime;
+            enqueue(slot);
+        }
+
+        @Override
+        public int pickNext() {
+            int slot = ready.poll();
+            if (slot != -1) {
+                readyWeight -= weight(context.getPriority(slot));
+                minVruntime = Math.max(minVruntime, vruntimes[slot]);
+                dispatchedRemaining = context.getRemainingTime(slot);
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public int timeSlice(int slot) {
+            long runnable = ready.size() + 1L;
+            long period = Math.max(targetLatency, runnable * minGranularity);
+            int weight = weight(context.getPriority(slot));
+            long slice = period * weight / (readyWeight + weight);
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(minGranularity, slice));
+        }
+
+        @Override
+        public boolean shouldPreempt(int running, int arrived) {
+            long lead = currentVruntime(running) - vruntimes[arrived];
+            return lead > scale(minGranularity, weight(context.getPriority(arrived)));
+        }
+
+        @Override
+        public void onPreempted(int slot) {
+            vruntimes[slot] = currentVruntime(slot);
+            enqueue(slot);
+        }
+
+        @Override
+        public void onQuantumExpired(int slot) {
+            vruntimes[slot] = currentVruntime(slot);
+            enqueue(slot);
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+            out.writeInt(vruntimes.length);
+            out.writeLongs(vruntimes, 0, vruntimes.length);
+            out.writeLong(minVruntime);
+            out.writeLong(readyWeight);
+            out.writeInt(dispatchedRemaining);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
+            vruntimes = new long[in.readCount()];
+            in.readLongs(vruntimes, 0, vruntimes.length);
+            minVruntime = in.readLong();
+            readyWeight = in.readLong();
+            dispatchedRemaining = in.readInt();
+        }
+
+        private void enqueue(int slot) {
+            readyWeight += weight(context.getPriority(slot));
+            ready.add(slot, vruntimes[slot]);
+            if (ready.peek() == slot) {
+                minVruntime = Math.max(minVruntime, vruntimes[slot]);
+            }
+        }
+
+        /**
+         * Returns the virtual runtime of the slot picked last, including the time it has run
+         * since it was picked.
+         */
+        private long currentVruntime(int slot) {
+            int ran = dispatchedRemaining - context.getRemainingTime(slot);
+            return vruntimes[slot] + scale(ran, weight(context.getPriority(slot)));
+        }
+
+        /**
+         * Converts real time to virtual runtime for a process of the given weight.
+         */
+        private static long scale(long time, int weight) {
+            return (time * NICE_0_WEIGHT << VRUNTIME_SHIFT) / weight;
+        }
+    }
+}
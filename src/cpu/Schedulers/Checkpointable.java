@@ -0,0 +1,27 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+
+/**
+ * The Checkpointable interface is implemented by scheduling policies whose ready queues
+ * can be saved in a SimulationEngine snapshot and loaded back into a fresh policy of the
+ * same strategy.
+ */
+interface Checkpointable {
+
+    /**
+     * Writes the state of the policy.
+     *
+     * @param out The snapshot being written.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    void writeTo(SnapshotWriter out) throws IOException;
+
+    /**
+     * Replaces the state of this fresh policy with the state read from a snapshot.
+     *
+     * @param in The snapshot being read.
+     * @throws IOException if the snapshot cannot be read or is corrupt.
+     */
+    void readFrom(SnapshotReader in) throws IOException;
+}
@@ -0,0 +1,49 @@
+package cpu.Schedulers;
+
+/**
+ * The CoreLoads interface is the view of the cores of a MultiCoreEngine that a LoadBalancer
+ * works on: how busy each core is, and a way to move ready processes between run queues.
+ */
+public interface CoreLoads {
+
+    /**
+     * Returns the number of simulated cores.
+     *
+     * @return The number of cores.
+     */
+    int getCoreCount();
+
+    /**
+     * Returns the number of processes waiting in the run queue of a core, not counting the
+     * process running on it.
+     *
+     * @param core The index of the core.
+     * @return The length of the run queue.
+     */
+    int getQueueLength(int core);
+
+    /**
+     * Checks whether a core has no process running on it.
+     *
+     * @param core The index of the core.
+     * @return true if the core is idle, false otherwise.
+     */
+    boolean isIdle(int core);
+
+    /**
+     * Returns the current simulated time.
+     *
+     * @return The current time of the simulation clock.
+     */
+    int getCurrentTime();
+
+    /**
+     * Moves the process that would run next on one core to the run queue of another. The
+     * process pays the context switching delay when it is dispatched on its new core.
+     *
+     * @param from The core to take the process from.
+     * @param to   The core to move the process to.
+     * @return true if a process was moved, false if the run queue of the source core is empty.
+     */
+    boolean migrate(int from, int to);
+}
@@ -0,0 +1,40 @@
+package cpu.Schedulers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The DispatchBatchEvent class is the Flight Recorder event for a batch of up to
+ * RunCounters.BATCH_SIZE consecutive dispatches of a run. Recording batches instead of single
+ * dispatches keeps the event rate low enough for production sweeps while still showing how a
+ * run evolves, e.g. the ready queue building up under overload.
+ */
+@Name("cpu.Schedulers.DispatchBatch")
+@Label("Dispatch Batch")
+@Category({"OS Simulator", "CPU Scheduling"})
+@Description("Consecutive dispatches of a CPU scheduling run")
+@StackTrace(false)
+final class DispatchBatchEvent extends jdk.jfr.Event {
+    @Label("Dispatches")
+    long dispatches;
+
+    @Label("Preemptions")
+    long preemptions;
+
+    @Label("Context Switches")
+    long contextSwitches;
+
+    @Label("Idle Time")
+    long idleTime;
+
+    @Label("Ready Processes")
+    @Description("Processes waiting for a CPU at the end of the batch")
+    int ready;
+
+    @Label("Simulated Time")
+    @Description("Simulation clock at the end of the batch")
+    long simulatedTime;
+}
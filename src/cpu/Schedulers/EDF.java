@@ -0,0 +1,66 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+
+/**
+ * The EDF (Earliest Deadline First) class implements preemptive deadline scheduling. The
+ * ready process with the earliest absolute deadline runs, and a newly arrived process
+ * preempts the running one when its deadline is strictly earlier. On one CPU EDF meets every
+ * deadline of any workload that can be scheduled at all, e.g. periodic tasks whose total
+ * utilization is at most 1. Processes without a deadline run only when no process with a
+ * deadline is ready.
+ *
+ * Only the deadline of a process matters, not its period, so EDF also serves aperiodic
+ * processes with deadlines, e.g. streamed through a StreamingScheduler. A running process is
+ * never preempted by one with the same deadline, which saves needless context switches.
+ */
+public class EDF implements EventDrivenStrategy {
+
+    @Override
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(context);
+    }
+
+    /**
+     * Keeps ready processes in an indexed min-heap keyed on absolute deadline.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final SchedulingContext context;
+        private final IndexedMinHeap ready;
+
+        Policy(SchedulingContext context) {
+            this.context = context;
+            this.ready = new IndexedMinHeap(context.size());
+        }
+
+        @Override
+        public void onArrival(int slot) {
+            ready.add(slot, context.getDeadline(slot));
+        }
+
+        @Override
+        public int pickNext() {
+            return ready.poll();
+        }
+
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public boolean shouldPreempt(int running, int arrived) {
+            return context.getDeadline(arrived) < context.getDeadline(running);
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package cpu.Schedulers;
+
+/**
+ * The EventDrivenStrategy interface is implemented by strategies whose decisions can be
+ * expressed as a SchedulingPolicy for the SimulationEngine. Such strategies can run on a
+ * ProcessTable, and also in streaming mode through the StreamingScheduler.
+ */
+public interface EventDrivenStrategy extends TableStrategy {
+
+    /**
+     * Creates a fresh policy holding the ready queue for one run of the given context,
+     * e.g. a SimulationEngine or one core of a MultiCoreEngine.
+     *
+     * @param context The simulation the policy will make decisions for.
+     * @return A new policy.
+     */
+    SchedulingPolicy newPolicy(SchedulingContext context);
+
+    @Override
+    default void execute(ProcessTable table, int contextSwitchingDelay) {
+        execute(table, contextSwitchingDelay, null);
+    }
+
+    @Override
+    default void execute(ProcessTable table, int contextSwitchingDelay, ScheduleListener scheduleListener) {
+        SimulationEngine engine = new SimulationEngine(table, contextSwitchingDelay);
+        engine.setScheduleListener(scheduleListener);
+        engine.run(newPolicy(engine));
+    }
+}
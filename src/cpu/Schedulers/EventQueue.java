@@ -0,0 +1,200 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The EventQueue class is a time-ordered queue of simulation events used by the
+ * SimulationEngine. Events are kept in a binary min-heap backed by parallel primitive
+ * arrays, so scheduling an event never allocates an object. Arrivals do not go through
+ * this queue; the engine reads them from an ArrivalCursor.
+ *
+ * Events are ordered by time, then by kind (completions are handled before quantum
+ * expiries and preemptions happening at the same instant), then by insertion order.
+ */
+final class EventQueue {
+    static final int COMPLETION = 0;
+    static final int QUANTUM_EXPIRY = 1;
+    static final int PREEMPTION = 2;
+
+    private int[] times;
+    private int[] kinds;
+    private int[] slots;
+    private int[] stamps;
+    private long[] sequence;
+    private long nextSequence;
+    private int size;
+
+    /**
+     * Constructs an empty event queue.
+     *
+     * @param initialCapacity The number of events the queue can hold before growing.
+     */
+    EventQueue(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 4);
+        this.times = new int[capacity];
+        this.kinds = new int[capacity];
+        this.slots = new int[capacity];
+        this.stamps = new int[capacity];
+        this.sequence = new long[capacity];
+    }
+
+    /**
+     * Schedules a new event.
+     *
+     * @param time  The simulated time at which the event fires.
+     * @param kind  The kind of event (COMPLETION, QUANTUM_EXPIRY or PREEMPTION).
+     * @param slot  The process slot the event refers to.
+     * @param stamp The dispatch stamp the event belongs to, used to discard stale events.
+     */
+    void push(int time, int kind, int slot, int stamp) {
+        if (size == times.length) {
+            grow();
+        }
+        int i = size++;
+        times[i] = time;
+        kinds[i] = kind;
+        slots[i] = slot;
+        stamps[i] = stamp;
+        sequence[i] = nextSequence++;
+        siftUp(i);
+    }
+
+    /**
+     * Removes the earliest event. Its fields must be read with the peek methods beforehand.
+     */
+    void pop() {
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int peekTime() {
+        return times[0];
+    }
+
+    int peekKind() {
+        return kinds[0];
+    }
+
+    int peekSlot() {
+        return slots[0];
+    }
+
+    int peekStamp() {
+        return stamps[0];
+    }
+
+    /**
+     * Removes all events from the queue.
+     */
+    void clear() {
+        size = 0;
+        nextSequence = 0;
+    }
+
+    /**
+     * Writes the pending events, in heap order, to a snapshot.
+     */
+    void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(size);
+        out.writeLong(nextSequence);
+        out.writeInts(times, 0, size);
+        out.writeInts(kinds, 0, size);
+        out.writeInts(slots, 0, size);
+        out.writeInts(stamps, 0, size);
+        out.writeLongs(sequence, 0, size);
+    }
+
+    /**
+     * Replaces the pending events with the events read from a snapshot.
+     */
+    void readFrom(SnapshotReader in) throws IOException {
+        int count = in.readCount();
+        while (times.length < count) {
+            grow();
+        }
+        nextSequence = in.readLong();
+        in.readInts(times, 0, count);
+        in.readInts(kinds, 0, count);
+        in.readInts(slots, 0, count);
+        in.readInts(stamps, 0, count);
+        in.readLongs(sequence, 0, count);
+        size = count;
+    }
+
+    private boolean less(int a, int b) {
+        if (times[a] != times[b]) {
+            return times[a] < times[b];
+        }
+        if (kinds[a] != kinds[b]) {
+            return kinds[a] < kinds[b];
+        }
+        return sequence[a] < sequence[b];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && less(right, left)) {
+                smallest = right;
+            }
+            if (!less(smallest, i)) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void move(int from, int to) {
+        times[to] = times[from];
+        kinds[to] = kinds[from];
+        slots[to] = slots[from];
+        stamps[to] = stamps[from];
+        sequence[to] = sequence[from];
+    }
+
+    private void swap(int a, int b) {
+        int t = times[a]; times[a] = times[b]; times[b] = t;
+        int k = kinds[a]; kinds[a] = kinds[b]; kinds[b] = k;
+        int s = slots[a]; slots[a] = slots[b]; slots[b] = s;
+        int st = stamps[a]; stamps[a] = stamps[b]; stamps[b] = st;
+        long q = sequence[a]; sequence[a] = sequence[b]; sequence[b] = q;
+    }
+
+    private void grow() {
+        int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        stamps = Arrays.copyOf(stamps, capacity);
+        sequence = Arrays.copyOf(sequence, capacity);
+    }
+}
@@ -1,13 +1,18 @@
 package cpu.Schedulers;
 
-import java.util.Arrays;
+import java.io.IOException;
 
 /**
  * This class implements the First-Come, First-Served (FCFS) scheduling strategy.
  * FCFS is a non-preemptive scheduling algorithm where processes are executed
  * in the order they arrive in the ready queue.
+ *
+ * FCFS runs on the SimulationEngine like the other event-driven strategies: the ready queue
+ * is a FIFO ring buffer, and the engine charges the context switching delay whenever the CPU
+ * moves to another process than the one that ran last, so only the first process runs
+ * without paying for a switch.
  */
-public class FCFS implements Strategy {
+public class FCFS implements EventDrivenStrategy {
 
     /**
      * Executes the FCFS scheduling algorithm on the given array of processes.
@@ -17,28 +22,43 @@ public class FCFS implements Strategy {
      *                               between processes.
      */
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        // Sort processes based on their arrival time
-        Arrays.sort(processes, (p1, p2) -> Integer.compare(p1.getArrivalTime(), p2.getArrivalTime()));
-
-        int currentTime = 0; // Initialize current time to 0
-        for (Process process : processes) {
-            // Update current time if the process arrives after the current time
-            if (process.getArrivalTime() > currentTime) {
-                currentTime = process.getArrivalTime();
-            }
-
-            // Add context switching delay if this is not the first process
-            if (currentTime > 0) {
-                currentTime += contextSwitchingDelay; 
-            }
-
-            // Execute the process
-            currentTime += process.getBurstTime();
-            process.setCompletionTime(currentTime);
-            process.setCompleted(true);
-            process.setTurnAroundTime(currentTime - process.getArrivalTime());
-            process.setWaitingTime(process.getTurnAroundTime() - process.getBurstTime());
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(context.size());
+    }
+
+    /**
+     * Keeps ready processes in a FIFO ring buffer and runs each one to completion.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final IntRingBuffer ready;
+
+        Policy(int capacity) {
+            this.ready = new IntRingBuffer(capacity);
+        }
+
+        @Override
+        public void onArrival(int slot) {
+            ready.addLast(slot);
+        }
+
+        @Override
+        public int pickNext() {
+            return ready.pollFirst();
+        }
+
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
         }
     }
-}
\ No newline at end of file
+}
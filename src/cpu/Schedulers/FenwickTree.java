@@ -0,0 +1,125 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The FenwickTree class keeps a non-negative weight per process slot in a binary indexed
+ * tree, so the total weight is known in O(1), and changing a weight or finding the slot that
+ * a point on the cumulative weight line falls into both cost O(log n). Lottery scheduling
+ * uses it to draw a winning ticket without scanning every ready process. The tree grows when
+ * a slot beyond its capacity is set.
+ */
+final class FenwickTree {
+    private long[] tree;    // Partial sums, 1-based
+    private long[] weights; // Weight per slot
+    private long total;
+
+    /**
+     * Constructs a tree with every weight 0 for slots in the range [0, capacity).
+     *
+     * @param capacity The number of slots the tree can index.
+     */
+    FenwickTree(int capacity) {
+        int n = Math.max(capacity, 1);
+        this.tree = new long[n + 1];
+        this.weights = new long[n];
+    }
+
+    /**
+     * Sets the weight of a slot.
+     *
+     * @param slot   The slot.
+     * @param weight The new weight, 0 to take the slot out of the draw.
+     */
+    void set(int slot, long weight) {
+        if (slot >= weights.length) {
+            grow(Math.max(slot + 1, weights.length * 2));
+        }
+        long delta = weight - weights[slot];
+        if (delta == 0) {
+            return;
+        }
+        weights[slot] = weight;
+        total += delta;
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the weight of a slot.
+     *
+     * @param slot The slot.
+     * @return The weight, 0 if the slot was never set.
+     */
+    long get(int slot) {
+        return slot < weights.length ? weights[slot] : 0;
+    }
+
+    /**
+     * Returns the sum of all weights.
+     *
+     * @return The total weight.
+     */
+    long total() {
+        return total;
+    }
+
+    /**
+     * Finds the slot whose range on the cumulative weight line contains the given point,
+     * i.e. the lowest slot whose prefix sum is greater than the point.
+     *
+     * @param point A point in the range [0, total()).
+     * @return The slot holding that point.
+     */
+    int find(long point) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= point) {
+                position = next;
+                point -= tree[next];
+            }
+        }
+        return position; // 1-based index of the last slot below the point, i.e. the 0-based winner
+    }
+
+    /**
+     * Writes the weights to a snapshot.
+     */
+    void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(weights.length);
+        out.writeLongs(weights, 0, weights.length);
+    }
+
+    /**
+     * Replaces the weights with those read from a snapshot.
+     */
+    void readFrom(SnapshotReader in) throws IOException {
+        weights = new long[in.readCount()];
+        in.readLongs(weights, 0, weights.length);
+        rebuild();
+    }
+
+    private void grow(int capacity) {
+        weights = Arrays.copyOf(weights, capacity);
+        rebuild();
+    }
+
+    /**
+     * Recomputes the partial sums from the weights in O(n).
+     */
+    private void rebuild() {
+        tree = new long[weights.length + 1];
+        total = 0;
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += weights[i - 1];
+            total += weights[i - 1];
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -1,50 +1,67 @@
 package cpu.Schedulers;
 
-public class HRRN implements Strategy {
+/**
+ * The HRRN (Highest Response Ratio Next) class implements a non-preemptive scheduling strategy.
+ * Whenever the CPU becomes free, the waiting process with the highest response ratio
+ * (waiting time + burst time) / burst time runs next, ties going to the process that comes
+ * first in the array.
+ *
+ * Arrivals are admitted through an arrival-sorted cursor and the best waiting process is
+ * found with a kinetic tournament tree (see ResponseRatioTree), so each dispatch costs
+ * polylogarithmic time instead of a scan over every process. As in NonPreemptiveDispatcher,
+ * the process is chosen when the CPU becomes free, and the context switching delay is then
+ * charged before every dispatch after the first.
+ */
+public class HRRN implements TableStrategy {
 
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        int currentTime = 0;
-
-        while (true) {
-            int selectedProcess = -1;
-            double highestResponseRatio = -1;
+    public void execute(ProcessTable table, int contextSwitchingDelay) {
+        execute(table, contextSwitchingDelay, null);
+    }
 
-            // Find the process with the highest response ratio
-            for (int i = 0; i < processes.length; i++) {
-                Process process = processes[i];
-                if (!process.isCompleted() && process.getArrivalTime() <= currentTime) {
-                    // Calculate response ratio: (WT + BT) / BT
-                    int waitingTime = currentTime - process.getArrivalTime();
-                    double responseRatio = (double) (waitingTime + process.getBurstTime()) / process.getBurstTime();
+    @Override
+    public void execute(ProcessTable table, int contextSwitchingDelay, ScheduleListener scheduleListener) {
+        int n = table.size();
+        ArrivalCursor arrivals = new ArrivalCursor(table.arrivalTimes(), n);
+        ResponseRatioTree waiting = new ResponseRatioTree(table.arrivalTimes(), table.burstTimes(), n);
+        RunCounters counters = new RunCounters();
+        counters.begin();
+        int currentTime = 0;
+        int completedProcesses = 0;
 
-                    if (responseRatio > highestResponseRatio) {
-                        highestResponseRatio = responseRatio;
-                        selectedProcess = i;
-                    }
-                }
+        while (completedProcesses < n) {
+            waiting.advanceTo(currentTime);
+            while (arrivals.hasNext() && arrivals.peekTime() <= currentTime) {
+                waiting.insert(arrivals.next());
             }
 
-            if (selectedProcess == -1) {
-                // No process can be selected, break the loop
-                break;
+            if (waiting.isEmpty()) {
+                // No process has arrived yet, jump to the next arrival
+                counters.idle(arrivals.peekTime() - currentTime);
+                currentTime = arrivals.peekTime();
+                continue;
             }
 
-            // Execute the selected process
-            Process selected = processes[selectedProcess];
-            currentTime = Math.max(currentTime, selected.getArrivalTime());
-            currentTime += selected.getBurstTime();
-            selected.setCompletionTime(currentTime);
-
-            // Calculate Turnaround Time (TAT) and Waiting Time (WT)
-            int tat = selected.getCompletionTime() - selected.getArrivalTime();
-            selected.setTurnAroundTime(tat);
-
-            int wt = selected.getTurnAroundTime() - selected.getBurstTime();
-            selected.setWaitingTime(wt);
-
-            // Mark the process as completed
-            selected.setCompleted(true);
+            // Execute the process with the highest response ratio and record its
+            // completion, turnaround and waiting times
+            int selected = waiting.best();
+            waiting.remove(selected);
+            if (completedProcesses > 0) {
+                currentTime += contextSwitchingDelay;
+                counters.contextSwitched();
+            }
+            counters.dispatched(waiting.size(), currentTime);
+            if (scheduleListener != null) {
+                scheduleListener.onDispatch(0, table.getPid(selected), currentTime);
+            }
+            currentTime += table.getBurstTime(selected);
+            table.complete(selected, currentTime);
+            if (scheduleListener != null) {
+                scheduleListener.onComplete(0, table.getPid(selected), currentTime);
+            }
+            completedProcesses++;
         }
+        table.setContextSwitchCount(Math.max(0, n - 1)); // One switch per process after the first
+        counters.end(this, n, 1, 0, currentTime);
     }
 }
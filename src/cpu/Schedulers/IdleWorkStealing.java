@@ -0,0 +1,17 @@
+package cpu.Schedulers;
+
+/**
+ * The IdleWorkStealing class balances cores by letting a core that runs out of work take
+ * the next ready process from the core with the longest run queue. Arrivals go to the
+ * least loaded core.
+ */
+public class IdleWorkStealing implements LoadBalancer {
+
+    @Override
+    public void onIdle(int core, CoreLoads loads) {
+        int victim = LoadBalancer.longestQueue(loads);
+        if (victim != core && loads.getQueueLength(victim) > 0) {
+            loads.migrate(victim, core);
+        }
+    }
+}
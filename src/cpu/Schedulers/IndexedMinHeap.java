@@ -0,0 +1,220 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The IndexedMinHeap class is a binary min-heap of process slots keyed by a long value.
+ * It tracks the position of every slot, so membership tests, removals and key updates
+ * are O(1) or O(log n) instead of the linear scans a java.util.PriorityQueue needs.
+ * Equal keys are ordered by slot, which keeps schedules deterministic. The heap grows when
+ * a slot beyond its capacity is added.
+ */
+final class IndexedMinHeap {
+    private int[] heap;       // Slots in heap order
+    private long[] keys;      // Key per slot
+    private int[] positions;  // Heap index per slot, -1 when the slot is not in the heap
+    private int size;
+
+    /**
+     * Constructs an empty heap for slots in the range [0, capacity).
+     *
+     * @param capacity The number of slots the heap can index.
+     */
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Adds a slot to the heap.
+     *
+     * @param slot The slot to add, which must not already be in the heap.
+     * @param key  The key of the slot.
+     */
+    void add(int slot, long key) {
+        if (slot >= positions.length) {
+            grow(Math.max(slot + 1, positions.length * 2));
+        }
+        keys[slot] = key;
+        heap[size] = slot;
+        positions[slot] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Changes the key of a slot that is in the heap.
+     *
+     * @param slot The slot to update.
+     * @param key  The new key of the slot.
+     */
+    void update(int slot, long key) {
+        long old = keys[slot];
+        keys[slot] = key;
+        if (key < old) {
+            siftUp(positions[slot]);
+        } else {
+            siftDown(positions[slot]);
+        }
+    }
+
+    /**
+     * Removes a slot from anywhere in the heap.
+     *
+     * @param slot The slot to remove, which must be in the heap.
+     */
+    void remove(int slot) {
+        int i = positions[slot];
+        positions[slot] = -1;
+        size--;
+        if (i != size) {
+            int last = heap[size];
+            heap[i] = last;
+            positions[last] = i;
+            siftDown(i);
+            siftUp(positions[last]);
+        }
+    }
+
+    /**
+     * Removes and returns the slot with the smallest key.
+     *
+     * @return The slot with the smallest key, or -1 if the heap is empty.
+     */
+    int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int top = heap[0];
+        remove(top);
+        return top;
+    }
+
+    /**
+     * Returns the slot with the smallest key without removing it.
+     *
+     * @return The slot with the smallest key, or -1 if the heap is empty.
+     */
+    int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    boolean contains(int slot) {
+        return slot < positions.length && positions[slot] != -1;
+    }
+
+    long key(int slot) {
+        return keys[slot];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all slots from the heap.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Writes the slots in heap order, with their keys, to a snapshot.
+     */
+    void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(positions.length);
+        out.writeInt(size);
+        out.writeInts(heap, 0, size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(keys[heap[i]]);
+        }
+    }
+
+    /**
+     * Replaces the contents of the heap with the slots read from a snapshot. The heap order
+     * is kept as written, so later ties are broken exactly as they would have been.
+     */
+    void readFrom(SnapshotReader in) throws IOException {
+        clear();
+        int capacity = in.readCount();
+        if (capacity > positions.length) {
+            grow(capacity);
+        }
+        int count = in.readCount();
+        if (count > positions.length) {
+            throw new IOException("Corrupt snapshot: " + count + " slots in a heap of " + positions.length);
+        }
+        in.readInts(heap, 0, count);
+        for (int i = 0; i < count; i++) {
+            int slot = heap[i];
+            if (slot < 0 || slot >= positions.length) {
+                throw new IOException("Corrupt snapshot: slot " + slot + " out of range");
+            }
+            keys[slot] = in.readLong();
+            positions[slot] = i;
+        }
+        size = count;
+    }
+
+    private boolean less(int a, int b) {
+        long ka = keys[a];
+        long kb = keys[b];
+        return ka < kb || (ka == kb && a < b);
+    }
+
+    private void siftUp(int i) {
+        int slot = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int parentSlot = heap[parent];
+            if (!less(slot, parentSlot)) {
+                break;
+            }
+            heap[i] = parentSlot;
+            positions[parentSlot] = i;
+            i = parent;
+        }
+        heap[i] = slot;
+        positions[slot] = i;
+    }
+
+    private void siftDown(int i) {
+        int slot = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            int right = child + 1;
+            if (right < size && less(heap[right], heap[child])) {
+                child = right;
+            }
+            int childSlot = heap[child];
+            if (!less(childSlot, slot)) {
+                break;
+            }
+            heap[i] = childSlot;
+            positions[childSlot] = i;
+            i = child;
+        }
+        heap[i] = slot;
+        positions[slot] = i;
+    }
+
+    private void grow(int capacity) {
+        int old = positions.length;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, old, capacity, -1);
+    }
+}
@@ -0,0 +1,108 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+
+/**
+ * The IntRingBuffer class is a FIFO queue of process slots stored in a circular int array.
+ * Unlike a Queue of Integer objects it never boxes, and it only allocates when it grows.
+ */
+final class IntRingBuffer {
+    private int[] elements;
+    private int head;  // Index of the first element
+    private int size;
+
+    /**
+     * Constructs an empty ring buffer.
+     *
+     * @param initialCapacity The number of slots the buffer can hold before growing.
+     */
+    IntRingBuffer(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        this.elements = new int[capacity];
+    }
+
+    /**
+     * Appends a slot to the tail of the queue.
+     *
+     * @param slot The slot to append.
+     */
+    void addLast(int slot) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = slot;
+        size++;
+    }
+
+    /**
+     * Removes and returns the slot at the head of the queue.
+     *
+     * @return The slot at the head, or -1 if the queue is empty.
+     */
+    int pollFirst() {
+        if (size == 0) {
+            return -1;
+        }
+        int slot = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return slot;
+    }
+
+    /**
+     * Returns the slot at the head of the queue without removing it.
+     *
+     * @return The slot at the head, or -1 if the queue is empty.
+     */
+    int peekFirst() {
+        return size == 0 ? -1 : elements[head];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all slots from the queue.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Writes the queued slots, head first, to a snapshot.
+     */
+    void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(size);
+        int firstPart = Math.min(size, elements.length - head);
+        out.writeInts(elements, head, firstPart);
+        out.writeInts(elements, 0, size - firstPart);
+    }
+
+    /**
+     * Replaces the contents of the queue with the slots read from a snapshot.
+     */
+    void readFrom(SnapshotReader in) throws IOException {
+        int count = in.readCount();
+        if (count > elements.length) {
+            elements = new int[Integer.highestOneBit(count - 1) << 1];
+        }
+        in.readInts(elements, 0, count);
+        head = 0;
+        size = count;
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,135 @@
+package cpu.Schedulers;
+
+/**
+ * The IoJob class describes a process that alternates CPU bursts with disk I/O, for an
+ * IoSimulation. It runs its first CPU burst, then issues the cylinder requests of its first
+ * I/O burst and blocks until the disk has serviced all of them, then runs its second CPU
+ * burst, and so on until its last CPU burst completes.
+ */
+public final class IoJob {
+    private final int pid;
+    private final int arrivalTime;
+    private final int priority;
+    private final int[] cpuBursts;
+    private final int[][] ioRequests;
+
+    /**
+     * Constructs a job.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The time at which the job arrives in the ready queue.
+     * @param priority    The priority of the job.
+     * @param cpuBursts   The length of each CPU burst.
+     * @param ioRequests  The cylinders requested by each I/O burst, one burst between every
+     *                    two CPU bursts.
+     * @throws IllegalArgumentException if there is no CPU burst, a CPU burst is not positive,
+     *                                  the number of I/O bursts does not match or an I/O burst
+     *                                  requests nothing.
+     */
+    public IoJob(int pid, int arrivalTime, int priority, int[] cpuBursts, int[][] ioRequests) {
+        if (cpuBursts.length == 0) {
+            throw new IllegalArgumentException("A job needs at least one CPU burst.");
+        }
+        for (int burst : cpuBursts) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("CPU bursts must be greater than 0.");
+            }
+        }
+        if (ioRequests.length != cpuBursts.length - 1) {
+            throw new IllegalArgumentException("There must be one I/O burst between every two CPU bursts.");
+        }
+        for (int[] requests : ioRequests) {
+            if (requests.length == 0) {
+                throw new IllegalArgumentException("An I/O burst must request at least one cylinder.");
+            }
+        }
+        this.pid = pid;
+        this.arrivalTime = arrivalTime;
+        this.priority = priority;
+        this.cpuBursts = cpuBursts.clone();
+        this.ioRequests = new int[ioRequests.length][];
+        for (int i = 0; i < ioRequests.length; i++) {
+            this.ioRequests[i] = ioRequests[i].clone();
+        }
+    }
+
+    /**
+     * Returns the process ID.
+     *
+     * @return The process ID.
+     */
+    public int getPid() {
+        return pid;
+    }
+
+    /**
+     * Returns the time at which the job arrives.
+     *
+     * @return The arrival time.
+     */
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+
+    /**
+     * Returns the priority of the job.
+     *
+     * @return The priority.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the number of CPU bursts.
+     *
+     * @return The number of CPU bursts.
+     */
+    public int getCpuBurstCount() {
+        return cpuBursts.length;
+    }
+
+    /**
+     * Returns the length of a CPU burst.
+     *
+     * @param burst The index of the CPU burst.
+     * @return The length of the burst.
+     */
+    public int getCpuBurst(int burst) {
+        return cpuBursts[burst];
+    }
+
+    /**
+     * Returns the total length of all CPU bursts.
+     *
+     * @return The CPU time the job needs.
+     */
+    public long getTotalCpuTime() {
+        long total = 0;
+        for (int burst : cpuBursts) {
+            total += burst;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of cylinder requests of an I/O burst.
+     *
+     * @param burst The index of the I/O burst, which follows the CPU burst with the same index.
+     * @return The number of requests.
+     */
+    public int getRequestCount(int burst) {
+        return ioRequests[burst].length;
+    }
+
+    /**
+     * Returns a cylinder requested by an I/O burst.
+     *
+     * @param burst   The index of the I/O burst.
+     * @param request The index of the request within the burst.
+     * @return The cylinder.
+     */
+    public int getCylinder(int burst, int request) {
+        return ioRequests[burst][request];
+    }
+}
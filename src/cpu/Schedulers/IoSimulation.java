@@ -0,0 +1,342 @@
+package cpu.Schedulers;
+
+import disk.Schedulers.OnlineStrategy;
+import disk.Schedulers.RequestQueue;
+
+import java.util.Arrays;
+
+/**
+ * The IoSimulation class runs a CPU strategy and a disk strategy together on jobs that
+ * alternate CPU bursts with disk I/O (see IoJob), so the two schedulers see each other's
+ * effects: a job that finishes a CPU burst issues its cylinder requests to the disk and
+ * blocks, and it re-enters the CPU ready queue once the disk has serviced all of them.
+ *
+ * Both devices run in the one event loop of the SimulationEngine. The disk is driven from
+ * the engine's arrival source: the end of every disk request is an event in the same
+ * time-ordered stream as the job arrivals, and each CPU burst enters the engine as a fresh
+ * arrival of the job's slot. Servicing a request takes the transfer time plus the seek time,
+ * one time unit per cylindersPerTimeUnit cylinders travelled, rounded up.
+ *
+ * After a run the simulation reports CPU and disk utilization, the total head movement and
+ * the distributions of job turnaround, time spent in the CPU ready queue and time requests
+ * waited for the disk head.
+ */
+public final class IoSimulation {
+    private final IoJob[] jobs;
+    private final int diskSize;
+    private final int initialHeadPosition;
+    private final int transferTime;
+    private final int cylindersPerTimeUnit;
+
+    private final LogLinearHistogram turnaroundTimes = new LogLinearHistogram();
+    private final LogLinearHistogram readyWaitTimes = new LogLinearHistogram();
+    private final LogLinearHistogram diskQueueDelays = new LogLinearHistogram();
+    private long totalCpuTime;
+    private long diskBusyTime;
+    private long headMovement;
+    private long contextSwitches;
+    private int makespan;
+
+    /**
+     * Constructs a simulation of the given jobs on a disk.
+     *
+     * @param jobs                 The jobs to run.
+     * @param diskSize             The number of cylinders of the disk.
+     * @param headPosition         The initial position of the disk head.
+     * @param transferTime         The time to transfer the data of one request once the head is in place.
+     * @param cylindersPerTimeUnit The number of cylinders the head crosses per time unit.
+     * @throws IllegalArgumentException if there are no jobs, the disk size, transfer time or
+     *                                  seek speed is invalid, the head is outside the disk or
+     *                                  a job requests a cylinder outside the disk.
+     */
+    public IoSimulation(IoJob[] jobs, int diskSize, int headPosition, int transferTime, int cylindersPerTimeUnit) {
+        if (jobs == null || jobs.length == 0) {
+            throw new IllegalArgumentException("Jobs cannot be null or empty.");
+        }
+        if (diskSize <= 0) {
+            throw new IllegalArgumentException("Disk size must be greater than 0.");
+        }
+        if (headPosition < 0 || headPosition >= diskSize) {
+            throw new IllegalArgumentException("Head position must be between 0 and disk size.");
+        }
+        if (transferTime < 0) {
+            throw new IllegalArgumentException("Transfer time cannot be negative.");
+        }
+        if (cylindersPerTimeUnit <= 0) {
+            throw new IllegalArgumentException("Seek speed must be greater than 0.");
+        }
+        for (IoJob job : jobs) {
+            for (int burst = 0; burst < job.getCpuBurstCount() - 1; burst++) {
+                for (int request = 0; request < job.getRequestCount(burst); request++) {
+                    int cylinder = job.getCylinder(burst, request);
+                    if (cylinder < 0 || cylinder >= diskSize) {
+                        throw new IllegalArgumentException("Cylinder must be between 0 and disk size.");
+                    }
+                }
+            }
+        }
+        this.jobs = jobs.clone();
+        this.diskSize = diskSize;
+        this.initialHeadPosition = headPosition;
+        this.transferTime = transferTime;
+        this.cylindersPerTimeUnit = cylindersPerTimeUnit;
+    }
+
+    /**
+     * Runs every job to completion.
+     *
+     * @param cpuStrategy           The strategy scheduling the CPU.
+     * @param diskStrategy          The strategy ordering the disk requests, e.g. LOOK or SSTF.
+     * @param contextSwitchingDelay The delay incurred when the CPU switches to another job.
+     * @throws IllegalArgumentException if a strategy is null or the delay is negative.
+     */
+    public void run(EventDrivenStrategy cpuStrategy, OnlineStrategy diskStrategy, int contextSwitchingDelay) {
+        if (cpuStrategy == null || diskStrategy == null) {
+            throw new IllegalArgumentException("Strategy can't be null.");
+        }
+        if (contextSwitchingDelay < 0) {
+            throw new IllegalArgumentException("Context switching delay cannot be negative.");
+        }
+        turnaroundTimes.clear();
+        readyWaitTimes.clear();
+        diskQueueDelays.clear();
+        totalCpuTime = 0;
+        diskBusyTime = 0;
+        headMovement = 0;
+        makespan = 0;
+
+        // Slot i holds job i, loaded with its first CPU burst
+        ProcessTable table = new ProcessTable(jobs.length);
+        int[] arrivalTimes = new int[jobs.length];
+        for (int slot = 0; slot < jobs.length; slot++) {
+            IoJob job = jobs[slot];
+            table.add(job.getPid(), job.getArrivalTime(), job.getCpuBurst(0), job.getPriority());
+            arrivalTimes[slot] = job.getArrivalTime();
+            totalCpuTime += job.getTotalCpuTime();
+        }
+
+        Devices devices = new Devices(table, arrivalTimes, diskStrategy.newQueue(diskSize));
+        SimulationEngine engine = new SimulationEngine(table, devices, contextSwitchingDelay);
+        engine.setCompletionListener(slot -> devices.burstCompleted(slot, engine.getCurrentTime()));
+        engine.run(cpuStrategy.newPolicy(engine));
+        contextSwitches = table.getContextSwitchCount();
+    }
+
+    /**
+     * Returns the time at which the last job completed in the last run.
+     *
+     * @return The makespan of the run.
+     */
+    public int getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * Calculates the share of the last run during which the CPU executed jobs.
+     *
+     * @return The CPU utilization as a percentage.
+     */
+    public double cpuUtilization() {
+        return (makespan > 0) ? (double) totalCpuTime / makespan * 100 : 0;
+    }
+
+    /**
+     * Calculates the share of the last run during which the disk serviced requests.
+     *
+     * @return The disk utilization as a percentage.
+     */
+    public double diskUtilization() {
+        return (makespan > 0) ? (double) diskBusyTime / makespan * 100 : 0;
+    }
+
+    /**
+     * Returns the number of cylinders the disk head crossed in the last run.
+     *
+     * @return The total head movement.
+     */
+    public long getTotalHeadMovement() {
+        return headMovement;
+    }
+
+    /**
+     * Returns how often the CPU was handed to a different job in the last run.
+     *
+     * @return The number of context switches.
+     */
+    public long getContextSwitchCount() {
+        return contextSwitches;
+    }
+
+    /**
+     * Returns the distribution of the job turnaround times, from arrival until the last CPU
+     * burst completed.
+     *
+     * @return The turnaround time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getTurnaroundTimeHistogram() {
+        return turnaroundTimes;
+    }
+
+    /**
+     * Returns the distribution of the total time each job spent in the CPU ready queue over
+     * all its bursts.
+     *
+     * @return The ready wait histogram, which must not be modified.
+     */
+    public LogLinearHistogram getReadyWaitTimeHistogram() {
+        return readyWaitTimes;
+    }
+
+    /**
+     * Returns the distribution of the time each disk request waited before the head started
+     * moving to it.
+     *
+     * @return The disk queueing delay histogram, which must not be modified.
+     */
+    public LogLinearHistogram getDiskQueueDelayHistogram() {
+        return diskQueueDelays;
+    }
+
+    /**
+     * Prints the results of the last run.
+     */
+    public void printSummary() {
+        System.out.printf("Makespan: %d%n", makespan);
+        System.out.printf("CPU Utilization: %.2f %%%n", cpuUtilization());
+        System.out.printf("Disk Utilization: %.2f %%%n", diskUtilization());
+        System.out.printf("Average Turnaround Time: %.2f (p99 %d)%n",
+                turnaroundTimes.getMean(), turnaroundTimes.percentile(99));
+        System.out.printf("Average Ready Queue Wait: %.2f (p99 %d)%n",
+                readyWaitTimes.getMean(), readyWaitTimes.percentile(99));
+        System.out.printf("Average Disk Queueing Delay: %.2f (p99 %d)%n",
+                diskQueueDelays.getMean(), diskQueueDelays.percentile(99));
+        System.out.printf("Head Movement: %d cylinders%n", headMovement);
+        System.out.printf("Context Switches: %d%n", contextSwitches);
+    }
+
+    /**
+     * Feeds the engine with job arrivals and the ends of disk requests in time order, and
+     * keeps the state of the disk and of every job between its bursts.
+     */
+    private final class Devices implements ArrivalSource {
+        private final ProcessTable table;
+        private final ArrivalCursor arrivals;
+        private final RequestQueue diskQueue;
+        private final int[] nextBurst;   // Index of the CPU burst each job runs next
+        private final int[] outstanding; // Disk requests each job is still waiting for
+        private final long[] readyWait;  // Time each job has spent in the ready queue so far
+        private int[] requestJob = new int[64];   // Job that issued each request id
+        private int[] requestIssued = new int[64];
+        private int[] requestCylinder = new int[64];
+        private final IntRingBuffer freeRequests = new IntRingBuffer(64);
+        private int nextRequest;  // Request ids below this have been handed out
+        private int head;
+        private int servicing = -1; // Request the disk is servicing, -1 when idle
+        private int serviceEnd;
+
+        Devices(ProcessTable table, int[] arrivalTimes, RequestQueue diskQueue) {
+            this.table = table;
+            this.arrivals = new ArrivalCursor(arrivalTimes, arrivalTimes.length);
+            this.diskQueue = diskQueue;
+            this.nextBurst = new int[jobs.length];
+            this.outstanding = new int[jobs.length];
+            this.readyWait = new long[jobs.length];
+            this.head = initialHeadPosition;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return arrivals.hasNext() || servicing != -1;
+        }
+
+        @Override
+        public int peekTime() {
+            if (servicing == -1) {
+                return arrivals.peekTime();
+            }
+            return arrivals.hasNext() ? Math.min(arrivals.peekTime(), serviceEnd) : serviceEnd;
+        }
+
+        @Override
+        public int next() {
+            if (servicing == -1 || (arrivals.hasNext() && arrivals.peekTime() <= serviceEnd)) {
+                int slot = arrivals.next();
+                nextBurst[slot] = 1;
+                return slot;
+            }
+
+            // The disk finished a request: start the next one and wake the job if it was its last
+            int now = serviceEnd;
+            int job = requestJob[servicing];
+            freeRequests.addLast(servicing);
+            servicing = -1;
+            startNextRequest(now);
+            if (--outstanding[job] > 0) {
+                return -1;
+            }
+            IoJob ioJob = jobs[job];
+            table.load(job, ioJob.getPid(), now, ioJob.getCpuBurst(nextBurst[job]++), ioJob.getPriority());
+            return job;
+        }
+
+        @Override
+        public void rewind() {
+        }
+
+        /**
+         * Records a completed CPU burst and issues the job's next I/O burst, if any.
+         */
+        void burstCompleted(int job, int now) {
+            readyWait[job] += table.getWaitingTime(job);
+            IoJob ioJob = jobs[job];
+            if (nextBurst[job] == ioJob.getCpuBurstCount()) {
+                turnaroundTimes.record(now - ioJob.getArrivalTime());
+                readyWaitTimes.record(readyWait[job]);
+                makespan = Math.max(makespan, now);
+                return;
+            }
+
+            int burst = nextBurst[job] - 1; // The I/O burst follows the CPU burst that just ended
+            outstanding[job] = ioJob.getRequestCount(burst);
+            for (int i = 0; i < ioJob.getRequestCount(burst); i++) {
+                int request = newRequest();
+                requestJob[request] = job;
+                requestIssued[request] = now;
+                requestCylinder[request] = ioJob.getCylinder(burst, i);
+                diskQueue.add(request, requestCylinder[request]);
+            }
+            if (servicing == -1) {
+                startNextRequest(now);
+            }
+        }
+
+        private void startNextRequest(int now) {
+            int request = diskQueue.next(head);
+            if (request == -1) {
+                return;
+            }
+            int distance = Math.abs(requestCylinder[request] - head);
+            int serviceTime = transferTime + (distance + cylindersPerTimeUnit - 1) / cylindersPerTimeUnit;
+            diskQueueDelays.record(now - requestIssued[request]);
+            headMovement += distance;
+            diskBusyTime += serviceTime;
+            head = requestCylinder[request];
+            servicing = request;
+            serviceEnd = now + serviceTime;
+        }
+
+        private int newRequest() {
+            int request = freeRequests.pollFirst();
+            if (request != -1) {
+                return request;
+            }
+            request = nextRequest++;
+            if (request == requestJob.length) {
+                requestJob = Arrays.copyOf(requestJob, request * 2);
+                requestIssued = Arrays.copyOf(requestIssued, request * 2);
+                requestCylinder = Arrays.copyOf(requestCylinder, request * 2);
+            }
+            return request;
+        }
+    }
+}
@@ -1,42 +1,23 @@
 package cpu.Schedulers;
 
-import java.util.Arrays;
-
-public class LJF implements Strategy {
+/**
+ * The LJF (Longest Job First) class implements a non-preemptive scheduling strategy.
+ * Whenever the CPU becomes free, the waiting process with the longest burst time runs
+ * next, ties going to the process that comes first in the array.
+ *
+ * Arrivals are admitted through an arrival-sorted cursor into a ready heap (see
+ * NonPreemptiveDispatcher), so a process is only chosen once it has arrived, a run costs
+ * O(n log n), and the order of the caller's array is left untouched.
+ */
+public class LJF implements TableStrategy {
 
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        // Sort processes in descending order of burst time (Longest Job First)
-        Arrays.sort(processes, (p1, p2) -> Integer.compare(p2.getBurstTime(), p1.getBurstTime()));
-
-        int currentTime = 0;
-
-        for (int i = 0; i < processes.length; i++) {
-            Process process = processes[i];
-
-            // If the process arrives after the current time, set current time to arrival time
-            if (process.getArrivalTime() > currentTime) {
-                currentTime = process.getArrivalTime();
-            }
-
-            // Add context switching delay if this is not the first process
-            if (i > 0) {
-                currentTime += contextSwitchingDelay;
-            }
-
-            // Execute the process
-            currentTime += process.getBurstTime();
-            process.setCompletionTime(currentTime);
-            process.setCompleted(true);
-        }
-
-        // Calculate Turnaround Time (TAT) and Waiting Time (WT)
-        for (Process process : processes) {
-            int tat = process.getCompletionTime() - process.getArrivalTime();
-            process.setTurnAroundTime(tat);
+    public void execute(ProcessTable table, int contextSwitchingDelay) {
+        execute(table, contextSwitchingDelay, null);
+    }
 
-            int wt = process.getTurnAroundTime() - process.getBurstTime();
-            process.setWaitingTime(wt);
-        }
+    @Override
+    public void execute(ProcessTable table, int contextSwitchingDelay, ScheduleListener scheduleListener) {
+        NonPreemptiveDispatcher.run(this, table, contextSwitchingDelay, scheduleListener, slot -> -(long) table.getBurstTime(slot));
     }
 }
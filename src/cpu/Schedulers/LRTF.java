@@ -1,69 +1,68 @@
 package cpu.Schedulers;
 
+import java.io.IOException;
 
 /**
  * The LRTF class implements the Least Recently Used Time First scheduling strategy.
  * It selects the process that has not been executed for the longest time.
+ *
+ * Processes run one time unit at a time while others are waiting. The strategy runs on the
+ * event-driven SimulationEngine, so idle gaps and stretches where a single process is ready
+ * are skipped in one step instead of being simulated unit by unit.
  */
-public class LRTF implements Strategy {
+public class LRTF implements EventDrivenStrategy {
     
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        int n = processes.length;
-        int currentTime = 0;
-        int completedProcesses = 0;
-        boolean[] isCompleted = new boolean[n];
-        int[] lastExecutedTime = new int[n]; // Array to track the last execution time of each process
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(context);
+    }
+
+    /**
+     * Keeps ready processes ordered by the time they last ran, ties broken by slot.
+     * Processes that have never run count as last run at time 0.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final SchedulingContext context;
+        private final IndexedMinHeap ready; // Keyed on the last execution time of each process
 
-        // Set initial remaining time for each process
-        for (Process process : processes) {
-            process.setRemainingTime(process.getBurstTime());
+        Policy(SchedulingContext context) {
+            this.context = context;
+            this.ready = new IndexedMinHeap(context.size());
         }
 
-        while (completedProcesses < n) {
-            // Find the process that has the least recently used time
-            int lrtfIndex = -1;
-            int maxWaitTime = -1;
+        @Override
+        public void onArrival(int slot) {
+            ready.add(slot, 0);
+        }
 
-            for (int i = 0; i < n; i++) {
-                // Check if the process is not completed and has arrived
-                if (!isCompleted[i] && processes[i].getArrivalTime() <= currentTime) {
-                    // Calculate the wait time
-                    int waitTime = currentTime - lastExecutedTime[i];
-                    // Select the process with the maximum wait time
-                    if (waitTime > maxWaitTime) {
-                        maxWaitTime = waitTime;
-                        lrtfIndex = i;
-                    }
-                }
-            }
+        @Override
+        public int pickNext() {
+            return ready.poll();
+        }
 
-            if (lrtfIndex != -1) {
-                Process currentProcess = processes[lrtfIndex];
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
 
-                // Execute the current process for 1 time unit
-                currentProcess.setRemainingTime(currentProcess.getRemainingTime() - 1);
-                lastExecutedTime[lrtfIndex] = currentTime; // Update last executed time
-                currentTime++;
+        @Override
+        public int timeSlice(int slot) {
+            return 1;
+        }
+
+        @Override
+        public void onQuantumExpired(int slot) {
+            ready.add(slot, context.getCurrentTime() - 1); // Start of the unit it just ran
+        }
 
-                // If the process is completed
-                if (currentProcess.getRemainingTime() == 0) {
-                    currentProcess.setCompletionTime(currentTime);
-                    currentProcess.setTurnAroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
-                    currentProcess.setWaitingTime(currentProcess.getTurnAroundTime() - currentProcess.getBurstTime());
-                    currentProcess.setCompleted(true);
-                    isCompleted[lrtfIndex] = true;
-                    completedProcesses++;
-                }
-            } else {
-                // If no process is ready, increment current time
-                currentTime++;
-            }
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+        }
 
-            // Add context switching delay if there are other processes in the queue
-            if (completedProcesses < n) {
-                currentTime += contextSwitchingDelay;
-            }
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,210 @@
+package cpu.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The LiveArrivals class feeds the SimulationEngine from processes submitted by other threads
+ * while the simulation is running.
+ *
+ * Producers append to an unbounded lock-free multi-producer, single-consumer linked queue:
+ * a submission is one allocation and one atomic exchange of the tail, and producers never
+ * wait for each other or for the engine. The engine thread drains every submission that is
+ * visible whenever it looks for the next arrival, i.e. at event boundaries, and parks when
+ * it has nothing to run until a producer wakes it up or the source is closed.
+ *
+ * A drained process never arrives before the simulated clock: processes submitted for "now"
+ * or for an instant that the clock has already passed arrive at the current time, in
+ * submission order. Slots released after completion are reused, as in StreamArrivals.
+ */
+final class LiveArrivals implements ArrivalSource {
+    static final int NOW = -1; // Arrival time of processes that arrive as soon as they are drained
+
+    private final ProcessTable table;
+    private final IntRingBuffer freeSlots = new IntRingBuffer(16);
+    private final AtomicReference<Submission> tail;
+    private Submission head;   // Last drained submission, only touched by the engine thread
+    private final ArrayDeque<Submission> due = new ArrayDeque<>();  // Arrive at the time they were drained
+    private final PriorityQueue<Submission> future = new PriorityQueue<>(LiveArrivals::compare);
+    private SchedulingContext clock;
+    private long drained;      // Number of submissions drained so far, orders ties
+    private volatile boolean closed;
+    private volatile Thread waiter; // Engine thread while it is parked waiting for submissions
+    private boolean started;
+
+    /**
+     * Constructs an empty, open source.
+     *
+     * @param table The table arriving processes are loaded into.
+     */
+    LiveArrivals(ProcessTable table) {
+        this.table = table;
+        this.head = new Submission(0, 0, 0, 0, Process.NO_DEADLINE, 0);
+        this.tail = new AtomicReference<>(head);
+    }
+
+    /**
+     * Sets the clock below which no process is allowed to arrive, i.e. the engine.
+     *
+     * @param clock The context whose current time is used.
+     */
+    void attach(SchedulingContext clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Appends a process to the queue. Safe to call from any number of threads.
+     *
+     * @throws IllegalStateException if the source is closed.
+     */
+    void submit(int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+        if (closed) {
+            throw new IllegalStateException("No processes can be submitted after the scheduler is closed.");
+        }
+        Submission submission = new Submission(pid, arrivalTime, burstTime, priority, deadline, period);
+        tail.getAndSet(submission).next = submission;
+        Thread parked = waiter;
+        if (parked != null) {
+            LockSupport.unpark(parked);
+        }
+    }
+
+    /**
+     * Stops accepting submissions. Processes submitted before still arrive.
+     */
+    void close() {
+        closed = true;
+        Thread parked = waiter;
+        if (parked != null) {
+            LockSupport.unpark(parked);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        drain();
+        return !due.isEmpty() || !future.isEmpty();
+    }
+
+    @Override
+    public int peekTime() {
+        return peek().time;
+    }
+
+    @Override
+    public int next() {
+        Submission submission = peek();
+        if (submission == due.peekFirst()) {
+            due.pollFirst();
+        } else {
+            future.poll();
+        }
+
+        int slot = freeSlots.pollFirst();
+        if (slot == -1) {
+            return table.add(submission.pid, submission.time, submission.burstTime, submission.priority,
+                    submission.deadline, submission.period);
+        }
+        table.load(slot, submission.pid, submission.time, submission.burstTime, submission.priority,
+                submission.deadline, submission.period);
+        return slot;
+    }
+
+    @Override
+    public boolean awaitNext() {
+        waiter = Thread.currentThread();
+        try {
+            while (!hasNext()) {
+                if (closed && head == tail.get()) {
+                    return false; // Closed and every submission has been drained
+                }
+                if (head.next == null && head != tail.get()) {
+                    Thread.onSpinWait(); // A producer swapped the tail but has not linked its node yet
+                } else if (!closed) {
+                    LockSupport.park(this);
+                }
+            }
+            return true;
+        } finally {
+            waiter = null;
+        }
+    }
+
+    @Override
+    public void rewind() {
+        if (started) {
+            throw new IllegalStateException("A live workload can only be run once.");
+        }
+        started = true;
+    }
+
+    /**
+     * Hands the slot of a completed process back for reuse by a later arrival.
+     *
+     * @param slot The slot to release.
+     */
+    void release(int slot) {
+        freeSlots.addLast(slot);
+    }
+
+    /**
+     * Moves every linked submission from the shared queue into the local arrival order.
+     */
+    private void drain() {
+        Submission next = head.next;
+        if (next == null) {
+            return;
+        }
+        int now = clock.getCurrentTime();
+        do {
+            head = next;
+            next.sequence = drained++;
+            if (next.time > now) {
+                future.add(next);
+            } else {
+                next.time = now;
+                due.addLast(next);
+            }
+            next = next.next;
+        } while (next != null); // The last drained node stays behind as the queue's head
+    }
+
+    private Submission peek() {
+        Submission first = due.peekFirst();
+        Submission scheduled = future.peek();
+        if (first == null || (scheduled != null && compare(scheduled, first) < 0)) {
+            return scheduled;
+        }
+        return first;
+    }
+
+    private static int compare(Submission a, Submission b) {
+        int byTime = Integer.compare(a.time, b.time);
+        return byTime != 0 ? byTime : Long.compare(a.sequence, b.sequence);
+    }
+
+    /**
+     * One submitted process and the link to the one submitted after it.
+     */
+    private static final class Submission {
+        private final int pid;
+        private int time;  // Requested arrival time, then the actual one once drained
+        private final int burstTime;
+        private final int priority;
+        private final int deadline;
+        private final int period;
+        private long sequence;
+        private volatile Submission next;
+
+        Submission(int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+            this.pid = pid;
+            this.time = arrivalTime;
+            this.burstTime = burstTime;
+            this.priority = priority;
+            this.deadline = deadline;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package cpu.Schedulers;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The LiveScheduler class runs a strategy on a simulation that keeps going while other
+ * threads submit processes to it, e.g. load generators feeding a running scheduler.
+ *
+ * The simulation runs on one thread, from run() or start(), and advances the simulated clock
+ * as fast as it can. Any number of producer threads call submit() concurrently; submissions
+ * go through a lock-free queue and are taken over by the simulation in batches whenever it
+ * looks for its next event, so producers never block and never touch the ProcessTable. A
+ * process submitted without an arrival time, or with one the clock has already passed,
+ * arrives at the simulated time at which it is taken over. When the CPU is idle and nothing
+ * has been submitted, the simulation thread parks until the next submission.
+ *
+ * The run ends once close() has been called and every process submitted before it has
+ * completed. Producers must have finished submitting when close() is called; a submit()
+ * after it throws. As in StreamingScheduler, completed processes are folded into a
+ * MetricsAccumulator and their slots reused, so memory stays proportional to the number
+ * of live processes.
+ */
+public final class LiveScheduler implements AutoCloseable {
+    private final EventDrivenStrategy strategy;
+    private final int contextSwitchingDelay;
+    private final ProcessTable live = new ProcessTable(64);
+    private final LiveArrivals arrivals = new LiveArrivals(live);
+    private ScheduleListener scheduleListener;
+
+    /**
+     * Constructs a live scheduler that accepts submissions right away.
+     *
+     * @param strategy              The strategy to run.
+     * @param contextSwitchingDelay The delay incurred during context switching between processes.
+     * @throws IllegalArgumentException if the strategy is null or the delay is negative.
+     */
+    public LiveScheduler(EventDrivenStrategy strategy, int contextSwitchingDelay) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy can't be null.");
+        }
+        if (contextSwitchingDelay < 0) {
+            throw new IllegalArgumentException("Context switching delay cannot be negative.");
+        }
+        this.strategy = strategy;
+        this.contextSwitchingDelay = contextSwitchingDelay;
+    }
+
+    /**
+     * Registers a listener, e.g. a TimelineRecorder, that is notified of every dispatch,
+     * preemption and completion. It is called on the simulation thread and must be set
+     * before the run starts.
+     *
+     * @param scheduleListener The listener, or null for none.
+     */
+    public void setScheduleListener(ScheduleListener scheduleListener) {
+        this.scheduleListener = scheduleListener;
+    }
+
+    /**
+     * Submits a process that arrives at the simulated time at which the simulation takes
+     * it over. Safe to call from any thread.
+     *
+     * @param pid       The process ID.
+     * @param burstTime The time required for the process to execute.
+     * @param priority  The priority of the process.
+     * @throws IllegalArgumentException if the burst time is not positive.
+     * @throws IllegalStateException    if the scheduler is closed.
+     */
+    public void submit(int pid, int burstTime, int priority) {
+        if (burstTime <= 0) {
+            throw new IllegalArgumentException("Burst time must be greater than 0.");
+        }
+        arrivals.submit(pid, LiveArrivals.NOW, burstTime, priority, Process.NO_DEADLINE, 0);
+    }
+
+    /**
+     * Submits a process with a requested arrival time. Safe to call from any thread.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The simulated time at which the process arrives, or as soon as
+     *                    possible if the clock has already passed it.
+     * @param burstTime   The time required for the process to execute.
+     * @param priority    The priority of the process.
+     * @throws IllegalArgumentException if the arrival time is negative or the burst time is not positive.
+     * @throws IllegalStateException    if the scheduler is closed.
+     */
+    public void submit(int pid, int arrivalTime, int burstTime, int priority) {
+        submit(pid, arrivalTime, burstTime, priority, Process.NO_DEADLINE, 0);
+    }
+
+    /**
+     * Submits a real-time process, e.g. one job of a periodic task, with a requested arrival
+     * time. Safe to call from any thread.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The simulated time at which the process arrives, or as soon as
+     *                    possible if the clock has already passed it.
+     * @param burstTime   The time required for the process to execute.
+     * @param priority    The priority of the process.
+     * @param deadline    The absolute time by which the process should complete, or Process.NO_DEADLINE.
+     * @param period      The period of the task releasing the process, or 0 if aperiodic.
+     * @throws IllegalArgumentException if the arrival time is negative or the burst time is not positive.
+     * @throws IllegalStateException    if the scheduler is closed.
+     */
+    public void submit(int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+        if (arrivalTime < 0) {
+            throw new IllegalArgumentException("Arrival time cannot be negative.");
+        }
+        if (burstTime <= 0) {
+            throw new IllegalArgumentException("Burst time must be greater than 0.");
+        }
+        arrivals.submit(pid, arrivalTime, burstTime, priority, deadline, period);
+    }
+
+    /**
+     * Submits a process with its own arrival time, burst time, priority, deadline and period.
+     * Safe to call from any thread.
+     *
+     * @param process The process to submit.
+     * @throws IllegalArgumentException if the arrival time is negative or the burst time is not positive.
+     * @throws IllegalStateException    if the scheduler is closed.
+     */
+    public void submit(Process process) {
+        submit(process.getPid(), process.getArrivalTime(), process.getBurstTime(), process.getPriority(),
+                process.getDeadline(), process.getPeriod());
+    }
+
+    /**
+     * Stops accepting submissions. The run ends once every process submitted before has
+     * completed.
+     */
+    @Override
+    public void close() {
+        arrivals.close();
+    }
+
+    /**
+     * Runs the simulation on the calling thread until the scheduler is closed and every
+     * submitted process has completed.
+     *
+     * @return The metrics of all completed processes.
+     * @throws IllegalStateException if the scheduler has already been run.
+     */
+    public MetricsAccumulator run() {
+        MetricsAccumulator metrics = new MetricsAccumulator();
+        SimulationEngine engine = new SimulationEngine(live, arrivals, contextSwitchingDelay);
+        arrivals.attach(engine);
+        engine.setScheduleListener(scheduleListener);
+        engine.setCompletionListener(slot -> {
+            metrics.record(live, slot);
+            arrivals.release(slot);
+        });
+        engine.run(strategy.newPolicy(engine));
+        return metrics;
+    }
+
+    /**
+     * Runs the simulation on a new thread.
+     *
+     * @return A future completed with the metrics of all processes once the run ends, or
+     *         completed exceptionally if the run fails, e.g. because it was already run.
+     */
+    public CompletableFuture<MetricsAccumulator> start() {
+        CompletableFuture<MetricsAccumulator> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(run());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, "live-scheduler");
+        thread.start();
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+package cpu.Schedulers;
+
+/**
+ * The LoadBalancer interface decides how processes are spread over the cores of a
+ * MultiCoreEngine. It places every arriving process on a core, and can move ready processes
+ * between run queues when a core runs out of work or at a fixed interval.
+ *
+ * By default arrivals go to the least loaded core and nothing is ever migrated.
+ */
+public interface LoadBalancer {
+
+    /**
+     * Chooses the core an arriving process is queued on.
+     *
+     * @param slot  The slot of the arriving process.
+     * @param loads The current state of the cores.
+     * @return The index of the core.
+     */
+    default int placeArrival(int slot, CoreLoads loads) {
+        return leastLoaded(loads);
+    }
+
+    /**
+     * Called when a core has nothing to run while other cores have processes waiting.
+     *
+     * @param core  The index of the idle core.
+     * @param loads The current state of the cores, used to migrate processes.
+     */
+    default void onIdle(int core, CoreLoads loads) {
+    }
+
+    /**
+     * Returns how often balance() is called.
+     *
+     * @return The interval in simulated time units, or 0 to never call balance().
+     */
+    default int balanceInterval() {
+        return 0;
+    }
+
+    /**
+     * Called every balanceInterval() time units to even out the run queues.
+     *
+     * @param loads The current state of the cores, used to migrate processes.
+     */
+    default void balance(CoreLoads loads) {
+    }
+
+    /**
+     * Returns the load of a core: its queue length, plus one if a process is running on it.
+     *
+     * @param loads The current state of the cores.
+     * @param core  The index of the core.
+     * @return The load of the core.
+     */
+    static int load(CoreLoads loads, int core) {
+        return loads.getQueueLength(core) + (loads.isIdle(core) ? 0 : 1);
+    }
+
+    /**
+     * Finds the core with the lowest load, preferring the lowest index on ties.
+     *
+     * @param loads The current state of the cores.
+     * @return The index of the least loaded core.
+     */
+    static int leastLoaded(CoreLoads loads) {
+        int best = 0;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int core = 0; core < loads.getCoreCount() && bestLoad > 0; core++) {
+            int load = load(loads, core);
+            if (load < bestLoad) {
+                best = core;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the core with the longest run queue, preferring the lowest index on ties.
+     *
+     * @param loads The current state of the cores.
+     * @return The index of the core with the longest run queue.
+     */
+    static int longestQueue(CoreLoads loads) {
+        int best = 0;
+        int bestLength = -1;
+        for (int core = 0; core < loads.getCoreCount(); core++) {
+            int length = loads.getQueueLength(core);
+            if (length > bestLength) {
+                best = core;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,176 @@
+package cpu.Schedulers;
+
+import java.util.Arrays;
+
+/**
+ * The LogLinearHistogram class counts non-negative values in a fixed number of buckets, so
+ * percentiles can be reported for any number of processes without storing them.
+ *
+ * Values below 2^precisionBits get a bucket each. Above that, every power-of-two range is
+ * split into 2^(precisionBits - 1) equal buckets, so a percentile is off by at most
+ * 2^-(precisionBits - 1) of its value (about 1.6% with the default of 7 bits). The bucket
+ * array is allocated once and never grows, and histograms with the same precision can be
+ * merged, e.g. to combine the results of parallel runs or of the cores of an SMP run.
+ */
+public final class LogLinearHistogram {
+    public static final int DEFAULT_PRECISION_BITS = 7;
+
+    private final int precisionBits;
+    private final int linearBuckets; // Values below this have a bucket each
+    private final int halfBuckets;   // Buckets per power of two above the linear range
+    private final long[] counts;
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    /**
+     * Constructs an empty histogram with the default precision.
+     */
+    public LogLinearHistogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Constructs an empty histogram.
+     *
+     * @param precisionBits The number of bits of each value that are kept, between 2 and 16.
+     * @throws IllegalArgumentException if the precision is out of range.
+     */
+    public LogLinearHistogram(int precisionBits) {
+        if (precisionBits < 2 || precisionBits > 16) {
+            throw new IllegalArgumentException("Precision must be between 2 and 16 bits.");
+        }
+        this.precisionBits = precisionBits;
+        this.linearBuckets = 1 << precisionBits;
+        this.halfBuckets = linearBuckets >> 1;
+        this.counts = new long[linearBuckets + (64 - precisionBits) * halfBuckets];
+    }
+
+    /**
+     * Adds a value to the histogram.
+     *
+     * @param value The value to add.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values cannot be negative.");
+        }
+        counts[index(value)]++;
+        totalCount++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+    }
+
+    /**
+     * Adds all values of another histogram to this one.
+     *
+     * @param other The histogram to merge, which must have the same precision.
+     * @throws IllegalArgumentException if the precisions differ.
+     */
+    public void merge(LogLinearHistogram other) {
+        if (other.precisionBits != precisionBits) {
+            throw new IllegalArgumentException("Only histograms with the same precision can be merged.");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sum += other.sum;
+    }
+
+    /**
+     * Removes every value from the histogram.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        sum = 0;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return The number of values.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the smallest value recorded.
+     *
+     * @return The minimum, or 0 if the histogram is empty.
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return The maximum, or 0 if the histogram is empty.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the exact mean of the values recorded.
+     *
+     * @return The mean, or 0 if the histogram is empty.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of the recorded values fall,
+     * rounded up to the top of its bucket and never above the maximum.
+     *
+     * @param percentile The percentile, between 0 and 100, e.g. 99.9 for p999.
+     * @return The value at the percentile, or 0 if the histogram is empty.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, highestValue(i)));
+            }
+        }
+        return max;
+    }
+
+    private int index(long value) {
+        if (value < linearBuckets) {
+            return (int) value;
+        }
+        // Shift the value so its top bit lands at precisionBits - 1, then take the kept bits
+        int shift = 64 - Long.numberOfLeadingZeros(value) - precisionBits;
+        return linearBuckets + (shift - 1) * halfBuckets + (int) (value >>> shift) - halfBuckets;
+    }
+
+    private long highestValue(int index) {
+        if (index < linearBuckets) {
+            return index;
+        }
+        int shift = (index - linearBuckets) / halfBuckets + 1;
+        long bucket = (index - linearBuckets) % halfBuckets + halfBuckets;
+        return ((bucket + 1) << shift) - 1;
+    }
+}
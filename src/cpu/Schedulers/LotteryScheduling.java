@@ -0,0 +1,134 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+
+/**
+ * The LotteryScheduling class implements proportional-share scheduling by lottery. Every
+ * process holds as many tickets as its priority (at least one), and whenever the CPU is free
+ * a ticket is drawn at random from the ready processes; its holder runs for one time quantum.
+ * Over time each process gets a share of the CPU proportional to its tickets, and unlike
+ * strict priority scheduling a process with few tickets never starves.
+ *
+ * The strategy runs on the event-driven SimulationEngine. The tickets of the ready processes
+ * are kept in a Fenwick tree indexed by slot, so a draw finds the winner in O(log n) instead of
+ * walking the ticket list. Draws come from a seeded generator, so a run is reproducible.
+ */
+public class LotteryScheduling implements EventDrivenStrategy {
+    /** Time quantum used when none is given, e.g. by scheduler.setStrategy("lottery"). */
+    public static final int DEFAULT_TIME_QUANTUM = 10;
+
+    private final int timeQuantum;
+    private final long seed;
+
+    /**
+     * Constructs a lottery scheduler with the default time quantum and seed.
+     */
+    public LotteryScheduling() {
+        this(DEFAULT_TIME_QUANTUM);
+    }
+
+    /**
+     * Constructs a lottery scheduler with the default seed.
+     *
+     * @param timeQuantum The time a winner runs before the next draw.
+     * @throws IllegalArgumentException if the time quantum is not positive.
+     */
+    public LotteryScheduling(int timeQuantum) {
+        this(timeQuantum, 42);
+    }
+
+    /**
+     * Constructs a lottery scheduler.
+     *
+     * @param timeQuantum The time a winner runs before the next draw.
+     * @param seed        The seed of the ticket draws; equal seeds give equal schedules.
+     * @throws IllegalArgumentException if the time quantum is not positive.
+     */
+    public LotteryScheduling(int timeQuantum, long seed) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be greater than 0.");
+        }
+        this.timeQuantum = timeQuantum;
+        this.seed = seed;
+    }
+
+    @Override
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(timeQuantum, seed, context);
+    }
+
+    /**
+     * Returns the number of tickets a process holds.
+     */
+    static int tickets(int priority) {
+        return Math.max(priority, 1);
+    }
+
+    /**
+     * Keeps the tickets of every ready slot in a Fenwick tree and draws the next process
+     * with a SplitMix64 generator, whose whole state is one long.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final int timeQuantum;
+        private final SchedulingContext context;
+        private final FenwickTree tickets;
+        private long random; // Generator state
+        private int ready;
+
+        Policy(int timeQuantum, long seed, SchedulingContext context) {
+            this.timeQuantum = timeQuantum;
+            this.context = context;
+            this.tickets = new FenwickTree(context.size());
+            this.random = seed;
+        }
+
+        @Override
+        public void onArrival(int slot) {
+            tickets.set(slot, tickets(context.getPriority(slot)));
+            ready++;
+        }
+
+        @Override
+        public int pickNext() {
+            if (ready == 0) {
+                return -1;
+            }
+            long winner = Long.remainderUnsigned(nextRandom(), tickets.total());
+            int slot = tickets.find(winner);
+            tickets.set(slot, 0);
+            ready--;
+            return slot;
+        }
+
+        @Override
+        public boolean hasReady() {
+            return ready > 0;
+        }
+
+        @Override
+        public int timeSlice(int slot) {
+            return timeQuantum;
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            tickets.writeTo(out);
+            out.writeLong(random);
+            out.writeInt(ready);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            tickets.readFrom(in);
+            random = in.readLong();
+            ready = in.readInt();
+        }
+
+        private long nextRandom() {
+            long z = (random += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package cpu.Schedulers;
+
+/**
+ * The MetricsAccumulator class folds completed processes into running totals, so scheduling
+ * metrics can be reported without keeping the processes around. All sums are long, so they
+ * do not overflow on large workloads.
+ *
+ * Waiting, response and turnaround times are also counted in fixed-size histograms, so tail
+ * percentiles can be reported in constant memory however many processes are recorded.
+ * Processes with a deadline are counted too, with the number of deadline misses and the
+ * longest lateness among them. Accumulators filled by parallel runs or by the cores of an
+ * SMP run can be merged.
+ */
+public final class MetricsAccumulator {
+    private long processCount;
+    private long totalBurstTime;
+    private long totalWaitingTime;
+    private long totalTurnaroundTime;
+    private long totalResponseTime;
+    private long maxWaitingTime;
+    private long lastCompletionTime;
+    private long deadlineCount;      // Processes that have a deadline
+    private long deadlineMissCount;  // Processes that completed after their deadline
+    private long maxLateness;        // Longest time a process completed after its deadline
+    private final LogLinearHistogram waitingTimes = new LogLinearHistogram();
+    private final LogLinearHistogram responseTimes = new LogLinearHistogram();
+    private final LogLinearHistogram turnaroundTimes = new LogLinearHistogram();
+
+    /**
+     * Adds a completed process to the totals.
+     *
+     * @param table The table holding the process.
+     * @param slot  The slot of the completed process.
+     */
+    public void record(ProcessTable table, int slot) {
+        int waitingTime = table.getWaitingTime(slot);
+        int turnaroundTime = table.getTurnAroundTime(slot);
+        int responseTime = table.getResponseTime(slot);
+        processCount++;
+        totalBurstTime += table.getBurstTime(slot);
+        totalWaitingTime += waitingTime;
+        totalTurnaroundTime += turnaroundTime;
+        totalResponseTime += responseTime;
+        maxWaitingTime = Math.max(maxWaitingTime, waitingTime);
+        lastCompletionTime = Math.max(lastCompletionTime, table.getCompletionTime(slot));
+        int deadline = table.getDeadline(slot);
+        if (deadline != Process.NO_DEADLINE) {
+            deadlineCount++;
+            int lateness = table.getCompletionTime(slot) - deadline;
+            if (lateness > 0) {
+                deadlineMissCount++;
+                maxLateness = Math.max(maxLateness, lateness);
+            }
+        }
+        waitingTimes.record(waitingTime);
+        responseTimes.record(responseTime);
+        turnaroundTimes.record(turnaroundTime);
+    }
+
+    /**
+     * Adds the totals and histograms of another accumulator to this one.
+     *
+     * @param other The accumulator to merge.
+     */
+    public void merge(MetricsAccumulator other) {
+        processCount += other.processCount;
+        totalBurstTime += other.totalBurstTime;
+        totalWaitingTime += other.totalWaitingTime;
+        totalTurnaroundTime += other.totalTurnaroundTime;
+        totalResponseTime += other.totalResponseTime;
+        maxWaitingTime = Math.max(maxWaitingTime, other.maxWaitingTime);
+        lastCompletionTime = Math.max(lastCompletionTime, other.lastCompletionTime);
+        deadlineCount += other.deadlineCount;
+        deadlineMissCount += other.deadlineMissCount;
+        maxLateness = Math.max(maxLateness, other.maxLateness);
+        waitingTimes.merge(other.waitingTimes);
+        responseTimes.merge(other.responseTimes);
+        turnaroundTimes.merge(other.turnaroundTimes);
+    }
+
+    /**
+     * Forgets every recorded process, keeping the histogram memory for reuse.
+     */
+    public void clear() {
+        processCount = 0;
+        totalBurstTime = 0;
+        totalWaitingTime = 0;
+        totalTurnaroundTime = 0;
+        totalResponseTime = 0;
+        maxWaitingTime = 0;
+        lastCompletionTime = 0;
+        deadlineCount = 0;
+        deadlineMissCount = 0;
+        maxLateness = 0;
+        waitingTimes.clear();
+        responseTimes.clear();
+        turnaroundTimes.clear();
+    }
+
+    /**
+     * Returns the number of processes recorded so far.
+     *
+     * @return The number of completed processes.
+     */
+    public long getProcessCount() {
+        return processCount;
+    }
+
+    /**
+     * Returns the sum of the waiting times of the processes recorded so far.
+     *
+     * @return The total waiting time.
+     */
+    public long getTotalWaitingTime() {
+        return totalWaitingTime;
+    }
+
+    /**
+     * Returns the longest time any recorded process waited in the ready queue.
+     *
+     * @return The maximum waiting time.
+     */
+    public long getMaxWaitingTime() {
+        return maxWaitingTime;
+    }
+
+    /**
+     * Returns the number of recorded processes that completed after their deadline.
+     *
+     * @return The number of deadline misses.
+     */
+    public long getDeadlineMissCount() {
+        return deadlineMissCount;
+    }
+
+    /**
+     * Returns the longest time any recorded process completed after its deadline.
+     *
+     * @return The maximum lateness, 0 if no deadline was missed.
+     */
+    public long getMaxLateness() {
+        return maxLateness;
+    }
+
+    /**
+     * Calculates the share of the recorded processes with a deadline that missed it.
+     *
+     * @return The deadline miss ratio, 0 if no recorded process has a deadline.
+     */
+    public double deadlineMissRatio() {
+        return deadlineCount > 0 ? (double) deadlineMissCount / deadlineCount : 0;
+    }
+
+    /**
+     * Returns the distribution of the waiting times of the processes recorded so far.
+     *
+     * @return The waiting time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getWaitingTimeHistogram() {
+        return waitingTimes;
+    }
+
+    /**
+     * Returns the distribution of the response times of the processes recorded so far.
+     *
+     * @return The response time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getResponseTimeHistogram() {
+        return responseTimes;
+    }
+
+    /**
+     * Returns the distribution of the turnaround times of the processes recorded so far.
+     *
+     * @return The turnaround time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getTurnaroundTimeHistogram() {
+        return turnaroundTimes;
+    }
+
+    /**
+     * Returns the time at which the last recorded process completed.
+     *
+     * @return The latest completion time.
+     */
+    public long getLastCompletionTime() {
+        return lastCompletionTime;
+    }
+
+    /**
+     * Calculates the CPU utilization based on the total burst time and the time of the
+     * last completion.
+     *
+     * @return The CPU utilization as a percentage.
+     */
+    public double cpuUtilization() {
+        return (lastCompletionTime > 0) ? (double) totalBurstTime / lastCompletionTime * 100 : 0;
+    }
+
+    /**
+     * Calculates the throughput of the scheduling.
+     *
+     * @return The number of processes completed per unit of time.
+     */
+    public double throughput() {
+        return (lastCompletionTime > 0) ? (double) processCount / lastCompletionTime : 0;
+    }
+
+    /**
+     * Calculates the average waiting time of the recorded processes.
+     *
+     * @return The average waiting time as a double value.
+     */
+    public double averageWaitingTime() {
+        return (processCount > 0) ? (double) totalWaitingTime / processCount : 0;
+    }
+
+    /**
+     * Calculates the average turnaround time of the recorded processes.
+     *
+     * @return The average turnaround time as a double value.
+     */
+    public double averageTurnaroundTime() {
+        return (processCount > 0) ? (double) totalTurnaroundTime / processCount : 0;
+    }
+
+    /**
+     * Calculates the average response time of the recorded processes, i.e. the time from
+     * arrival until a process first ran.
+     *
+     * @return The average response time as a double value.
+     */
+    public double averageResponseTime() {
+        return (processCount > 0) ? (double) totalResponseTime / processCount : 0;
+    }
+}
@@ -0,0 +1,566 @@
+package cpu.Schedulers;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * The MultiCoreEngine class simulates a symmetric multiprocessor: several cores share one
+ * clock and one event queue, but every core has its own run queue, held by its own policy
+ * instance of the chosen EventDrivenStrategy. A LoadBalancer places arriving processes on
+ * cores and may migrate ready processes between run queues.
+ *
+ * Each core is the SchedulingContext of its policy and numbers the processes it holds with
+ * its own slots, recycled as processes complete or migrate away. The ready queues therefore
+ * only grow with the number of processes a core holds at once, which keeps per-core memory
+ * small with many cores. Policies break ties by slot, so processes that tie may run in a
+ * different order than on the single-core SimulationEngine.
+ *
+ * The context switching delay is charged whenever a core switches to a different process
+ * than the one it ran last. Unlike the SimulationEngine, an expiring quantum is never
+ * extended when the core has nothing else to run, since a migration may give it work at
+ * any moment.
+ *
+ * Like the SimulationEngine, the engine counts dispatches, preemptions, context switches and
+ * the idle time of every core for SchedulerStats and Flight Recorder (see RunCounters).
+ */
+public final class MultiCoreEngine {
+    private static final int COMPLETED = -2; // Marks lastRun when the last process on a core finished
+
+    private final ProcessTable table;
+    private final int contextSwitchingDelay;
+    private final LoadBalancer loadBalancer;
+    private final Core[] cores;
+    private final ArrivalCursor arrivals;
+    private final EventQueue events;
+    private final int[] coreOf;         // Core each process is assigned to, -1 when none
+    private final int[] localSlot;      // Slot of each process in the numbering of its core
+    private final BitSet idle;          // Cores with no running process
+    private final IntRingBuffer pending; // Cores whose run queue changed at the current instant
+    private final boolean[] isPending;
+    private final Loads loads = new Loads();
+    private IntConsumer completionListener;
+    private ScheduleListener scheduleListener;
+
+    private int currentTime;
+    private long totalQueued;     // Processes waiting in any run queue
+    private long migrations;
+    private int lastCompletionTime;
+    private final RunCounters counters = new RunCounters();
+
+    /**
+     * Constructs an engine for the processes of the given table.
+     *
+     * @param table                 The processes to simulate.
+     * @param coreCount             The number of cores.
+     * @param contextSwitchingDelay The delay incurred when a core switches to another process.
+     * @param loadBalancer          The policy spreading processes over the cores.
+     * @throws IllegalArgumentException if there are no cores, the delay is negative or the balancer is null.
+     */
+    public MultiCoreEngine(ProcessTable table, int coreCount, int contextSwitchingDelay, LoadBalancer loadBalancer) {
+        if (coreCount <= 0) {
+            throw new IllegalArgumentException("Number of cores must be greater than 0.");
+        }
+        if (contextSwitchingDelay < 0) {
+            throw new IllegalArgumentException("Context switching delay cannot be negative.");
+        }
+        if (loadBalancer == null) {
+            throw new IllegalArgumentException("Load balancer can't be null.");
+        }
+        this.table = table;
+        this.contextSwitchingDelay = contextSwitchingDelay;
+        this.loadBalancer = loadBalancer;
+        this.cores = new Core[coreCount];
+        for (int core = 0; core < coreCount; core++) {
+            cores[core] = new Core(core);
+        }
+        this.arrivals = new ArrivalCursor(table.arrivalTimes(), table.size());
+        this.events = new EventQueue(2 * coreCount);
+        this.coreOf = new int[table.size()];
+        this.localSlot = new int[table.size()];
+        this.idle = new BitSet(coreCount);
+        this.pending = new IntRingBuffer(coreCount);
+        this.isPending = new boolean[coreCount];
+    }
+
+    /**
+     * Registers a listener that is called with the slot of every process as it completes,
+     * after its timing metrics have been written into the table.
+     *
+     * @param completionListener The listener, or null for none.
+     */
+    public void setCompletionListener(IntConsumer completionListener) {
+        this.completionListener = completionListener;
+    }
+
+    /**
+     * Registers a listener that is notified every time a process is dispatched on a core,
+     * loses it or completes, e.g. a TimelineRecorder.
+     *
+     * @param scheduleListener The listener, or null for none.
+     */
+    public void setScheduleListener(ScheduleListener scheduleListener) {
+        this.scheduleListener = scheduleListener;
+    }
+
+    /**
+     * Runs the simulation until every process has arrived and completed, writing completion,
+     * turnaround and waiting times into the table.
+     *
+     * @param strategy The strategy every core creates its own policy from.
+     */
+    public void run(EventDrivenStrategy strategy) {
+        arrivals.rewind();
+        events.clear();
+        table.reset();
+        Arrays.fill(coreOf, -1);
+        currentTime = 0;
+        totalQueued = 0;
+        migrations = 0;
+        lastCompletionTime = 0;
+        for (Core core : cores) {
+            core.reset(strategy);
+        }
+        idle.set(0, cores.length);
+        counters.begin();
+
+        int interval = loadBalancer.balanceInterval();
+        long nextBalance = interval > 0 ? interval : Long.MAX_VALUE;
+
+        while (true) {
+            discardStaleEvents();
+            if (arrivals.hasNext() && (events.isEmpty() || arrivals.peekTime() <= events.peekTime())) {
+                currentTime = arrivals.peekTime();
+            } else if (!events.isEmpty()) {
+                currentTime = events.peekTime();
+            } else {
+                break; // Nothing is running and nothing else will arrive
+            }
+
+            while (arrivals.hasNext() && arrivals.peekTime() == currentTime) {
+                int slot = arrivals.next();
+                int core = loadBalancer.placeArrival(slot, loads);
+                if (core < 0 || core >= cores.length) {
+                    throw new IllegalStateException("Load balancer placed a process on invalid core " + core + ".");
+                }
+                admit(cores[core], slot);
+            }
+            while (!events.isEmpty() && events.peekTime() == currentTime) {
+                int kind = events.peekKind();
+                int slot = events.peekSlot();
+                boolean valid = isValid(slot, events.peekStamp());
+                events.pop();
+
+                if (!valid) {
+                    continue; // Belongs to a dispatch that already ended
+                }
+                Core core = cores[coreOf[slot]];
+                stop(core);
+                if (kind == EventQueue.COMPLETION) {
+                    complete(core, slot);
+                    continue;
+                }
+                counters.preempted();
+                if (scheduleListener != null) {
+                    scheduleListener.onPreempt(core.index, table.getPid(slot), currentTime);
+                }
+                if (kind == EventQueue.QUANTUM_EXPIRY) {
+                    core.policy.onQuantumExpired(localSlot[slot]);
+                    enqueued(core);
+                } else {
+                    core.policy.onPreempted(localSlot[slot]);
+                    enqueued(core);
+                }
+            }
+
+            if (currentTime >= nextBalance) {
+                loadBalancer.balance(loads);
+                nextBalance = (long) currentTime + interval;
+            }
+            dispatchPending();
+
+            // Give idle cores the chance to pull work from the others
+            for (int core = idle.nextSetBit(0); core >= 0 && totalQueued > 0; core = idle.nextSetBit(core + 1)) {
+                loadBalancer.onIdle(core, loads);
+                dispatchPending();
+            }
+        }
+        counters.end(strategy, table.size(), cores.length, (int) totalQueued, currentTime);
+    }
+
+    /**
+     * Returns the current simulated time.
+     *
+     * @return The current time of the simulation clock.
+     */
+    public int getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Returns the number of simulated cores.
+     *
+     * @return The number of cores.
+     */
+    public int getCoreCount() {
+        return cores.length;
+    }
+
+    /**
+     * Returns the time a core spent executing processes in the last run, not counting
+     * context switches.
+     *
+     * @param core The index of the core.
+     * @return The busy time of the core.
+     */
+    public long getBusyTime(int core) {
+        return cores[core].busyTime;
+    }
+
+    /**
+     * Calculates the utilization of a core over the last run.
+     *
+     * @param core The index of the core.
+     * @return The share of time, up to the last completion, the core was busy, as a percentage.
+     */
+    public double getUtilization(int core) {
+        return (lastCompletionTime > 0) ? (double) cores[core].busyTime / lastCompletionTime * 100 : 0;
+    }
+
+    /**
+     * Returns the number of times a process was dispatched on a core in the last run.
+     *
+     * @param core The index of the core.
+     * @return The number of dispatches.
+     */
+    public long getDispatchCount(int core) {
+        return cores[core].dispatches;
+    }
+
+    /**
+     * Returns the number of processes migrated to a core in the last run.
+     *
+     * @param core The index of the core.
+     * @return The number of migrations into the core.
+     */
+    public long getMigrationCount(int core) {
+        return cores[core].migrationsIn;
+    }
+
+    /**
+     * Returns the metrics of the processes that completed on a core in the last run,
+     * including their latency histograms.
+     *
+     * @param core The index of the core.
+     * @return The metrics of the core, which must not be modified.
+     */
+    public MetricsAccumulator getMetrics(int core) {
+        return cores[core].metrics;
+    }
+
+    /**
+     * Merges the metrics of every core of the last run.
+     *
+     * @return The metrics of all completed processes.
+     */
+    public MetricsAccumulator getMetrics() {
+        MetricsAccumulator merged = new MetricsAccumulator();
+        for (Core core : cores) {
+            merged.merge(core.metrics);
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the number of migrations between cores in the last run.
+     *
+     * @return The total number of migrations.
+     */
+    public long getMigrationCount() {
+        return migrations;
+    }
+
+    /**
+     * Queues a process that is new to a core.
+     */
+    private void admit(Core core, int slot) {
+        coreOf[slot] = core.index;
+        int local = core.assign(slot);
+        localSlot[slot] = local;
+        core.policy.onArrival(local);
+        enqueued(core);
+        if (core.running != -1 && core.policy.shouldPreempt(localSlot[core.running], local)) {
+            events.push(currentTime, EventQueue.PREEMPTION, core.running, core.stamp);
+        }
+    }
+
+    /**
+     * Counts a process that was just handed to the policy of a core.
+     */
+    private void enqueued(Core core) {
+        core.queued++;
+        totalQueued++;
+        if (core.running == -1 && !isPending[core.index]) {
+            isPending[core.index] = true;
+            pending.addLast(core.index);
+        }
+    }
+
+    /**
+     * Dispatches on every idle core whose run queue changed.
+     */
+    private void dispatchPending() {
+        while (!pending.isEmpty()) {
+            int core = pending.pollFirst();
+            isPending[core] = false;
+            if (cores[core].running == -1) {
+                dispatch(cores[core]);
+            }
+        }
+    }
+
+    /**
+     * Hands a core to the next process chosen by its policy and schedules the event that
+     * will take it away again.
+     */
+    private void dispatch(Core core) {
+        int local = core.policy.pickNext();
+        if (local == -1) {
+            return; // Idle until something is queued on this core
+        }
+        core.queued--;
+        totalQueued--;
+        int slot = core.globalSlots[local];
+        counters.idle(currentTime - core.idleSince);
+        counters.dispatched((int) totalQueued, currentTime);
+
+        int start = currentTime;
+        if (core.lastRun != -1 && core.lastRun != slot) {
+            start += contextSwitchingDelay;
+            table.countContextSwitch();
+            counters.contextSwitched();
+        }
+        table.start(slot, start);
+
+        core.running = slot;
+        core.runStart = start;
+        core.stamp++;
+        core.dispatches++;
+        idle.clear(core.index);
+        if (scheduleListener != null) {
+            scheduleListener.onDispatch(core.index, table.getPid(slot), start);
+        }
+
+        int remaining = table.getRemainingTime(slot);
+        int slice = core.policy.timeSlice(local);
+        if (slice < remaining) {
+            events.push(start + slice, EventQueue.QUANTUM_EXPIRY, slot, core.stamp);
+        } else {
+            events.push(start + remaining, EventQueue.COMPLETION, slot, core.stamp);
+        }
+    }
+
+    /**
+     * Takes the core away from its running process and records the progress made.
+     */
+    private void stop(Core core) {
+        int slot = core.running;
+        int ran = currentTime - core.runStart;
+        if (ran > 0) {
+            table.setRemainingTime(slot, table.getRemainingTime(slot) - ran);
+            core.busyTime += ran;
+        }
+        core.running = -1;
+        core.lastRun = slot;
+        core.stamp++;
+        core.idleSince = currentTime;
+        idle.set(core.index);
+        if (!isPending[core.index]) {
+            isPending[core.index] = true;
+            pending.addLast(core.index);
+        }
+    }
+
+    /**
+     * Marks a process as completed, records its timing metrics and frees its slot on the core.
+     */
+    private void complete(Core core, int slot) {
+        table.complete(slot, currentTime);
+        core.metrics.record(table, slot);
+        lastCompletionTime = currentTime;
+        core.lastRun = COMPLETED;
+        core.release(localSlot[slot]);
+        coreOf[slot] = -1;
+        if (scheduleListener != null) {
+            scheduleListener.onComplete(core.index, table.getPid(slot), currentTime);
+        }
+        if (completionListener != null) {
+            completionListener.accept(slot);
+        }
+    }
+
+    private boolean isValid(int slot, int stamp) {
+        int core = coreOf[slot];
+        return core != -1 && cores[core].running == slot && cores[core].stamp == stamp;
+    }
+
+    /**
+     * Drops events that belong to an earlier dispatch.
+     */
+    private void discardStaleEvents() {
+        while (!events.isEmpty() && !isValid(events.peekSlot(), events.peekStamp())) {
+            events.pop();
+        }
+    }
+
+    /**
+     * One simulated core: its policy, its running process and its own slot numbering.
+     */
+    private final class Core implements SchedulingContext {
+        private final int index;
+        private SchedulingPolicy policy;
+        private int[] globalSlots = new int[16]; // Table slot of each local slot
+        private IntRingBuffer freeSlots = new IntRingBuffer(16);
+        private int nextSlot;                    // Local slots below this have been handed out
+
+        private int running;   // Table slot holding the core, -1 when idle
+        private int lastRun;   // Table slot that last held the core, used to charge context switches
+        private int runStart;  // Time at which the running process started executing
+        private int stamp;     // Identifies the current dispatch, older events are stale
+        private int queued;    // Processes waiting in the run queue
+        private int idleSince; // Time at which the core last became idle
+        private long busyTime;
+        private long dispatches;
+        private long migrationsIn;
+        private final MetricsAccumulator metrics = new MetricsAccumulator(); // Processes completed here
+
+        Core(int index) {
+            this.index = index;
+        }
+
+        void reset(EventDrivenStrategy strategy) {
+            freeSlots.clear();
+            nextSlot = 0;
+            running = -1;
+            lastRun = -1;
+            stamp = 0;
+            queued = 0;
+            idleSince = 0;
+            busyTime = 0;
+            dispatches = 0;
+            migrationsIn = 0;
+            metrics.clear();
+            policy = strategy.newPolicy(this);
+        }
+
+        /**
+         * Gives a table slot a local slot on this core.
+         */
+        int assign(int slot) {
+            int local = freeSlots.pollFirst();
+            if (local == -1) {
+                local = nextSlot++;
+                if (local == globalSlots.length) {
+                    globalSlots = Arrays.copyOf(globalSlots, local * 2);
+                }
+            }
+            globalSlots[local] = slot;
+            return local;
+        }
+
+        void release(int local) {
+            freeSlots.addLast(local);
+        }
+
+        @Override
+        public int getCurrentTime() {
+            return currentTime;
+        }
+
+        @Override
+        public int size() {
+            return globalSlots.length;
+        }
+
+        @Override
+        public int getRemainingTime(int local) {
+            int slot = globalSlots[local];
+            if (slot == running && currentTime > runStart) {
+                return table.getRemainingTime(slot) - (currentTime - runStart);
+            }
+            return table.getRemainingTime(slot);
+        }
+
+        @Override
+        public int getArrivalTime(int local) {
+            return table.getArrivalTime(globalSlots[local]);
+        }
+
+        @Override
+        public int getBurstTime(int local) {
+            return table.getBurstTime(globalSlots[local]);
+        }
+
+        @Override
+        public int getPriority(int local) {
+            return table.getPriority(globalSlots[local]);
+        }
+
+        @Override
+        public int getDeadline(int local) {
+            return table.getDeadline(globalSlots[local]);
+        }
+
+        @Override
+        public int getPeriod(int local) {
+            return table.getPeriod(globalSlots[local]);
+        }
+    }
+
+    /**
+     * The view of the cores handed to the load balancer.
+     */
+    private final class Loads implements CoreLoads {
+
+        @Override
+        public int getCoreCount() {
+            return cores.length;
+        }
+
+        @Override
+        public int getQueueLength(int core) {
+            return cores[core].queued;
+        }
+
+        @Override
+        public boolean isIdle(int core) {
+            return cores[core].running == -1;
+        }
+
+        @Override
+        public int getCurrentTime() {
+            return currentTime;
+        }
+
+        @Override
+        public boolean migrate(int from, int to) {
+            Core source = cores[from];
+            if (from == to || source.queued == 0) {
+                return false;
+            }
+            int local = source.policy.pickNext();
+            if (local == -1) {
+                return false;
+            }
+            source.queued--;
+            totalQueued--;
+            int slot = source.globalSlots[local];
+            source.release(local);
+
+            cores[to].migrationsIn++;
+            migrations++;
+            admit(cores[to], slot);
+            return true;
+        }
+    }
+}
@@ -1,36 +1,75 @@
 package cpu.Schedulers;
 
-import java.util.*;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * MultiLevelFeedbackQueue with configurable number of queues and algorithms.
+ * MultiLevelFeedbackQueue with configurable number of queues and time quantums.
+ *
+ * New processes enter the highest-priority queue (queue 0). The CPU always serves the
+ * first non-empty queue, and a process that uses up the time quantum of its queue moves
+ * down one level, so long jobs sink while short and interactive ones finish early. A slice
+ * is never interrupted by an arrival.
+ *
+ * The strategy runs on the event-driven SimulationEngine: arrivals are consumed through an
+ * arrival-sorted cursor, each queue is a ring buffer of process slots and the level of every
+ * process is kept in a per-slot array, so no dispatch scans the workload or allocates.
+ *
+ * An optional periodic priority boost moves every process back to queue 0 once per boost
+ * period, so long jobs cannot starve behind a steady stream of short ones.
  */
-public class MultiLevelFeedbackQueue implements Strategy {
-    private final ArrayList<Queue<Process>> queues; // Queues for each priority level
-    private final List<Strategy> strategies;       // Strategies for each queue
-    private final int[] timeQuantums;              // Time quantums for each queue
-    private final Set<Process> processesInQueues;  // Tracks processes already in queues
+public class MultiLevelFeedbackQueue implements EventDrivenStrategy {
+    private final int[] timeQuantums; // Time quantums for each queue
+    private final int boostPeriod;    // Time between two priority boosts, 0 for none
+
+    /**
+     * Constructor for MultiLevelFeedbackQueue using time quantums only.
+     *
+     * @param timeQuantums Array of time quantum for each queue. Use `Integer.MAX_VALUE` for no time slicing.
+     * @throws IllegalArgumentException if there are no queues or a time quantum is not positive.
+     */
+    public MultiLevelFeedbackQueue(int[] timeQuantums) {
+        this(timeQuantums, 0);
+    }
+
+    /**
+     * Constructor for MultiLevelFeedbackQueue with a periodic priority boost.
+     *
+     * @param timeQuantums Array of time quantum for each queue. Use `Integer.MAX_VALUE` for no time slicing.
+     * @param boostPeriod  Time between two moves of every process back to queue 0, or 0 for no boost.
+     * @throws IllegalArgumentException if there are no queues, a time quantum is not positive
+     *                                  or the boost period is negative.
+     */
+    public MultiLevelFeedbackQueue(int[] timeQuantums, int boostPeriod) {
+        if (timeQuantums.length == 0) {
+            throw new IllegalArgumentException("Number of queues must be greater than 0.");
+        }
+        for (int timeQuantum : timeQuantums) {
+            if (timeQuantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be greater than 0.");
+            }
+        }
+        if (boostPeriod < 0) {
+            throw new IllegalArgumentException("Boost period cannot be negative.");
+        }
+        this.timeQuantums = timeQuantums.clone();
+        this.boostPeriod = boostPeriod;
+    }
 
     /**
      * Constructor for MultiLevelFeedbackQueue using List and Array parameters.
      *
+     * Queues are served in FIFO order with their time quantum; the strategies are only
+     * checked against the number of queues and kept for compatibility.
+     *
      * @param numQueues     Number of priority levels (queues).
      * @param strategies    List of scheduling strategies for each queue.
      * @param timeQuantums  Array of time quantum for each queue. Use `Integer.MAX_VALUE` for no time slicing.
      */
     public MultiLevelFeedbackQueue(int numQueues, List<Strategy> strategies, int[] timeQuantums) {
-        if (numQueues != strategies.size() || numQueues != timeQuantums.length) {
-            throw new IllegalArgumentException("Number of queues, strategies, and time quantums must match.");
-        }
-
-        this.queues = new ArrayList<>();
-        this.strategies = new ArrayList<>(strategies);
-        this.timeQuantums = timeQuantums.clone();
-        this.processesInQueues = new HashSet<>();
-
-        for (int i = 0; i < numQueues; i++) {
-            this.queues.add(new LinkedList<>());
-        }
+        this(checkQueues(numQueues, strategies.size(), timeQuantums));
     }
 
     /**
@@ -51,10 +90,7 @@ public class MultiLevelFeedbackQueue implements Strategy {
      * @param strategies    Array of scheduling strategies for each queue.
      */
     public MultiLevelFeedbackQueue(int numQueues, Strategy[] strategies) {
-        this(numQueues, strategies, new int[numQueues]);
-        for (int i = 0; i < numQueues; i++) {
-            this.timeQuantums[i] = Integer.MAX_VALUE; // Default to no time slicing
-        }
+        this(numQueues, strategies, noTimeSlicing(numQueues));
     }
 
     /**
@@ -68,88 +104,198 @@ public class MultiLevelFeedbackQueue implements Strategy {
         this(numQueues, strategies, timeQuantums.stream().mapToInt(Integer::intValue).toArray());
     }
 
+    private static int[] checkQueues(int numQueues, int strategyCount, int[] timeQuantums) {
+        if (numQueues != strategyCount || numQueues != timeQuantums.length) {
+            throw new IllegalArgumentException("Number of queues, strategies, and time quantums must match.");
+        }
+        return timeQuantums;
+    }
+
+    private static int[] noTimeSlicing(int numQueues) {
+        int[] timeQuantums = new int[numQueues];
+        Arrays.fill(timeQuantums, Integer.MAX_VALUE); // Default to no time slicing
+        return timeQuantums;
+    }
+
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        int n = processes.length;
-        int currentTime = 0;
-        int completedProcesses = 0;
-
-        // Initialize processes
-        for (Process process : processes) {
-            if (process.getRemainingTime() == 0) {
-                process.setRemainingTime(process.getBurstTime());
-                process.setCompleted(false);
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(timeQuantums, boostPeriod, context);
+    }
+
+    /**
+     * Returns the time quantum of each queue, e.g. for TaskOrdering.
+     */
+    int[] timeQuantums() {
+        return timeQuantums.clone();
+    }
+
+    /**
+     * Keeps one FIFO ring buffer per queue and the current level of every slot.
+     *
+     * A boost does not move processes one by one: the non-empty queues are set aside, in
+     * level order, as a backlog that is served before anything else and counts as queue 0,
+     * and fresh buffers take their place. A boost therefore costs O(number of queues).
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final int[] timeQuantums;
+        private final int boostPeriod;
+        private final SchedulingContext context;
+        private final IntRingBuffer[] queues;
+        private final ArrayDeque<IntRingBuffer> boosted = new ArrayDeque<>(); // Queues set aside by boosts
+        private final ArrayDeque<IntRingBuffer> spare = new ArrayDeque<>();   // Emptied buffers for reuse
+        private int[] levels;       // Current queue of each slot, valid while its epoch is current
+        private int[] boostEpochs;  // Boost count when each slot's level was last set
+        private int boostEpoch;     // Number of boosts so far
+        private long nextBoost;
+        private int ready;
+
+        Policy(int[] timeQuantums, int boostPeriod, SchedulingContext context) {
+            this.timeQuantums = timeQuantums;
+            this.boostPeriod = boostPeriod;
+            this.context = context;
+            this.queues = new IntRingBuffer[timeQuantums.length];
+            for (int i = 0; i < queues.length; i++) {
+                queues[i] = new IntRingBuffer(i == 0 ? context.size() : 16);
             }
+            this.levels = new int[Math.max(context.size(), 16)];
+            this.boostEpochs = new int[levels.length];
+            this.nextBoost = boostPeriod > 0 ? boostPeriod : Long.MAX_VALUE;
         }
 
-        while (completedProcesses < n) {
-            // Add newly arrived processes to the highest-priority queue (queue 0)
-            for (Process process : processes) {
-                if (process.getArrivalTime() <= currentTime && !process.isCompleted() && !isInAnyQueue(process)) {
-                    queues.get(0).add(process);
-                    processesInQueues.add(process);
-                }
+        @Override
+        public void onArrival(int slot) {
+            boostIfDue();
+            if (slot >= levels.length) {
+                levels = Arrays.copyOf(levels, Math.max(slot + 1, levels.length * 2));
+                boostEpochs = Arrays.copyOf(boostEpochs, levels.length);
             }
+            enqueue(slot, 0);
+        }
 
-            // Find the first non-empty queue
-            Process currentProcess = null;
-            int currentQueueIndex = -1;
-
-            for (int i = 0; i < queues.size(); i++) {
-                if (!queues.get(i).isEmpty()) {
-                    currentProcess = queues.get(i).poll();
-                    processesInQueues.remove(currentProcess);
-                    currentQueueIndex = i;
-                    break;
+        @Override
+        public int pickNext() {
+            boostIfDue();
+            int slot = -1;
+            if (!boosted.isEmpty()) {
+                IntRingBuffer queue = boosted.peekFirst();
+                slot = queue.pollFirst();
+                if (queue.isEmpty()) {
+                    spare.addLast(boosted.pollFirst());
                 }
+                levels[slot] = 0;
+                boostEpochs[slot] = boostEpoch;
+            } else {
+                for (IntRingBuffer queue : queues) {
+                    if (!queue.isEmpty()) {
+                        slot = queue.pollFirst();
+                        break;
+                    }
+                }
+            }
+            if (slot != -1) {
+                ready--;
             }
+            return slot;
+        }
 
-            if (currentProcess != null) {
-                // Execute the process using the queue's assigned strategy
-                Strategy strategy = strategies.get(currentQueueIndex);
-                Queue<Process> singleProcessQueue = new LinkedList<>();
-                singleProcessQueue.add(currentProcess);
-
-                // Execute for the time quantum or remaining time
-                int timeSlice = Math.min(currentProcess.getRemainingTime(), timeQuantums[currentQueueIndex]);
-                strategy.execute(singleProcessQueue.toArray(new Process[0]), 0); // Pass context delay as 0
-
-                // Update process timing and status
-                currentTime += timeSlice;
-                currentProcess.setRemainingTime(currentProcess.getRemainingTime() - timeSlice);
-
-                if (currentProcess.getRemainingTime() == 0) {
-                    currentProcess.setCompleted(true);
-                    currentProcess.setCompletionTime(currentTime);
-                    currentProcess.setTurnAroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
-                    currentProcess.setWaitingTime(currentProcess.getTurnAroundTime() - currentProcess.getBurstTime());
-                    completedProcesses++;
-                } else if (currentQueueIndex + 1 < queues.size()) {
-                    queues.get(currentQueueIndex + 1).add(currentProcess);
-                    processesInQueues.add(currentProcess);
-                } else {
-                    queues.get(currentQueueIndex).add(currentProcess);
-                    processesInQueues.add(currentProcess);
-                }
+        @Override
+        public boolean hasReady() {
+            return ready > 0;
+        }
 
-                // Add context switching delay if applicable
-                if (!queues.get(currentQueueIndex).isEmpty() || completedProcesses < n) {
-                    currentTime += contextSwitchingDelay;
-                }
+        @Override
+        public int timeSlice(int slot) {
+            return timeQuantums[levels[slot]];
+        }
+
+        @Override
+        public boolean allowsSliceExtension() {
+            return false; // Every expiry moves the process down a level
+        }
+
+        @Override
+        public void onQuantumExpired(int slot) {
+            boostIfDue();
+            if (boostEpochs[slot] != boostEpoch) {
+                enqueue(slot, 0); // Boosted while it was running
             } else {
-                // If no process is ready, increment current time
-                currentTime++;
+                enqueue(slot, Math.min(levels[slot] + 1, queues.length - 1));
             }
         }
-    }
 
-    /**
-     * Checks if a process is already in any of the queues.
-     *
-     * @param process The process to check.
-     * @return True if the process is in any queue, false otherwise.
-     */
-    private boolean isInAnyQueue(Process process) {
-        return processesInQueues.contains(process);
+        @Override
+        public void onPreempted(int slot) {
+            boostIfDue();
+            enqueue(slot, boostEpochs[slot] != boostEpoch ? 0 : levels[slot]);
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            out.writeInt(queues.length);
+            for (IntRingBuffer queue : queues) {
+                queue.writeTo(out);
+            }
+            out.writeInt(boosted.size());
+            for (IntRingBuffer queue : boosted) {
+                queue.writeTo(out);
+            }
+            out.writeInt(levels.length);
+            out.writeInts(levels, 0, levels.length);
+            out.writeInts(boostEpochs, 0, boostEpochs.length);
+            out.writeInt(boostEpoch);
+            out.writeLong(nextBoost);
+            out.writeInt(ready);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            int queueCount = in.readInt();
+            if (queueCount != queues.length) {
+                throw new IllegalArgumentException("The snapshot has " + queueCount + " queues, the strategy has " + queues.length + ".");
+            }
+            for (IntRingBuffer queue : queues) {
+                queue.readFrom(in);
+            }
+            boosted.clear();
+            spare.clear();
+            for (int i = in.readCount(); i > 0; i--) {
+                IntRingBuffer queue = new IntRingBuffer(16);
+                queue.readFrom(in);
+                boosted.addLast(queue);
+            }
+            levels = new int[in.readCount()];
+            boostEpochs = new int[levels.length];
+            in.readInts(levels, 0, levels.length);
+            in.readInts(boostEpochs, 0, boostEpochs.length);
+            boostEpoch = in.readInt();
+            nextBoost = in.readLong();
+            ready = in.readInt();
+        }
+
+        private void enqueue(int slot, int level) {
+            levels[slot] = level;
+            boostEpochs[slot] = boostEpoch;
+            queues[level].addLast(slot);
+            ready++;
+        }
+
+        /**
+         * Moves every waiting process back to queue 0 if a boost period has ended since the
+         * last decision. The running process is boosted lazily through its epoch.
+         */
+        private void boostIfDue() {
+            long now = context.getCurrentTime();
+            if (now < nextBoost) {
+                return;
+            }
+            nextBoost = (now / boostPeriod + 1) * boostPeriod;
+            boostEpoch++;
+            for (int i = 0; i < queues.length; i++) {
+                if (!queues[i].isEmpty()) {
+                    boosted.addLast(queues[i]);
+                    queues[i] = spare.isEmpty() ? new IntRingBuffer(16) : spare.pollFirst();
+                }
+            }
+        }
     }
 }
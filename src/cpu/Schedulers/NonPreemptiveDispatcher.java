@@ -0,0 +1,69 @@
+package cpu.Schedulers;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * The NonPreemptiveDispatcher class runs the non-preemptive strategies that pick the next
+ * process by a fixed key, e.g. SJF, LJF and PriorityScheduling.
+ *
+ * Arrivals are admitted through an arrival-sorted cursor into a ready heap, so every
+ * dispatch only chooses among processes that have already arrived, and the CPU jumps to the
+ * next arrival when nobody is ready. A run costs O(n log n) and works on the table in
+ * place, so the order of the caller's processes is left untouched. The context switching
+ * delay is charged before every dispatch after the first. A schedule listener, if any, sees
+ * one dispatch and one completion per process.
+ */
+final class NonPreemptiveDispatcher {
+
+    private NonPreemptiveDispatcher() {
+    }
+
+    /**
+     * Runs every process of the table to completion, recording completion, turnaround and
+     * waiting times in the table.
+     *
+     * @param strategy              The strategy being run, named in Flight Recorder events.
+     * @param table                 The processes to be scheduled.
+     * @param contextSwitchingDelay The delay incurred during context switching between processes.
+     * @param scheduleListener      The listener notified of every dispatch and completion, or null.
+     * @param readyKey              The key of each slot; the ready process with the smallest
+     *                              key runs next, ties going to the lower slot.
+     */
+    static void run(Strategy strategy, ProcessTable table, int contextSwitchingDelay,
+                    ScheduleListener scheduleListener, IntToLongFunction readyKey) {
+        int n = table.size();
+        ArrivalCursor arrivals = new ArrivalCursor(table.arrivalTimes(), n);
+        IndexedMinHeap ready = new IndexedMinHeap(n);
+        RunCounters counters = new RunCounters();
+        counters.begin();
+        int currentTime = 0;
+
+        for (int dispatched = 0; dispatched < n; dispatched++) {
+            if (ready.isEmpty() && arrivals.peekTime() > currentTime) {
+                counters.idle(arrivals.peekTime() - currentTime);
+                currentTime = arrivals.peekTime(); // Idle until the next arrival
+            }
+            while (arrivals.hasNext() && arrivals.peekTime() <= currentTime) {
+                int slot = arrivals.next();
+                ready.add(slot, readyKey.applyAsLong(slot));
+            }
+
+            if (dispatched > 0) {
+                currentTime += contextSwitchingDelay;
+                counters.contextSwitched();
+            }
+            int slot = ready.poll();
+            counters.dispatched(ready.size(), currentTime);
+            if (scheduleListener != null) {
+                scheduleListener.onDispatch(0, table.getPid(slot), currentTime);
+            }
+            currentTime += table.getBurstTime(slot);
+            table.complete(slot, currentTime);
+            if (scheduleListener != null) {
+                scheduleListener.onComplete(0, table.getPid(slot), currentTime);
+            }
+        }
+        table.setContextSwitchCount(Math.max(0, n - 1)); // One switch per process after the first
+        counters.end(strategy, n, 1, 0, currentTime);
+    }
+}
@@ -0,0 +1,259 @@
+package cpu.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * The ParameterSweep class runs a grid search over Round Robin time quantums, MLFQ time
+ * quantum arrays and context switching delays on one workload.
+ *
+ * The grid is split recursively on a ForkJoinPool, so idle workers steal the remaining
+ * points from busy ones. Every point schedules its own fork of the workload table, which
+ * shares the process data read-only, and each result is handed to the sink as soon as its
+ * point finishes.
+ *
+ * With a cut-off margin set, a point is stopped as soon as the waiting time of the processes
+ * it has already completed exceeds the total waiting time of the best finished point with the
+ * same context switching delay by more than the margin. Waiting times are never negative, so
+ * such a point can no longer win.
+ */
+public class ParameterSweep {
+    private final ProcessTable workload;
+    private final List<int[]> roundRobinQuanta = new ArrayList<>();
+    private final List<int[]> mlfqQuanta = new ArrayList<>();
+    private int[] contextSwitchingDelays = {0};
+    private double cutOffMargin = -1; // Negative when cut-off is disabled
+
+    /**
+     * Constructs a sweep over the given workload. The workload is only read.
+     *
+     * @param workload The processes every grid point is run on.
+     * @throws IllegalArgumentException if the workload is null.
+     */
+    public ParameterSweep(ProcessTable workload) {
+        if (workload == null) {
+            throw new IllegalArgumentException("Workload can't be null.");
+        }
+        this.workload = workload;
+    }
+
+    /**
+     * Adds Round Robin grid points, one per time quantum.
+     *
+     * @param timeQuantums The time quantums to try.
+     * @return This sweep, for chaining.
+     * @throws IllegalArgumentException if a time quantum is not greater than 0.
+     */
+    public ParameterSweep roundRobinQuanta(int... timeQuantums) {
+        for (int timeQuantum : timeQuantums) {
+            if (timeQuantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be greater than 0.");
+            }
+            roundRobinQuanta.add(new int[] {timeQuantum});
+        }
+        return this;
+    }
+
+    /**
+     * Adds MLFQ grid points, one per array of per-queue time quantums.
+     *
+     * @param shapes The time quantum arrays to try. Use `Integer.MAX_VALUE` for no time slicing.
+     * @return This sweep, for chaining.
+     * @throws IllegalArgumentException if an array is empty or holds a quantum not greater than 0.
+     */
+    public ParameterSweep mlfqQuanta(int[]... shapes) {
+        for (int[] shape : shapes) {
+            if (shape.length == 0) {
+                throw new IllegalArgumentException("Number of queues must be greater than 0.");
+            }
+            for (int timeQuantum : shape) {
+                if (timeQuantum <= 0) {
+                    throw new IllegalArgumentException("Time quantum must be greater than 0.");
+                }
+            }
+            mlfqQuanta.add(shape.clone());
+        }
+        return this;
+    }
+
+    /**
+     * Sets the context switching delays every strategy point is combined with. Defaults to 0 only.
+     *
+     * @param delays The delays to try.
+     * @return This sweep, for chaining.
+     * @throws IllegalArgumentException if no delay is given or a delay is negative.
+     */
+    public ParameterSweep contextSwitchingDelays(int... delays) {
+        if (delays.length == 0) {
+            throw new IllegalArgumentException("At least one context switching delay is required.");
+        }
+        for (int delay : delays) {
+            if (delay < 0) {
+                throw new IllegalArgumentException("Context switching delay cannot be negative.");
+            }
+        }
+        this.contextSwitchingDelays = delays.clone();
+        return this;
+    }
+
+    /**
+     * Enables early cut-off of dominated points.
+     *
+     * @param margin How far, as a fraction, a point may fall behind the best one before it is
+     *               stopped, e.g. 0.25 for 25%.
+     * @return This sweep, for chaining.
+     * @throws IllegalArgumentException if the margin is negative.
+     */
+    public ParameterSweep cutOff(double margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("Cut-off margin cannot be negative.");
+        }
+        this.cutOffMargin = margin;
+        return this;
+    }
+
+    /**
+     * Returns the number of grid points.
+     *
+     * @return The number of strategy points times the number of delays.
+     */
+    public int size() {
+        return (roundRobinQuanta.size() + mlfqQuanta.size()) * contextSwitchingDelays.length;
+    }
+
+    /**
+     * Runs every grid point on the common ForkJoinPool.
+     *
+     * @param sink Receives the result of each point as it finishes. Calls are serialized, so
+     *             the sink does not have to be thread-safe.
+     * @throws IllegalStateException if the grid or the workload is empty.
+     */
+    public void execute(Consumer<SweepResult> sink) {
+        execute(sink, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs every grid point on the given pool and returns when all of them are done.
+     *
+     * @param sink Receives the result of each point as it finishes. Calls are serialized, so
+     *             the sink does not have to be thread-safe.
+     * @param pool The pool executing the points.
+     * @throws IllegalStateException if the grid or the workload is empty.
+     */
+    public void execute(Consumer<SweepResult> sink, ForkJoinPool pool) {
+        if (size() == 0) {
+            throw new IllegalStateException("No parameters added. Please add time quantums before executing.");
+        }
+        if (workload.size() == 0) {
+            throw new IllegalStateException("No processes added. Please add processes before executing.");
+        }
+
+        // Best total waiting time of a finished point, per context switching delay
+        AtomicLongArray best = new AtomicLongArray(contextSwitchingDelays.length);
+        for (int i = 0; i < contextSwitchingDelays.length; i++) {
+            best.set(i, Long.MAX_VALUE);
+        }
+        pool.invoke(new Points(0, size(), best, sink));
+    }
+
+    /**
+     * Splits a range of grid points in half until single points remain.
+     */
+    private final class Points extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final AtomicLongArray best;
+        private final Consumer<SweepResult> sink;
+
+        Points(int from, int to, AtomicLongArray best, Consumer<SweepResult> sink) {
+            this.from = from;
+            this.to = to;
+            this.best = best;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Points(from, middle, best, sink), new Points(middle, to, best, sink));
+                return;
+            }
+            // Forked only while the point runs, so memory grows with the number of threads
+            // rather than the number of points; the workload itself is only read
+            SweepResult result = runPoint(from, workload.fork(), best);
+            synchronized (sink) {
+                sink.accept(result);
+            }
+        }
+    }
+
+    /**
+     * Runs one grid point. Points are numbered delay-major: all strategy points for the
+     * first delay, then all of them for the second, and so on.
+     */
+    private SweepResult runPoint(int point, ProcessTable table, AtomicLongArray best) {
+        int strategies = roundRobinQuanta.size() + mlfqQuanta.size();
+        int delayIndex = point / strategies;
+        int strategyIndex = point % strategies;
+        int delay = contextSwitchingDelays[delayIndex];
+
+        String name;
+        int[] timeQuantums;
+        Strategy strategy;
+        if (strategyIndex < roundRobinQuanta.size()) {
+            name = "rr";
+            timeQuantums = roundRobinQuanta.get(strategyIndex);
+            strategy = new RoundRobin(timeQuantums[0]);
+        } else {
+            name = "mlfq";
+            timeQuantums = mlfqQuanta.get(strategyIndex - roundRobinQuanta.size());
+            strategy = new MultiLevelFeedbackQueue(timeQuantums);
+        }
+
+        MetricsAccumulator metrics = new MetricsAccumulator();
+        boolean cutOff = false;
+        if (strategy instanceof EventDrivenStrategy) {
+            SimulationEngine engine = new SimulationEngine(table, delay);
+            engine.setCompletionListener(slot -> {
+                metrics.record(table, slot);
+                if (cutOffMargin >= 0 && metrics.getTotalWaitingTime() > bound(best.get(delayIndex))) {
+                    engine.halt();
+                }
+            });
+            engine.run(((EventDrivenStrategy) strategy).newPolicy(engine));
+            cutOff = engine.isHalted();
+        } else {
+            scheduler scheduler = new scheduler(table, delay);
+            scheduler.setStrategy(strategy);
+            scheduler.execute();
+            for (int slot = 0; slot < table.size(); slot++) {
+                if (table.isCompleted(slot)) {
+                    metrics.record(table, slot);
+                }
+            }
+        }
+
+        if (!cutOff) {
+            best.accumulateAndGet(delayIndex, metrics.getTotalWaitingTime(), Math::min);
+        }
+        return new SweepResult(name, timeQuantums, delay, metrics, cutOff);
+    }
+
+    /**
+     * Returns the total waiting time above which a point is dominated by the best one.
+     */
+    private long bound(long bestTotal) {
+        if (bestTotal == Long.MAX_VALUE) {
+            return Long.MAX_VALUE; // Nothing has finished yet
+        }
+        double bound = bestTotal * (1 + cutOffMargin);
+        return bound >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) bound;
+    }
+}
@@ -0,0 +1,156 @@
+package cpu.Schedulers;
+
+import java.util.Collection;
+
+/**
+ * The PeriodicTask class describes a real-time task that releases a job every period. Each
+ * job needs at most the execution time of the task and must complete within the relative
+ * deadline of its release. The first job is released at the phase of the task.
+ *
+ * Jobs become ordinary processes with a deadline and a period, so a task set can be expanded
+ * into a ProcessTable with releaseJobs() and scheduled by EDF or RateMonotonic.
+ */
+public final class PeriodicTask {
+    private final int id;
+    private final int period;
+    private final int executionTime;
+    private final int deadline;
+    private final int phase;
+
+    /**
+     * Constructs a task whose deadline equals its period and whose first job is released at 0.
+     *
+     * @param id            The task ID, used as the PID of its jobs.
+     * @param period        The time between two releases.
+     * @param executionTime The worst-case execution time of a job.
+     * @throws IllegalArgumentException if a value is not positive or the execution time
+     *                                  exceeds the period.
+     */
+    public PeriodicTask(int id, int period, int executionTime) {
+        this(id, period, executionTime, period, 0);
+    }
+
+    /**
+     * Constructs a task.
+     *
+     * @param id            The task ID, used as the PID of its jobs.
+     * @param period        The time between two releases.
+     * @param executionTime The worst-case execution time of a job.
+     * @param deadline      The time after its release by which a job must complete, at most the period.
+     * @param phase         The release time of the first job.
+     * @throws IllegalArgumentException if the period, execution time or deadline is not positive,
+     *                                  the execution time exceeds the deadline, the deadline exceeds
+     *                                  the period or the phase is negative.
+     */
+    public PeriodicTask(int id, int period, int executionTime, int deadline, int phase) {
+        if (period <= 0 || executionTime <= 0 || deadline <= 0) {
+            throw new IllegalArgumentException("Period, execution time and deadline must be greater than 0.");
+        }
+        if (executionTime > deadline || deadline > period) {
+            throw new IllegalArgumentException("A task needs execution time <= deadline <= period.");
+        }
+        if (phase < 0) {
+            throw new IllegalArgumentException("Phase cannot be negative.");
+        }
+        this.id = id;
+        this.period = period;
+        this.executionTime = executionTime;
+        this.deadline = deadline;
+        this.phase = phase;
+    }
+
+    /**
+     * Returns the task ID.
+     *
+     * @return The task ID.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the time between two releases.
+     *
+     * @return The period.
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the worst-case execution time of a job.
+     *
+     * @return The execution time.
+     */
+    public int getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * Returns the time after its release by which a job must complete.
+     *
+     * @return The relative deadline.
+     */
+    public int getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Returns the release time of the first job.
+     *
+     * @return The phase.
+     */
+    public int getPhase() {
+        return phase;
+    }
+
+    /**
+     * Returns the share of the CPU the task needs, execution time over period.
+     *
+     * @return The utilization of the task.
+     */
+    public double utilization() {
+        return (double) executionTime / period;
+    }
+
+    /**
+     * Returns execution time over relative deadline, which equals the utilization when the
+     * deadline is the period.
+     *
+     * @return The density of the task.
+     */
+    public double density() {
+        return (double) executionTime / deadline;
+    }
+
+    /**
+     * Expands tasks into the jobs they release before the horizon, one process per job with
+     * the task ID as PID, the execution time as burst time, priority 0, and the absolute
+     * deadline and period of the job.
+     *
+     * @param tasks   The tasks to expand.
+     * @param horizon The time at which releases stop.
+     * @return A new table holding every job.
+     * @throws IllegalArgumentException if there are more jobs than a table can hold.
+     */
+    public static ProcessTable releaseJobs(Collection<PeriodicTask> tasks, int horizon) {
+        long jobs = 0;
+        for (PeriodicTask task : tasks) {
+            if (task.phase < horizon) {
+                jobs += (horizon - 1L - task.phase) / task.period + 1;
+            }
+        }
+        if (jobs > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many jobs before the horizon: " + jobs);
+        }
+
+        ProcessTable table = new ProcessTable((int) jobs);
+        for (PeriodicTask task : tasks) {
+            for (long release = task.phase; release < horizon; release += task.period) {
+                long deadline = Math.min(release + task.deadline, Process.NO_DEADLINE - 1L);
+                table.add(task.id, (int) release, task.executionTime, 0, (int) deadline, task.period);
+            }
+        }
+        return table;
+    }
+}
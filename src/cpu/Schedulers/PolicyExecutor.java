@@ -0,0 +1,462 @@
+package cpu.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The PolicyExecutor class is an ExecutorService for real tasks whose waiting tasks are run
+ * in the order chosen by a TaskOrdering, e.g. shortest job first, instead of in FIFO order.
+ * Tasks are submitted with a cost estimate and a priority; tasks submitted through the plain
+ * ExecutorService methods have cost 0 and priority 0.
+ *
+ * Waiting tasks are spread over several striped priority queues, twice as many as there are
+ * threads, each a binary heap behind its own lock. A submission inserts into a random stripe
+ * that is not locked, and a thread looking for work compares the heads of two random stripes
+ * and takes the better one, so the order is exact within a stripe and close to the global
+ * order across stripes, while threads rarely contend for the same lock.
+ *
+ * The threads come from a ThreadFactory, so the executor can run on platform threads or, on
+ * a runtime that has them, virtual threads. The time every task waited between submission
+ * and the start of its run is recorded in a histogram per thread.
+ */
+public final class PolicyExecutor extends AbstractExecutorService {
+    private final TaskOrdering ordering;
+    private final Stripe[] stripes;
+    private final Worker[] workers;
+    private final Semaphore available = new Semaphore(0); // One permit per queued task, plus one per thread on shutdown
+    private final CountDownLatch terminated;
+    private final Object shutdownLock = new Object();
+    private volatile boolean shutdown;
+    private volatile boolean stopped; // Set by shutdownNow(), workers exit without draining the queue
+
+    /**
+     * Constructs an executor running on platform threads.
+     *
+     * @param threads  The number of threads.
+     * @param ordering The order in which waiting tasks run.
+     * @throws IllegalArgumentException if there are no threads or the ordering is null.
+     */
+    public PolicyExecutor(int threads, TaskOrdering ordering) {
+        this(threads, ordering, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Constructs an executor whose threads are created by the given factory, e.g. a factory
+     * of virtual threads.
+     *
+     * @param threads       The number of threads.
+     * @param ordering      The order in which waiting tasks run.
+     * @param threadFactory The factory creating the threads.
+     * @throws IllegalArgumentException if there are no threads or the ordering or factory is null.
+     */
+    public PolicyExecutor(int threads, TaskOrdering ordering, ThreadFactory threadFactory) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be greater than 0.");
+        }
+        if (ordering == null || threadFactory == null) {
+            throw new IllegalArgumentException("Task ordering and thread factory can't be null.");
+        }
+        this.ordering = ordering;
+        this.stripes = new Stripe[Integer.highestOneBit(2 * threads - 1) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.terminated = new CountDownLatch(threads);
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+        }
+        for (Worker worker : workers) {
+            worker.thread = threadFactory.newThread(worker);
+            worker.thread.start();
+        }
+    }
+
+    /**
+     * Executes a task with a cost estimate and a priority.
+     *
+     * @param command  The task.
+     * @param cost     The estimated running time of the task in nanoseconds.
+     * @param priority The priority of the task.
+     * @throws RejectedExecutionException if the executor is shut down.
+     * @throws IllegalArgumentException   if the cost is negative.
+     */
+    public void execute(Runnable command, long cost, int priority) {
+        enqueue(new OrderedTask<>(command, null, cost, priority));
+    }
+
+    /**
+     * Submits a task with a cost estimate and a priority.
+     *
+     * @param task     The task.
+     * @param cost     The estimated running time of the task in nanoseconds.
+     * @param priority The priority of the task.
+     * @return A future completed when the task has run.
+     * @throws RejectedExecutionException if the executor is shut down.
+     * @throws IllegalArgumentException   if the cost is negative.
+     */
+    public Future<?> submit(Runnable task, long cost, int priority) {
+        OrderedTask<Object> ordered = new OrderedTask<>(task, null, cost, priority);
+        enqueue(ordered);
+        return ordered;
+    }
+
+    /**
+     * Submits a task with a cost estimate and a priority.
+     *
+     * @param task     The task.
+     * @param cost     The estimated running time of the task in nanoseconds.
+     * @param priority The priority of the task.
+     * @param <T>      The type of the result of the task.
+     * @return A future completed with the result of the task.
+     * @throws RejectedExecutionException if the executor is shut down.
+     * @throws IllegalArgumentException   if the cost is negative.
+     */
+    public <T> Future<T> submit(Callable<T> task, long cost, int priority) {
+        OrderedTask<T> ordered = new OrderedTask<>(task, cost, priority);
+        enqueue(ordered);
+        return ordered;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command instanceof OrderedTask) {
+            enqueue((OrderedTask<?>) command);
+        } else {
+            enqueue(new OrderedTask<>(command, null, 0, 0));
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new OrderedTask<>(runnable, value, 0, 0);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new OrderedTask<>(callable, 0, 0);
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (shutdownLock) {
+            if (!shutdown) {
+                shutdown = true;
+                available.release(workers.length); // Lets every thread find the queue empty and exit
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        stopped = true;
+        shutdown();
+        List<Runnable> waiting = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.drainTo(waiting);
+        }
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+        return waiting;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * Returns the number of tasks waiting for a thread.
+     *
+     * @return The number of queued tasks, which may be stale by the time it is read.
+     */
+    public int getQueueLength() {
+        int length = 0;
+        for (Stripe stripe : stripes) {
+            length += stripe.size;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of tasks that have started running so far.
+     *
+     * @return The number of started tasks.
+     */
+    public long getStartedTaskCount() {
+        long count = 0;
+        for (Worker worker : workers) {
+            synchronized (worker.queueWaits) {
+                count += worker.queueWaits.getCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Merges the queue waits recorded by every thread, i.e. the time from submission until a
+     * task started running, in nanoseconds.
+     *
+     * @return A snapshot of the queue-wait distribution.
+     */
+    public LogLinearHistogram getQueueWaitHistogram() {
+        LogLinearHistogram merged = new LogLinearHistogram();
+        for (Worker worker : workers) {
+            synchronized (worker.queueWaits) {
+                merged.merge(worker.queueWaits);
+            }
+        }
+        return merged;
+    }
+
+    private void enqueue(OrderedTask<?> task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down.");
+        }
+        task.submitTime = System.nanoTime();
+        task.key = ordering.key(task.cost, task.priority, task.submitTime);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int mask = stripes.length - 1;
+        Stripe stripe = stripes[random.nextInt() & mask];
+        for (int attempt = 0; attempt < 2 && !stripe.lock.tryLock(); attempt++) {
+            stripe = stripes[random.nextInt() & mask];
+        }
+        if (!stripe.lock.isHeldByCurrentThread()) {
+            stripe.lock.lock();
+        }
+        try {
+            stripe.push(task);
+        } finally {
+            stripe.lock.unlock();
+        }
+        available.release();
+
+        // A shutdown that raced with this submission may have let every thread exit already
+        if (shutdown && task.cancel(false)) {
+            throw new RejectedExecutionException("Executor has been shut down.");
+        }
+    }
+
+    /**
+     * Takes the best task from two random stripes, falling back to a scan of every stripe.
+     * Called with a permit, so a task is queued or about to be taken by another thread.
+     *
+     * @return The task, or null if the executor is shut down and no task is left.
+     */
+    private OrderedTask<?> take() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int mask = stripes.length - 1;
+        for (int attempt = 0; attempt < 4; attempt++) {
+            Stripe first = stripes[random.nextInt() & mask];
+            Stripe second = stripes[random.nextInt() & mask];
+            OrderedTask<?> a = first.top;
+            OrderedTask<?> b = second.top;
+            Stripe best = (a == null || (b != null && b.compareTo(a) < 0)) ? second : first;
+            OrderedTask<?> task = best.poll();
+            if (task != null) {
+                return task;
+            }
+        }
+        while (true) {
+            for (Stripe stripe : stripes) {
+                OrderedTask<?> task = stripe.poll();
+                if (task != null) {
+                    return task;
+                }
+            }
+            if (shutdown) {
+                return null;
+            }
+            Thread.onSpinWait(); // Another thread took the task this permit was released for
+        }
+    }
+
+    /**
+     * A FutureTask with the fields it is ordered by.
+     */
+    private static final class OrderedTask<T> extends FutureTask<T> implements Comparable<OrderedTask<?>> {
+        private final long cost;
+        private final int priority;
+        private long submitTime;
+        private long key;
+
+        OrderedTask(Runnable runnable, T result, long cost, int priority) {
+            super(runnable, result);
+            this.cost = checkCost(cost);
+            this.priority = priority;
+        }
+
+        OrderedTask(Callable<T> callable, long cost, int priority) {
+            super(callable);
+            this.cost = checkCost(cost);
+            this.priority = priority;
+        }
+
+        private static long checkCost(long cost) {
+            if (cost < 0) {
+                throw new IllegalArgumentException("Cost estimate cannot be negative.");
+            }
+            return cost;
+        }
+
+        @Override
+        public int compareTo(OrderedTask<?> other) {
+            if (key != other.key) {
+                return Long.compare(key, other.key);
+            }
+            return Long.compare(submitTime - other.submitTime, 0); // nanoTime may wrap
+        }
+    }
+
+    /**
+     * One binary heap of waiting tasks and its lock. The head is published so threads can
+     * compare stripes without locking them.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private OrderedTask<?>[] heap = new OrderedTask<?>[16];
+        private volatile OrderedTask<?> top;
+        private volatile int size;
+
+        /**
+         * Adds a task. Must be called with the lock held.
+         */
+        void push(OrderedTask<?> task) {
+            int index = size;
+            if (index == heap.length) {
+                heap = Arrays.copyOf(heap, index * 2);
+            }
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent].compareTo(task) <= 0) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = task;
+            size++;
+            top = heap[0];
+        }
+
+        /**
+         * Removes the best task.
+         *
+         * @return The task, or null if the stripe is empty.
+         */
+        OrderedTask<?> poll() {
+            if (size == 0) {
+                return null;
+            }
+            lock.lock();
+            try {
+                int last = size - 1;
+                if (last < 0) {
+                    return null;
+                }
+                OrderedTask<?> first = heap[0];
+                OrderedTask<?> moved = heap[last];
+                heap[last] = null;
+                int index = 0;
+                int half = last >>> 1;
+                while (index < half) {
+                    int child = 2 * index + 1;
+                    if (child + 1 < last && heap[child + 1].compareTo(heap[child]) < 0) {
+                        child++;
+                    }
+                    if (moved.compareTo(heap[child]) <= 0) {
+                        break;
+                    }
+                    heap[index] = heap[child];
+                    index = child;
+                }
+                if (last > 0) {
+                    heap[index] = moved;
+                }
+                size = last;
+                top = heap[0];
+                return first;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void drainTo(List<Runnable> tasks) {
+            lock.lock();
+            try {
+                for (int i = 0; i < size; i++) {
+                    tasks.add(heap[i]);
+                    heap[i] = null;
+                }
+                size = 0;
+                top = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Runs tasks until the executor shuts down, recording how long each one waited.
+     */
+    private final class Worker implements Runnable {
+        private final LogLinearHistogram queueWaits = new LogLinearHistogram();
+        private Thread thread;
+
+        @Override
+        public void run() {
+            try {
+                while (!stopped) {
+                    try {
+                        available.acquire();
+                    } catch (InterruptedException e) {
+                        continue; // Only shutdownNow() interrupts, and it sets stopped first
+                    }
+                    OrderedTask<?> task = take();
+                    if (task == null) {
+                        break;
+                    }
+                    if (task.isDone()) {
+                        continue; // Cancelled while it was waiting
+                    }
+                    long wait = System.nanoTime() - task.submitTime;
+                    synchronized (queueWaits) {
+                        queueWaits.record(Math.max(0, wait));
+                    }
+                    task.run();
+                    if (!stopped) {
+                        Thread.interrupted(); // Do not let a task's interrupt leak into the next one
+                    }
+                }
+            } finally {
+                terminated.countDown();
+            }
+        }
+    }
+}
@@ -1,49 +1,26 @@
 package cpu.Schedulers;
 
-import java.util.Arrays;
-
-public class PriorityScheduling implements Strategy {
+/**
+ * The PriorityScheduling class implements a non-preemptive priority scheduling strategy.
+ * Whenever the CPU becomes free, the waiting process with the lowest priority value runs
+ * next, ties going to the earlier arrival and then to the process that comes first in the
+ * array.
+ *
+ * Arrivals are admitted through an arrival-sorted cursor into a ready heap (see
+ * NonPreemptiveDispatcher), so a process is only chosen once it has arrived, a run costs
+ * O(n log n), and the order of the caller's array is left untouched.
+ */
+public class PriorityScheduling implements TableStrategy {
 
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        // Sort processes by priority first, then by arrival time
-        Arrays.sort(processes, (p1, p2) -> {
-            if (p1.getPriority() == p2.getPriority()) {
-                return Integer.compare(p1.getArrivalTime(), p2.getArrivalTime());
-            }
-            return Integer.compare(p1.getPriority(), p2.getPriority());
-        });
-
-        int currentTime = 0;
-
-        for (int i = 0; i < processes.length; i++) {
-            Process process = processes[i];
-
-            if (!process.isCompleted()) {
-                // If the process arrives after the current time, set current time to arrival time
-                if (process.getArrivalTime() > currentTime) {
-                    currentTime = process.getArrivalTime();
-                }
-
-                // Add context switching delay if this is not the first process
-                if (i > 0) {
-                    currentTime += contextSwitchingDelay;
-                }
-
-                // Execute the process
-                currentTime += process.getBurstTime();
-                process.setCompletionTime(currentTime);
-
-                // Calculate Turnaround Time (TAT) and Waiting Time (WT)
-                int tat = process.getCompletionTime() - process.getArrivalTime();
-                process.setTurnAroundTime(tat);
-
-                int wt = process.getTurnAroundTime() - process.getBurstTime();
-                process.setWaitingTime(wt);
+    public void execute(ProcessTable table, int contextSwitchingDelay) {
+        execute(table, contextSwitchingDelay, null);
+    }
 
-                // Mark the process as completed
-                process.setCompleted(true);
-            }
-        }
+    @Override
+    public void execute(ProcessTable table, int contextSwitchingDelay, ScheduleListener scheduleListener) {
+        // Priority in the high half of the key, arrival time (offset to be non-negative) in the low half
+        NonPreemptiveDispatcher.run(this, table, contextSwitchingDelay, scheduleListener,
+                slot -> ((long) table.getPriority(slot) << 32) | ((long) table.getArrivalTime(slot) - Integer.MIN_VALUE));
     }
-}
\ No newline at end of file
+}
@@ -7,10 +7,15 @@ package cpu.Schedulers;
  * track the state of a process during scheduling.
  */
 public class Process {
+    /** Deadline of a process that has none. */
+    public static final int NO_DEADLINE = Integer.MAX_VALUE;
+
     private final int pid;           // Process ID
     private final int arrivalTime;    // Time at which the process arrives in the ready queue
     private final int burstTime;      // Time required for the process to complete execution
     private int priority;             // Priority of the process
+    private final int deadline;       // Absolute time by which the process should complete
+    private final int period;         // Period of the task releasing the process, 0 if aperiodic
     private int completionTime;       // Time at which the process completes execution
     private int turnAroundTime;       // Total time taken from arrival to completion
     private int remainingTime;        // Remaining time for the process to complete execution
@@ -26,10 +31,26 @@ public class Process {
      * @param priority      The priority level of the process.
      */
     public Process(int pid, int arrivalTime, int burstTime, int priority) {
+        this(pid, arrivalTime, burstTime, priority, NO_DEADLINE, 0);
+    }
+
+    /**
+     * Constructs a new real-time Process, e.g. one job of a periodic task.
+     *
+     * @param pid           The unique identifier for the process.
+     * @param arrivalTime   The time at which the process arrives in the ready queue.
+     * @param burstTime     The time required for the process to execute.
+     * @param priority      The priority level of the process.
+     * @param deadline      The absolute time by which the process should complete, or NO_DEADLINE.
+     * @param period        The period of the task that released the process, or 0 if aperiodic.
+     */
+    public Process(int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
         this.pid = pid;
         this.arrivalTime = arrivalTime;
         this.burstTime = burstTime;
         this.priority = priority;
+        this.deadline = deadline;
+        this.period = period;
         this.remainingTime = burstTime; // Initialize remaining time to burst time
         this.completed = false;          // Initialize as not completed
     }
@@ -70,6 +91,33 @@ public class Process {
         return priority;
     }
 
+    /**
+     * Returns the absolute deadline of the process.
+     *
+     * @return The time by which the process should complete, or NO_DEADLINE.
+     */
+    public int getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Returns the period of the task that released the process.
+     *
+     * @return The period, or 0 if the process is aperiodic.
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * Checks whether the process completed after its deadline.
+     *
+     * @return true if the process is completed and missed its deadline, false otherwise.
+     */
+    public boolean missedDeadline() {
+        return completed && completionTime > deadline;
+    }
+
     /**
      * Returns the completion time of the process.
      *
@@ -0,0 +1,622 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The ProcessTable class stores a workload as parallel primitive arrays instead of an array
+ * of Process objects. Every process occupies a slot, and each of its attributes (arrival
+ * time, burst time, priority, deadline, period, remaining time and the computed timing
+ * metrics) lives at that slot in its own int array, with the completion flags kept in a BitSet.
+ *
+ * Compared to a Process[] this keeps a million-process workload in a few contiguous arrays,
+ * so hot loops read memory sequentially instead of chasing pointers. Code that still needs
+ * Process objects can read a slot through a ProcessView or materialize them with
+ * toProcesses().
+ *
+ * A table can be forked to run several strategies on the same workload at once. The fork
+ * shares the process IDs, arrival times, burst times, priorities, deadlines and periods with
+ * the original and only allocates its own scheduling state; whichever table later writes to
+ * the shared arrays copies them first.
+ */
+public final class ProcessTable {
+    private int[] pids;             // Process ID per slot
+    private int[] arrivalTimes;     // Time at which each process arrives in the ready queue
+    private int[] burstTimes;       // Time required for each process to complete execution
+    private int[] priorities;       // Priority of each process
+    private int[] deadlines;        // Absolute deadline of each process, Process.NO_DEADLINE for none
+    private int[] periods;          // Period of the task releasing each process, 0 if aperiodic
+    private int[] remainingTimes;   // Remaining time for each process to complete execution
+    private int[] completionTimes;  // Time at which each process completes execution
+    private int[] waitingTimes;     // Total time each process has been in the ready queue
+    private int[] turnAroundTimes;  // Total time taken from arrival to completion
+    private int[] responseTimes;    // Time from arrival to first execution, -1 before it first runs
+    private final BitSet completed; // Completion flag per slot
+    private int size;
+    private boolean sharedWorkload; // The first six arrays may be shared with a fork
+    private long contextSwitches;   // Times the CPU was handed to a different process
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param initialCapacity The number of processes the table can hold before growing.
+     */
+    public ProcessTable(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 4);
+        this.pids = new int[capacity];
+        this.arrivalTimes = new int[capacity];
+        this.burstTimes = new int[capacity];
+        this.priorities = new int[capacity];
+        this.deadlines = new int[capacity];
+        Arrays.fill(deadlines, Process.NO_DEADLINE);
+        this.periods = new int[capacity];
+        this.remainingTimes = new int[capacity];
+        this.completionTimes = new int[capacity];
+        this.waitingTimes = new int[capacity];
+        this.turnAroundTimes = new int[capacity];
+        this.responseTimes = new int[capacity];
+        Arrays.fill(responseTimes, -1);
+        this.completed = new BitSet(capacity);
+    }
+
+    /**
+     * Constructs a table from arrival times, burst times and priorities. Process IDs are
+     * assigned in order starting at 1. The arrays are copied, so the caller may reuse them.
+     *
+     * @param arrivalTimes The arrival time of each process.
+     * @param burstTimes   The burst time of each process.
+     * @param priorities   The priority of each process, or null for all zero.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public ProcessTable(int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        this(arrivalTimes, burstTimes, priorities, true);
+    }
+
+    private ProcessTable(int[] arrivalTimes, int[] burstTimes, int[] priorities, boolean copy) {
+        if (arrivalTimes.length != burstTimes.length || (priorities != null && priorities.length != burstTimes.length)) {
+            throw new IllegalArgumentException("Input arrays or lists must have the same size.");
+        }
+        int n = arrivalTimes.length;
+        this.size = n;
+        this.pids = new int[Math.max(n, 4)];
+        for (int slot = 0; slot < n; slot++) {
+            pids[slot] = slot + 1;
+        }
+        boolean adopt = !copy && n == pids.length;
+        this.arrivalTimes = adopt ? arrivalTimes : Arrays.copyOf(arrivalTimes, pids.length);
+        this.burstTimes = adopt ? burstTimes : Arrays.copyOf(burstTimes, pids.length);
+        this.priorities = priorities == null ? new int[pids.length]
+                : adopt ? priorities : Arrays.copyOf(priorities, pids.length);
+        this.deadlines = new int[pids.length];
+        Arrays.fill(deadlines, Process.NO_DEADLINE);
+        this.periods = new int[pids.length];
+        this.remainingTimes = Arrays.copyOf(burstTimes, pids.length);
+        this.completionTimes = new int[pids.length];
+        this.waitingTimes = new int[pids.length];
+        this.turnAroundTimes = new int[pids.length];
+        this.responseTimes = new int[pids.length];
+        Arrays.fill(responseTimes, -1);
+        this.completed = new BitSet(pids.length);
+    }
+
+    /**
+     * Creates a table from arrival times, burst times and priorities like the constructor, but
+     * takes ownership of the arrays instead of copying them, which halves the memory needed
+     * for very large workloads. The arrays become part of the table, so the caller must not
+     * use them afterwards.
+     *
+     * @param arrivalTimes The arrival time of each process.
+     * @param burstTimes   The burst time of each process.
+     * @param priorities   The priority of each process, or null for all zero.
+     * @return A new table backed by the arrays.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ProcessTable wrap(int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        return new ProcessTable(arrivalTimes, burstTimes, priorities, false);
+    }
+
+    /**
+     * Creates a table holding the same processes, in the same slots, as the given array,
+     * including their current timing state.
+     *
+     * @param processes The processes to copy.
+     * @return A new table with one slot per process.
+     */
+    public static ProcessTable of(Process[] processes) {
+        ProcessTable table = new ProcessTable(processes.length);
+        for (Process process : processes) {
+            int slot = table.add(process.getPid(), process.getArrivalTime(), process.getBurstTime(), process.getPriority(),
+                    process.getDeadline(), process.getPeriod());
+            table.remainingTimes[slot] = process.getRemainingTime();
+            table.completionTimes[slot] = process.getCompletionTime();
+            table.waitingTimes[slot] = process.getWaitingTime();
+            table.turnAroundTimes[slot] = process.getTurnAroundTime();
+            table.completed.set(slot, process.isCompleted());
+            if (process.isCompleted()) {
+                table.responseTimes[slot] = process.getWaitingTime();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Creates a table over the same processes in their initial state. The workload arrays
+     * are shared until either table modifies them, so forking costs only the scheduling
+     * state, and the two tables can be scheduled on different threads.
+     *
+     * @return A new table with the same processes in the same slots.
+     */
+    public ProcessTable fork() {
+        sharedWorkload = true;
+        return new ProcessTable(this);
+    }
+
+    private ProcessTable(ProcessTable original) {
+        int capacity = original.pids.length;
+        this.size = original.size;
+        this.pids = original.pids;
+        this.arrivalTimes = original.arrivalTimes;
+        this.burstTimes = original.burstTimes;
+        this.priorities = original.priorities;
+        this.deadlines = original.deadlines;
+        this.periods = original.periods;
+        this.remainingTimes = Arrays.copyOf(original.burstTimes, capacity);
+        this.completionTimes = new int[capacity];
+        this.waitingTimes = new int[capacity];
+        this.turnAroundTimes = new int[capacity];
+        this.responseTimes = new int[capacity];
+        Arrays.fill(responseTimes, -1);
+        this.completed = new BitSet(capacity);
+        this.sharedWorkload = true;
+    }
+
+    /**
+     * Appends a process to the table, growing the arrays geometrically when they are full.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The arrival time of the process.
+     * @param burstTime   The burst time of the process.
+     * @param priority    The priority of the process.
+     * @return The slot assigned to the process.
+     */
+    public int add(int pid, int arrivalTime, int burstTime, int priority) {
+        return add(pid, arrivalTime, burstTime, priority, Process.NO_DEADLINE, 0);
+    }
+
+    /**
+     * Appends a real-time process to the table, e.g. one job of a periodic task.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The arrival time of the process.
+     * @param burstTime   The burst time of the process.
+     * @param priority    The priority of the process.
+     * @param deadline    The absolute deadline of the process, or Process.NO_DEADLINE.
+     * @param period      The period of the task releasing the process, or 0 if aperiodic.
+     * @return The slot assigned to the process.
+     */
+    public int add(int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+        if (size == pids.length) {
+            grow(size + (size >> 1) + 1);
+        }
+        int slot = size++;
+        load(slot, pid, arrivalTime, burstTime, priority, deadline, period);
+        return slot;
+    }
+
+    /**
+     * Overwrites an existing slot with a new process in its initial state. Used to recycle
+     * the slots of released processes.
+     *
+     * @param slot        The slot to overwrite.
+     * @param pid         The process ID.
+     * @param arrivalTime The arrival time of the process.
+     * @param burstTime   The burst time of the process.
+     * @param priority    The priority of the process.
+     */
+    void load(int slot, int pid, int arrivalTime, int burstTime, int priority) {
+        load(slot, pid, arrivalTime, burstTime, priority, Process.NO_DEADLINE, 0);
+    }
+
+    void load(int slot, int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+        unshare();
+        pids[slot] = pid;
+        arrivalTimes[slot] = arrivalTime;
+        burstTimes[slot] = burstTime;
+        priorities[slot] = priority;
+        deadlines[slot] = deadline;
+        periods[slot] = period;
+        remainingTimes[slot] = burstTime;
+        completionTimes[slot] = 0;
+        waitingTimes[slot] = 0;
+        turnAroundTimes[slot] = 0;
+        responseTimes[slot] = -1;
+        completed.clear(slot);
+    }
+
+    /**
+     * Returns the number of processes in the table.
+     *
+     * @return The number of occupied slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the process ID.
+     *
+     * @param slot The slot of the process.
+     * @return The unique identifier for the process.
+     */
+    public int getPid(int slot) {
+        return pids[slot];
+    }
+
+    /**
+     * Returns the arrival time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The time at which the process arrives in the ready queue.
+     */
+    public int getArrivalTime(int slot) {
+        return arrivalTimes[slot];
+    }
+
+    /**
+     * Returns the burst time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The time required for the process to complete execution.
+     */
+    public int getBurstTime(int slot) {
+        return burstTimes[slot];
+    }
+
+    /**
+     * Returns the priority of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The priority level of the process.
+     */
+    public int getPriority(int slot) {
+        return priorities[slot];
+    }
+
+    /**
+     * Returns the absolute deadline of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The time by which the process should complete, or Process.NO_DEADLINE.
+     */
+    public int getDeadline(int slot) {
+        return deadlines[slot];
+    }
+
+    /**
+     * Returns the period of the task that released a process.
+     *
+     * @param slot The slot of the process.
+     * @return The period, or 0 if the process is aperiodic.
+     */
+    public int getPeriod(int slot) {
+        return periods[slot];
+    }
+
+    /**
+     * Returns the remaining time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The remaining time for the process to complete execution.
+     */
+    public int getRemainingTime(int slot) {
+        return remainingTimes[slot];
+    }
+
+    /**
+     * Returns the completion time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The time at which the process completes execution.
+     */
+    public int getCompletionTime(int slot) {
+        return completionTimes[slot];
+    }
+
+    /**
+     * Returns the waiting time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The total time the process has been in the ready queue.
+     */
+    public int getWaitingTime(int slot) {
+        return waitingTimes[slot];
+    }
+
+    /**
+     * Returns the turnaround time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The total time taken from arrival to completion.
+     */
+    public int getTurnAroundTime(int slot) {
+        return turnAroundTimes[slot];
+    }
+
+    /**
+     * Returns the response time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The time from arrival until the process first ran, or -1 if it has not run yet.
+     */
+    public int getResponseTime(int slot) {
+        return responseTimes[slot];
+    }
+
+    /**
+     * Returns the number of context switches of the last run, i.e. how often the CPU was
+     * handed to a different process than the one that ran before.
+     *
+     * @return The number of context switches.
+     */
+    public long getContextSwitchCount() {
+        return contextSwitches;
+    }
+
+    /**
+     * Checks if a process has completed execution.
+     *
+     * @param slot The slot of the process.
+     * @return true if the process is completed, false otherwise.
+     */
+    public boolean isCompleted(int slot) {
+        return completed.get(slot);
+    }
+
+    /**
+     * Sets the priority of a process.
+     *
+     * @param slot     The slot of the process.
+     * @param priority The new priority level of the process.
+     */
+    void setPriority(int slot, int priority) {
+        if (priorities[slot] != priority) {
+            unshare();
+        }
+        priorities[slot] = priority;
+    }
+
+    /**
+     * Sets the remaining time of a process.
+     *
+     * @param slot The slot of the process.
+     * @param time The remaining time for the process to complete execution.
+     */
+    void setRemainingTime(int slot, int time) {
+        remainingTimes[slot] = time;
+    }
+
+    /**
+     * Records the first time a process starts executing. Later calls are ignored.
+     *
+     * @param slot      The slot of the process.
+     * @param startTime The time at which the process starts executing.
+     */
+    void start(int slot, int startTime) {
+        if (responseTimes[slot] < 0) {
+            responseTimes[slot] = startTime - arrivalTimes[slot];
+        }
+    }
+
+    /**
+     * Counts one context switch of the current run.
+     */
+    void countContextSwitch() {
+        contextSwitches++;
+    }
+
+    /**
+     * Sets the number of context switches of the current run.
+     *
+     * @param count The number of context switches.
+     */
+    void setContextSwitchCount(long count) {
+        contextSwitches = count;
+    }
+
+    /**
+     * Marks a process as completed and derives its turnaround and waiting times. A process
+     * that was never started through start() is taken to have run without interruption, so
+     * its response time equals its waiting time.
+     *
+     * @param slot           The slot of the process.
+     * @param completionTime The time at which the process completed.
+     */
+    void complete(int slot, int completionTime) {
+        completionTimes[slot] = completionTime;
+        turnAroundTimes[slot] = completionTime - arrivalTimes[slot];
+        waitingTimes[slot] = turnAroundTimes[slot] - burstTimes[slot];
+        if (responseTimes[slot] < 0) {
+            responseTimes[slot] = waitingTimes[slot];
+        }
+        completed.set(slot);
+    }
+
+    /**
+     * Returns the backing array of arrival times. Only the first size() entries are valid.
+     */
+    int[] arrivalTimes() {
+        return arrivalTimes;
+    }
+
+    /**
+     * Returns the backing array of burst times. Only the first size() entries are valid.
+     */
+    int[] burstTimes() {
+        return burstTimes;
+    }
+
+    /**
+     * Resets every process to its initial state: remaining time equal to burst time,
+     * timing metrics cleared and not completed.
+     */
+    public void reset() {
+        System.arraycopy(burstTimes, 0, remainingTimes, 0, size);
+        Arrays.fill(completionTimes, 0, size, 0);
+        Arrays.fill(waitingTimes, 0, size, 0);
+        Arrays.fill(turnAroundTimes, 0, size, 0);
+        Arrays.fill(responseTimes, 0, size, -1);
+        completed.clear();
+        contextSwitches = 0;
+    }
+
+    /**
+     * Returns a reusable read-only view positioned on the first slot.
+     *
+     * @return A view over this table.
+     */
+    public ProcessView view() {
+        return new ProcessView(this);
+    }
+
+    /**
+     * Materializes the table as Process objects, one per slot and in slot order, carrying
+     * the current timing state.
+     *
+     * @return A new array of processes.
+     */
+    public Process[] toProcesses() {
+        Process[] processes = new Process[size];
+        for (int slot = 0; slot < size; slot++) {
+            Process process = new Process(pids[slot], arrivalTimes[slot], burstTimes[slot], priorities[slot],
+                    deadlines[slot], periods[slot]);
+            process.setRemainingTime(remainingTimes[slot]);
+            process.setCompletionTime(completionTimes[slot]);
+            process.setWaitingTime(waitingTimes[slot]);
+            process.setTurnAroundTime(turnAroundTimes[slot]);
+            process.setCompleted(completed.get(slot));
+            processes[slot] = process;
+        }
+        return processes;
+    }
+
+    /**
+     * Writes the timing state of the table into processes that occupy the same slots.
+     *
+     * @param processes The processes to update, in slot order.
+     */
+    public void copyTo(Process[] processes) {
+        for (int slot = 0; slot < size; slot++) {
+            Process process = processes[slot];
+            process.setPriority(priorities[slot]);
+            process.setRemainingTime(remainingTimes[slot]);
+            process.setCompletionTime(completionTimes[slot]);
+            process.setWaitingTime(waitingTimes[slot]);
+            process.setTurnAroundTime(turnAroundTimes[slot]);
+            process.setCompleted(completed.get(slot));
+        }
+    }
+
+    /**
+     * Reads the timing state of processes that occupy the same slots back into the table.
+     * Process objects do not record when they first ran, so the response time of every
+     * completed process is taken to be its waiting time.
+     *
+     * @param processes The processes to read, in slot order.
+     */
+    public void copyFrom(Process[] processes) {
+        for (int slot = 0; slot < size; slot++) {
+            Process process = processes[slot];
+            setPriority(slot, process.getPriority());
+            remainingTimes[slot] = process.getRemainingTime();
+            completionTimes[slot] = process.getCompletionTime();
+            waitingTimes[slot] = process.getWaitingTime();
+            turnAroundTimes[slot] = process.getTurnAroundTime();
+            completed.set(slot, process.isCompleted());
+            responseTimes[slot] = process.isCompleted() ? process.getWaitingTime() : -1;
+        }
+    }
+
+    /**
+     * Writes every slot, its workload and timing state, and the context switch count to a
+     * snapshot.
+     */
+    void writeTo(SnapshotWriter out) throws IOException {
+        out.writeInt(size);
+        out.writeLong(contextSwitches);
+        out.writeInts(pids, 0, size);
+        out.writeInts(arrivalTimes, 0, size);
+        out.writeInts(burstTimes, 0, size);
+        out.writeInts(priorities, 0, size);
+        out.writeInts(deadlines, 0, size);
+        out.writeInts(periods, 0, size);
+        out.writeInts(remainingTimes, 0, size);
+        out.writeInts(completionTimes, 0, size);
+        out.writeInts(waitingTimes, 0, size);
+        out.writeInts(turnAroundTimes, 0, size);
+        out.writeInts(responseTimes, 0, size);
+        long[] words = completed.toLongArray();
+        out.writeInt(words.length);
+        out.writeLongs(words, 0, words.length);
+    }
+
+    /**
+     * Reads a table written by writeTo().
+     *
+     * @param in The snapshot being read.
+     * @return A new table in the state it was written in.
+     */
+    static ProcessTable readFrom(SnapshotReader in) throws IOException {
+        int n = in.readCount();
+        ProcessTable table = new ProcessTable(n);
+        table.size = n;
+        table.contextSwitches = in.readLong();
+        in.readInts(table.pids, 0, n);
+        in.readInts(table.arrivalTimes, 0, n);
+        in.readInts(table.burstTimes, 0, n);
+        in.readInts(table.priorities, 0, n);
+        in.readInts(table.deadlines, 0, n);
+        in.readInts(table.periods, 0, n);
+        in.readInts(table.remainingTimes, 0, n);
+        in.readInts(table.completionTimes, 0, n);
+        in.readInts(table.waitingTimes, 0, n);
+        in.readInts(table.turnAroundTimes, 0, n);
+        in.readInts(table.responseTimes, 0, n);
+        long[] words = new long[in.readCount()];
+        in.readLongs(words, 0, words.length);
+        table.completed.or(BitSet.valueOf(words));
+        return table;
+    }
+
+    /**
+     * Gives this table its own copy of the workload arrays if they are shared with a fork.
+     */
+    private void unshare() {
+        if (sharedWorkload) {
+            sharedWorkload = false;
+            pids = pids.clone();
+            arrivalTimes = arrivalTimes.clone();
+            burstTimes = burstTimes.clone();
+            priorities = priorities.clone();
+            deadlines = deadlines.clone();
+            periods = periods.clone();
+        }
+    }
+
+    private void grow(int capacity) {
+        int old = pids.length;
+        sharedWorkload = false; // Every array is copied below
+        pids = Arrays.copyOf(pids, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        burstTimes = Arrays.copyOf(burstTimes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        Arrays.fill(deadlines, old, capacity, Process.NO_DEADLINE);
+        periods = Arrays.copyOf(periods, capacity);
+        remainingTimes = Arrays.copyOf(remainingTimes, capacity);
+        completionTimes = Arrays.copyOf(completionTimes, capacity);
+        waitingTimes = Arrays.copyOf(waitingTimes, capacity);
+        turnAroundTimes = Arrays.copyOf(turnAroundTimes, capacity);
+        responseTimes = Arrays.copyOf(responseTimes, capacity);
+    }
+}
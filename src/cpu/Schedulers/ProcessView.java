@@ -0,0 +1,149 @@
+package cpu.Schedulers;
+
+/**
+ * The ProcessView class is a lightweight, reusable read-only view of one slot of a
+ * ProcessTable. It exposes the same getters as Process, so code written against Process
+ * objects can read a table without materializing an object per process: move the view
+ * to a slot with at() and read it like a Process.
+ */
+public final class ProcessView {
+    private final ProcessTable table;
+    private int slot;
+
+    /**
+     * Constructs a view over the given table, positioned on the first slot.
+     *
+     * @param table The table to read.
+     */
+    public ProcessView(ProcessTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Moves the view to another slot.
+     *
+     * @param slot The slot to read.
+     * @return This view, for chaining.
+     */
+    public ProcessView at(int slot) {
+        this.slot = slot;
+        return this;
+    }
+
+    /**
+     * Returns the slot the view is positioned on.
+     *
+     * @return The current slot.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the process ID of the process at the current slot.
+     *
+     * @return The process ID.
+     */
+    public int getPid() {
+        return table.getPid(slot);
+    }
+
+    /**
+     * Returns the arrival time of the process at the current slot.
+     *
+     * @return The arrival time.
+     */
+    public int getArrivalTime() {
+        return table.getArrivalTime(slot);
+    }
+
+    /**
+     * Returns the burst time of the process at the current slot.
+     *
+     * @return The burst time.
+     */
+    public int getBurstTime() {
+        return table.getBurstTime(slot);
+    }
+
+    /**
+     * Returns the priority of the process at the current slot.
+     *
+     * @return The priority.
+     */
+    public int getPriority() {
+        return table.getPriority(slot);
+    }
+
+    /**
+     * Returns the absolute deadline of the process at the current slot.
+     *
+     * @return The deadline, or Process.NO_DEADLINE.
+     */
+    public int getDeadline() {
+        return table.getDeadline(slot);
+    }
+
+    /**
+     * Returns the period of the task that released the process at the current slot.
+     *
+     * @return The period, or 0 if the process is aperiodic.
+     */
+    public int getPeriod() {
+        return table.getPeriod(slot);
+    }
+
+    /**
+     * Returns the completion time of the process at the current slot.
+     *
+     * @return The completion time.
+     */
+    public int getCompletionTime() {
+        return table.getCompletionTime(slot);
+    }
+
+    /**
+     * Returns the turnaround time of the process at the current slot.
+     *
+     * @return The turnaround time.
+     */
+    public int getTurnAroundTime() {
+        return table.getTurnAroundTime(slot);
+    }
+
+    /**
+     * Returns the remaining time of the process at the current slot.
+     *
+     * @return The remaining time.
+     */
+    public int getRemainingTime() {
+        return table.getRemainingTime(slot);
+    }
+
+    /**
+     * Returns the waiting time of the process at the current slot.
+     *
+     * @return The waiting time.
+     */
+    public int getWaitingTime() {
+        return table.getWaitingTime(slot);
+    }
+
+    /**
+     * Returns the response time of the process at the current slot.
+     *
+     * @return The time from arrival until the process first ran, or -1 if it has not run yet.
+     */
+    public int getResponseTime() {
+        return table.getResponseTime(slot);
+    }
+
+    /**
+     * Checks if the process at the current slot has completed execution.
+     *
+     * @return true if the process is completed, false otherwise.
+     */
+    public boolean isCompleted() {
+        return table.isCompleted(slot);
+    }
+}
@@ -0,0 +1,59 @@
+package cpu.Schedulers;
+
+/**
+ * The PushMigration class balances cores periodically: at every interval it moves ready
+ * processes from the most loaded core to the least loaded one until their loads differ by
+ * no more than a threshold. Arrivals go to the least loaded core.
+ */
+public class PushMigration implements LoadBalancer {
+    private final int interval;
+    private final int threshold;
+
+    /**
+     * Constructs a push migration balancer.
+     *
+     * @param interval  The time between two balancing passes.
+     * @param threshold The difference in load between two cores that is tolerated.
+     * @throws IllegalArgumentException if the interval is not greater than 0 or the threshold is negative.
+     */
+    public PushMigration(int interval, int threshold) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Balance interval must be greater than 0.");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Imbalance threshold cannot be negative.");
+        }
+        this.interval = interval;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public int balanceInterval() {
+        return interval;
+    }
+
+    @Override
+    public void balance(CoreLoads loads) {
+        while (true) {
+            int busiest = 0;
+            int busiestLoad = -1;
+            int idlest = 0;
+            int idlestLoad = Integer.MAX_VALUE;
+            for (int core = 0; core < loads.getCoreCount(); core++) {
+                int load = LoadBalancer.load(loads, core);
+                if (load > busiestLoad) {
+                    busiest = core;
+                    busiestLoad = load;
+                }
+                if (load < idlestLoad) {
+                    idlest = core;
+                    idlestLoad = load;
+                }
+            }
+            // Moving one process changes the difference by two, so stop once that no longer helps
+            if (busiestLoad - idlestLoad <= Math.max(threshold, 1) || !loads.migrate(busiest, idlest)) {
+                return;
+            }
+        }
+    }
+}
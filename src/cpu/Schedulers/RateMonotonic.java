@@ -0,0 +1,73 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+
+/**
+ * The RateMonotonic class implements preemptive rate-monotonic scheduling of periodic tasks.
+ * Every job gets the static priority of its task, which is higher the shorter the period, and
+ * a newly released job preempts the running one when its period is strictly shorter. Among
+ * fixed-priority orders, rate-monotonic is optimal for tasks whose deadline equals their
+ * period. Aperiodic processes (period 0) run only when no periodic job is ready.
+ *
+ * Jobs are ranked by the period of their task alone, never by their deadline, so the order
+ * between two tasks is fixed before the run starts. Whether a task set meets its deadlines
+ * under this strategy can be checked up front with AdmissionController.rateMonotonic().
+ */
+public class RateMonotonic implements EventDrivenStrategy {
+
+    @Override
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(context);
+    }
+
+    /**
+     * Returns the priority key of a job; aperiodic processes sort after every periodic one.
+     */
+    private static long rate(SchedulingContext context, int slot) {
+        int period = context.getPeriod(slot);
+        return period > 0 ? period : Long.MAX_VALUE;
+    }
+
+    /**
+     * Keeps ready jobs in an indexed min-heap keyed on the period of their task.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final SchedulingContext context;
+        private final IndexedMinHeap ready;
+
+        Policy(SchedulingContext context) {
+            this.context = context;
+            this.ready = new IndexedMinHeap(context.size());
+        }
+
+        @Override
+        public void onArrival(int slot) {
+            ready.add(slot, rate(context, slot));
+        }
+
+        @Override
+        public int pickNext() {
+            return ready.poll();
+        }
+
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public boolean shouldPreempt(int running, int arrived) {
+            return rate(context, arrived) < rate(context, running);
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
+        }
+    }
+}
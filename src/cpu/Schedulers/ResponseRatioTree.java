@@ -0,0 +1,169 @@
+package cpu.Schedulers;
+
+import java.util.Arrays;
+
+/**
+ * The ResponseRatioTree class finds the waiting process with the highest response ratio
+ * without scanning every waiting process.
+ *
+ * The response ratio of process i at time t is (t - arrival + burst) / burst, a line in t
+ * with slope 1/burst. The class keeps the waiting processes in a kinetic tournament tree:
+ * every internal node stores the winner of its two children at the current time together
+ * with a certificate, the first time at which the loser overtakes the winner. Advancing the
+ * clock only revisits the nodes whose certificates have expired, so inserts, removals and
+ * queries cost polylogarithmic amortized time instead of O(n) per dispatch.
+ *
+ * Ratios are compared exactly with integer arithmetic, and equal ratios go to the lower
+ * slot, which matches a linear scan that keeps the first maximum it finds. Burst times are
+ * expected to be positive.
+ */
+final class ResponseRatioTree {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final int[] arrivalTimes;
+    private final int[] burstTimes;
+    private final int leaves;       // Number of leaves, a power of two
+    private final int[] winner;     // Winning slot per node, -1 when the subtree is empty
+    private final long[] failure;   // Earliest certificate failure in the subtree of each node
+    private long now;
+    private int size;
+
+    /**
+     * Constructs an empty tree for the first count slots of the given processes.
+     *
+     * @param arrivalTimes The arrival time of each slot.
+     * @param burstTimes   The burst time of each slot.
+     * @param count        The number of slots.
+     */
+    ResponseRatioTree(int[] arrivalTimes, int[] burstTimes, int count) {
+        this.arrivalTimes = arrivalTimes;
+        this.burstTimes = burstTimes;
+        this.leaves = Integer.highestOneBit(Math.max(count, 2) - 1) << 1;
+        this.winner = new int[2 * leaves];
+        this.failure = new long[2 * leaves];
+        Arrays.fill(winner, -1);
+        Arrays.fill(failure, NEVER);
+    }
+
+    /**
+     * Moves the clock forward and repairs every node whose certificate has expired.
+     *
+     * @param time The new time, which must not be earlier than the current one.
+     */
+    void advanceTo(long time) {
+        now = time;
+        if (failure[1] <= now) {
+            repair(1);
+        }
+    }
+
+    /**
+     * Adds a waiting process. The clock must already be advanced to the current time.
+     *
+     * @param slot The slot of the process.
+     */
+    void insert(int slot) {
+        int node = leaves + slot;
+        winner[node] = slot;
+        size++;
+        updatePath(node >>> 1);
+    }
+
+    /**
+     * Removes a waiting process. The clock must already be advanced to the current time.
+     *
+     * @param slot The slot of the process.
+     */
+    void remove(int slot) {
+        int node = leaves + slot;
+        winner[node] = -1;
+        size--;
+        updatePath(node >>> 1);
+    }
+
+    /**
+     * Returns the waiting process with the highest response ratio at the current time.
+     *
+     * @return The slot of the best process, or -1 if no process is waiting.
+     */
+    int best() {
+        return winner[1];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void repair(int node) {
+        if (node >= leaves || failure[node] > now) {
+            return;
+        }
+        repair(2 * node);
+        repair(2 * node + 1);
+        recompute(node);
+    }
+
+    private void updatePath(int node) {
+        while (node >= 1) {
+            recompute(node);
+            node >>>= 1;
+        }
+    }
+
+    private void recompute(int node) {
+        int left = winner[2 * node];
+        int right = winner[2 * node + 1];
+        long certificate = NEVER;
+
+        if (left == -1) {
+            winner[node] = right;
+        } else if (right == -1) {
+            winner[node] = left;
+        } else if (beats(left, right)) {
+            winner[node] = left;
+            certificate = overtakeTime(left, right);
+        } else {
+            winner[node] = right;
+            certificate = overtakeTime(right, left);
+        }
+
+        // Leaves keep NEVER, so this also holds for the nodes just above them
+        failure[node] = Math.min(certificate, Math.min(failure[2 * node], failure[2 * node + 1]));
+    }
+
+    /**
+     * Checks whether process x has a higher response ratio than process y at the current
+     * time, ties going to the lower slot.
+     */
+    private boolean beats(int x, int y) {
+        long bx = burstTimes[x];
+        long by = burstTimes[y];
+        long lhs = (now - arrivalTimes[x] + bx) * by;
+        long rhs = (now - arrivalTimes[y] + by) * bx;
+        return lhs > rhs || (lhs == rhs && x < y);
+    }
+
+    /**
+     * Returns the first time after now at which the loser overtakes the current winner.
+     *
+     * The sign of ratio(loser) - ratio(winner) follows s * t + c with
+     * s = burst(winner) - burst(loser), so the loser can only catch up when it is shorter.
+     */
+    private long overtakeTime(int winnerSlot, int loserSlot) {
+        long bw = burstTimes[winnerSlot];
+        long bl = burstTimes[loserSlot];
+        long s = bw - bl;
+        if (s <= 0) {
+            return NEVER;
+        }
+        long c = (bl - arrivalTimes[loserSlot]) * bw - (bw - arrivalTimes[winnerSlot]) * bl;
+        long time = loserSlot < winnerSlot
+                ? -Math.floorDiv(c, s)          // First t with s * t + c >= 0
+                : Math.floorDiv(-c, s) + 1;     // First t with s * t + c > 0
+        return Math.max(time, now + 1);
+    }
+}
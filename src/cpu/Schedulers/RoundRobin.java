@@ -1,77 +1,78 @@
 package cpu.Schedulers;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.IOException;
 
 /**
  * The RoundRobin class implements the Round Robin scheduling strategy.
  * It assigns a fixed time quantum to each process in the ready queue.
+ *
+ * The strategy runs on the event-driven SimulationEngine, which consumes arrivals through
+ * an arrival-sorted cursor and tracks every process by its array slot, so PIDs do not need
+ * to be dense. The run queue is a ring buffer of slots, which makes a run cost
+ * O(n log n + number of quanta). Processes that arrive while a quantum is running join the
+ * ready queue ahead of the process whose quantum expires.
  */
-public class RoundRobin implements Strategy {
+public class RoundRobin implements EventDrivenStrategy {
     private final int timeQuantum; // Time quantum for each process
 
     /**
      * Constructor to initialize the Round Robin scheduler with a specified time quantum.
      *
      * @param timeQuantum The time quantum for the Round Robin scheduling.
+     * @throws IllegalArgumentException if the time quantum is not positive.
      */
     public RoundRobin(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be greater than 0.");
+        }
         this.timeQuantum = timeQuantum;
     }
 
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        int n = processes.length;
-        Queue<Process> queue = new LinkedList<>();
-        
-        // Initialize variables
-        int currentTime = 0;
-        int completedProcesses = 0;
-        boolean[] isCompleted = new boolean[n];
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(timeQuantum, context.size());
+    }
+
+    /**
+     * Keeps ready processes in a FIFO ring buffer and slices them by the time quantum.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final int timeQuantum;
+        private final IntRingBuffer ready;
 
-        // Set initial remaining time for each process
-        for (Process process : processes) {
-            process.setRemainingTime(process.getBurstTime());
+        Policy(int timeQuantum, int capacity) {
+            this.timeQuantum = timeQuantum;
+            this.ready = new IntRingBuffer(capacity);
         }
 
-       // Main loop until all processes are completed
-        while (completedProcesses < n) {
-            // Add all processes that have arrived by current time to the queue
-            for (Process process : processes) {
-                if (process.getArrivalTime() <= currentTime && !isCompleted[process.getPid() - 1]) {
-                    if (!queue.contains(process)) {
-                        queue.add(process);
-                    }
-                }
-            }
+        @Override
+        public void onArrival(int slot) {
+            ready.addLast(slot);
+        }
 
-            if (!queue.isEmpty()) {
-                // Get the next process from the queue
-                Process currentProcess = queue.poll();
+        @Override
+        public int pickNext() {
+            return ready.pollFirst();
+        }
 
-                // Execute the process for the minimum of time quantum or remaining time
-                int timeToExecute = Math.min(timeQuantum, currentProcess.getRemainingTime());
-                currentProcess.setRemainingTime(currentProcess.getRemainingTime() - timeToExecute);
-                currentTime += timeToExecute;
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
 
-                // If the process is completed
-                if (currentProcess.getRemainingTime() == 0) {
-                    currentProcess.setCompletionTime(currentTime);
-                    currentProcess.setTurnAroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
-                    currentProcess.setWaitingTime(currentProcess.getTurnAroundTime() - currentProcess.getBurstTime());
-                    currentProcess.setCompleted(true);
-                    isCompleted[currentProcess.getPid() - 1] = true;
-                    completedProcesses++;
-                }
+        @Override
+        public int timeSlice(int slot) {
+            return timeQuantum;
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+        }
 
-                // Add context switching delay if there are still processes in the queue
-                if (!queue.isEmpty()) {
-                    currentTime += contextSwitchingDelay;
-                }
-            } else {
-                // If no process is ready, increment current time
-                currentTime++;
-            }
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
         }
     }
-}
\ No newline at end of file
+}
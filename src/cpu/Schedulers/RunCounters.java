@@ -0,0 +1,149 @@
+package cpu.Schedulers;
+
+import jdk.jfr.EventType;
+
+/**
+ * The RunCounters class counts what happens during one run of a scheduling loop and
+ * publishes it to SchedulerStats and to Flight Recorder. The loop only bumps plain fields;
+ * every BATCH_SIZE dispatches and at the end of the run, the counts since the last
+ * publication are added to SchedulerStats if it is enabled and committed as a
+ * DispatchBatchEvent if that event is being recorded. Event objects are only created while
+ * their event type is enabled in a recording, so with both off a run allocates nothing and
+ * a dispatch costs a few field updates and a compare.
+ */
+final class RunCounters {
+    /** Dispatches per DispatchBatchEvent. */
+    static final int BATCH_SIZE = 1024;
+
+    private static final EventType RUN_EVENT = EventType.getEventType(SchedulingRunEvent.class);
+    private static final EventType BATCH_EVENT = EventType.getEventType(DispatchBatchEvent.class);
+
+    private long dispatches;
+    private long preemptions;
+    private long contextSwitches;
+    private long idleTime;
+    private int batchRemaining;
+
+    // Totals at the last publication
+    private long publishedDispatches;
+    private long publishedPreemptions;
+    private long publishedContextSwitches;
+    private long publishedIdleTime;
+
+    private SchedulingRunEvent runEvent;     // Null while the event is not recorded
+    private DispatchBatchEvent batchEvent;   // Null while the event is not recorded
+
+    /**
+     * Starts counting a run from 0.
+     */
+    void begin() {
+        dispatches = 0;
+        preemptions = 0;
+        contextSwitches = 0;
+        idleTime = 0;
+        publishedDispatches = 0;
+        publishedPreemptions = 0;
+        publishedContextSwitches = 0;
+        publishedIdleTime = 0;
+        batchRemaining = BATCH_SIZE;
+        runEvent = null;
+        if (RUN_EVENT.isEnabled()) {
+            runEvent = new SchedulingRunEvent();
+            runEvent.begin();
+        }
+        beginBatch();
+    }
+
+    /**
+     * Counts a dispatch, publishing the batch it completes.
+     *
+     * @param ready         The number of processes still waiting for a CPU.
+     * @param simulatedTime The current simulated time.
+     */
+    void dispatched(int ready, long simulatedTime) {
+        dispatches++;
+        if (--batchRemaining == 0) {
+            publish(ready, simulatedTime);
+            batchRemaining = BATCH_SIZE;
+            beginBatch();
+        }
+    }
+
+    void preempted() {
+        preemptions++;
+    }
+
+    void contextSwitched() {
+        contextSwitches++;
+    }
+
+    void idle(long time) {
+        idleTime += time;
+    }
+
+    /**
+     * Publishes what is left and commits the event for the whole run.
+     *
+     * @param policy        The policy or strategy that ran, named in the event.
+     * @param processes     The number of processes of the run.
+     * @param cores         The number of simulated CPUs.
+     * @param ready         The number of processes still waiting for a CPU.
+     * @param simulatedTime The simulated time at the end of the run.
+     */
+    void end(Object policy, int processes, int cores, int ready, long simulatedTime) {
+        publish(ready, simulatedTime);
+        if (runEvent != null && runEvent.shouldCommit()) {
+            runEvent.strategy = strategyName(policy);
+            runEvent.processes = processes;
+            runEvent.cores = cores;
+            runEvent.dispatches = dispatches;
+            runEvent.preemptions = preemptions;
+            runEvent.contextSwitches = contextSwitches;
+            runEvent.idleTime = idleTime;
+            runEvent.simulatedTime = simulatedTime;
+            runEvent.commit();
+        }
+    }
+
+    private void publish(int ready, long simulatedTime) {
+        long newDispatches = dispatches - publishedDispatches;
+        long newPreemptions = preemptions - publishedPreemptions;
+        long newContextSwitches = contextSwitches - publishedContextSwitches;
+        long newIdleTime = idleTime - publishedIdleTime;
+        if (SchedulerStats.ENABLED) {
+            SchedulerStats.add(newDispatches, newPreemptions, newContextSwitches, newIdleTime);
+        }
+        if (newDispatches > 0 && batchEvent != null && batchEvent.shouldCommit()) {
+            batchEvent.dispatches = newDispatches;
+            batchEvent.preemptions = newPreemptions;
+            batchEvent.contextSwitches = newContextSwitches;
+            batchEvent.idleTime = newIdleTime;
+            batchEvent.ready = ready;
+            batchEvent.simulatedTime = simulatedTime;
+            batchEvent.commit();
+        }
+        publishedDispatches = dispatches;
+        publishedPreemptions = preemptions;
+        publishedContextSwitches = contextSwitches;
+        publishedIdleTime = idleTime;
+    }
+
+    private void beginBatch() {
+        batchEvent = null;
+        if (BATCH_EVENT.isEnabled()) {
+            batchEvent = new DispatchBatchEvent();
+            batchEvent.begin();
+        }
+    }
+
+    /**
+     * Names a strategy after its class, or after the class a policy is nested in.
+     */
+    private static String strategyName(Object policy) {
+        Class<?> type = policy.getClass();
+        while (type.getEnclosingClass() != null) {
+            type = type.getEnclosingClass();
+        }
+        return type.getSimpleName();
+    }
+}
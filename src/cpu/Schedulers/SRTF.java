@@ -1,14 +1,19 @@
 package cpu.Schedulers;
 
-import java.util.Comparator;
-import java.util.PriorityQueue;
+import java.io.IOException;
 
 /**
  * The SRTF (Shortest Remaining Time First) class implements the preemptive scheduling strategy.
  * In this strategy, the process with the shortest remaining burst time is given priority.
  * If a new process arrives with a shorter remaining time, it preempts the currently running process.
+ *
+ * The strategy runs on the event-driven SimulationEngine, so the clock jumps from one
+ * arrival or completion to the next instead of advancing one time unit at a time. Ready
+ * processes sit in an indexed min-heap keyed on remaining time, and the running process is
+ * only preempted when a newly arrived process is strictly shorter, so each process enters
+ * and leaves the heap O(1) times per preemption and every scheduling step costs O(log n).
  */
-public class SRTF implements Strategy {
+public class SRTF implements EventDrivenStrategy {
 
     /**
      * Executes the SRTF scheduling algorithm on the given processes.
@@ -17,59 +22,50 @@ public class SRTF implements Strategy {
      * @param contextSwitchingDelay  The time delay incurred during context switching.
      */
     @Override
-    public void execute(Process[] processes, int contextSwitchingDelay) {
-        int n = processes.length;
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(context);
+    }
 
-        // Priority queue to select the process with the shortest remaining time
-        PriorityQueue<Process> queue = new PriorityQueue<>(Comparator.comparingInt(Process::getRemainingTime));
+    /**
+     * Keeps ready processes in an indexed min-heap keyed on remaining time, ties broken by slot.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final SchedulingContext context;
+        private final IndexedMinHeap ready;
 
-        // Initialize time and track completed processes
-        int currentTime = 0;
-        int completedProcesses = 0;
+        Policy(SchedulingContext context) {
+            this.context = context;
+            this.ready = new IndexedMinHeap(context.size());
+        }
 
-        // Set initial remaining time for each process and initialize completion status
-        for (Process process : processes) {
-            process.setRemainingTime(process.getBurstTime());
-            process.setCompleted(false); // Ensure all processes are marked as incomplete
+        @Override
+        public void onArrival(int slot) {
+            ready.add(slot, context.getRemainingTime(slot));
         }
 
-        // Execute until all processes are completed
-        while (completedProcesses < n) {
-            // Add processes that have arrived by the current time to the queue
-            for (Process process : processes) {
-                if (process.getArrivalTime() <= currentTime && !process.isCompleted() && !queue.contains(process)) {
-                    queue.add(process);
-                }
-            }
+        @Override
+        public int pickNext() {
+            return ready.poll();
+        }
 
-            if (!queue.isEmpty()) {
-                // Select the process with the shortest remaining time
-                Process currentProcess = queue.poll();
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
 
-                // Execute the process for 1 time unit
-                currentProcess.setRemainingTime(currentProcess.getRemainingTime() - 1);
-                currentTime++;
+        @Override
+        public boolean shouldPreempt(int running, int arrived) {
+            return context.getRemainingTime(arrived) < context.getRemainingTime(running);
+        }
 
-                // If the process is completed, update its metrics
-                if (currentProcess.getRemainingTime() == 0) {
-                    currentProcess.setCompleted(true);
-                    currentProcess.setCompletionTime(currentTime);
-                    currentProcess.setTurnAroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
-                    currentProcess.setWaitingTime(currentProcess.getTurnAroundTime() - currentProcess.getBurstTime());
-                    completedProcesses++;
-                } else {
-                    // If the process is not completed, re-add it to the queue
-                    queue.add(currentProcess);
-                }
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+        }
 
-                // Add context switching delay if there are more processes in the queue
-                if (!queue.isEmpty()) {
-                    currentTime += contextSwitchingDelay;
-                }
-            } else {
-                // If no process is ready, increment the current time
-                currentTime++;
-            }
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
         }
     }
 }
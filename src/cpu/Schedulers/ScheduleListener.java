@@ -0,0 +1,42 @@
+package cpu.Schedulers;
+
+/**
+ * The ScheduleListener interface is notified by the simulation engines every time a process
+ * gets a CPU, loses it or completes. All arguments are primitives, so notifying a listener
+ * never allocates, and an engine without a listener only pays for a null check.
+ *
+ * A slice of execution runs from the time passed to onDispatch to the time passed to the
+ * following onPreempt or onComplete for the same core. A process that is preempted during
+ * its context switch produces a slice that ends before it starts, which listeners should
+ * ignore.
+ */
+public interface ScheduleListener {
+
+    /**
+     * Called when a process is handed a CPU.
+     *
+     * @param core The index of the core, 0 on a single CPU.
+     * @param pid  The process ID.
+     * @param time The time the process starts executing, after any context switching delay.
+     */
+    void onDispatch(int core, int pid, int time);
+
+    /**
+     * Called when a process loses its CPU before completing, because it was preempted or
+     * its time quantum expired.
+     *
+     * @param core The index of the core, 0 on a single CPU.
+     * @param pid  The process ID.
+     * @param time The time the process stops executing.
+     */
+    void onPreempt(int core, int pid, int time);
+
+    /**
+     * Called when a process completes.
+     *
+     * @param core The index of the core, 0 on a single CPU.
+     * @param pid  The process ID.
+     * @param time The completion time of the process.
+     */
+    void onComplete(int core, int pid, int time);
+}
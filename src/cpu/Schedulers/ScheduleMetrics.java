@@ -0,0 +1,243 @@
+package cpu.Schedulers;
+
+/**
+ * The ScheduleMetrics class is a summary of one scheduling run, computed in a single pass
+ * over a ProcessTable. All sums are long, so they do not overflow on large workloads.
+ *
+ * Averages are taken over every process of the table, as the scheduler always reported them.
+ * The same pass fills histograms of the waiting, response and turnaround times, from which
+ * tail percentiles such as p99 can be read. Processes with a deadline are also counted, with
+ * the number of deadline misses and the longest lateness among them.
+ */
+public final class ScheduleMetrics {
+    private final long processCount;
+    private final long totalBurstTime;
+    private final long totalWaitingTime;
+    private final long totalTurnaroundTime;
+    private final long totalResponseTime;
+    private final int maxWaitingTime;
+    private final int lastCompletionTime;
+    private final long contextSwitchCount;
+    private final long deadlineCount;      // Processes that have a deadline
+    private final long deadlineMissCount;  // Processes that completed after their deadline
+    private final int maxLateness;         // Longest time a process completed after its deadline
+    private final LogLinearHistogram waitingTimes;
+    private final LogLinearHistogram responseTimes;
+    private final LogLinearHistogram turnaroundTimes;
+
+    private ScheduleMetrics(long processCount, long totalBurstTime, long totalWaitingTime,
+                            long totalTurnaroundTime, long totalResponseTime, int maxWaitingTime,
+                            int lastCompletionTime, long contextSwitchCount, long deadlineCount,
+                            long deadlineMissCount, int maxLateness, LogLinearHistogram waitingTimes,
+                            LogLinearHistogram responseTimes, LogLinearHistogram turnaroundTimes) {
+        this.processCount = processCount;
+        this.totalBurstTime = totalBurstTime;
+        this.totalWaitingTime = totalWaitingTime;
+        this.totalTurnaroundTime = totalTurnaroundTime;
+        this.totalResponseTime = totalResponseTime;
+        this.maxWaitingTime = maxWaitingTime;
+        this.lastCompletionTime = lastCompletionTime;
+        this.contextSwitchCount = contextSwitchCount;
+        this.deadlineCount = deadlineCount;
+        this.deadlineMissCount = deadlineMissCount;
+        this.maxLateness = maxLateness;
+        this.waitingTimes = waitingTimes;
+        this.responseTimes = responseTimes;
+        this.turnaroundTimes = turnaroundTimes;
+    }
+
+    /**
+     * Summarizes the results held in a table.
+     *
+     * @param table The table after a scheduling run.
+     * @return The metrics of the run.
+     */
+    public static ScheduleMetrics of(ProcessTable table) {
+        long totalBurstTime = 0;
+        long totalWaitingTime = 0;
+        long totalTurnaroundTime = 0;
+        long totalResponseTime = 0;
+        int maxWaitingTime = 0;
+        int lastCompletionTime = 0;
+        long deadlineCount = 0;
+        long deadlineMissCount = 0;
+        int maxLateness = 0;
+        LogLinearHistogram waitingTimes = new LogLinearHistogram();
+        LogLinearHistogram responseTimes = new LogLinearHistogram();
+        LogLinearHistogram turnaroundTimes = new LogLinearHistogram();
+
+        for (int slot = 0; slot < table.size(); slot++) {
+            int waitingTime = table.getWaitingTime(slot);
+            int turnaroundTime = table.getTurnAroundTime(slot);
+            int responseTime = Math.max(0, table.getResponseTime(slot));
+            totalBurstTime += table.getBurstTime(slot);
+            totalWaitingTime += waitingTime;
+            totalTurnaroundTime += turnaroundTime;
+            totalResponseTime += responseTime;
+            maxWaitingTime = Math.max(maxWaitingTime, waitingTime);
+            lastCompletionTime = Math.max(lastCompletionTime, table.getCompletionTime(slot));
+            waitingTimes.record(Math.max(0, waitingTime));
+            responseTimes.record(responseTime);
+            turnaroundTimes.record(Math.max(0, turnaroundTime));
+
+            int deadline = table.getDeadline(slot);
+            if (deadline != Process.NO_DEADLINE) {
+                deadlineCount++;
+                int lateness = table.getCompletionTime(slot) - deadline;
+                if (table.isCompleted(slot) && lateness > 0) {
+                    deadlineMissCount++;
+                    maxLateness = Math.max(maxLateness, lateness);
+                }
+            }
+        }
+
+        return new ScheduleMetrics(table.size(), totalBurstTime, totalWaitingTime, totalTurnaroundTime,
+                totalResponseTime, maxWaitingTime, lastCompletionTime, table.getContextSwitchCount(),
+                deadlineCount, deadlineMissCount, maxLateness, waitingTimes, responseTimes, turnaroundTimes);
+    }
+
+    /**
+     * Returns the number of processes summarized.
+     *
+     * @return The number of processes.
+     */
+    public long getProcessCount() {
+        return processCount;
+    }
+
+    /**
+     * Returns the time at which the last process completed.
+     *
+     * @return The latest completion time.
+     */
+    public int getLastCompletionTime() {
+        return lastCompletionTime;
+    }
+
+    /**
+     * Returns the longest time any process waited in the ready queue.
+     *
+     * @return The maximum waiting time.
+     */
+    public int getMaxWaitingTime() {
+        return maxWaitingTime;
+    }
+
+    /**
+     * Returns how often the CPU was handed to a different process than the one that ran before.
+     *
+     * @return The number of context switches.
+     */
+    public long getContextSwitchCount() {
+        return contextSwitchCount;
+    }
+
+    /**
+     * Returns the number of processes that completed after their deadline.
+     *
+     * @return The number of deadline misses.
+     */
+    public long getDeadlineMissCount() {
+        return deadlineMissCount;
+    }
+
+    /**
+     * Returns the longest time any process completed after its deadline.
+     *
+     * @return The maximum lateness, 0 if no deadline was missed.
+     */
+    public int getMaxLateness() {
+        return maxLateness;
+    }
+
+    /**
+     * Calculates the share of the processes with a deadline that missed it.
+     *
+     * @return The deadline miss ratio, 0 if no process has a deadline.
+     */
+    public double deadlineMissRatio() {
+        return deadlineCount > 0 ? (double) deadlineMissCount / deadlineCount : 0;
+    }
+
+    /**
+     * Returns the distribution of the waiting times.
+     *
+     * @return The waiting time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getWaitingTimeHistogram() {
+        return waitingTimes;
+    }
+
+    /**
+     * Returns the distribution of the response times.
+     *
+     * @return The response time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getResponseTimeHistogram() {
+        return responseTimes;
+    }
+
+    /**
+     * Returns the distribution of the turnaround times.
+     *
+     * @return The turnaround time histogram, which must not be modified.
+     */
+    public LogLinearHistogram getTurnaroundTimeHistogram() {
+        return turnaroundTimes;
+    }
+
+    /**
+     * Calculates the efficiency of the scheduling.
+     *
+     * @return The total burst time divided by the time of the last completion.
+     */
+    public double efficiency() {
+        return (double) totalBurstTime / lastCompletionTime;
+    }
+
+    /**
+     * Calculates the throughput of the scheduling.
+     *
+     * @return The number of processes completed per unit of time.
+     */
+    public double throughput() {
+        return (double) processCount / lastCompletionTime;
+    }
+
+    /**
+     * Calculates the average waiting time of the processes.
+     *
+     * @return The average waiting time as a double value.
+     */
+    public double averageWaitingTime() {
+        return (double) totalWaitingTime / processCount;
+    }
+
+    /**
+     * Calculates the average turnaround time of the processes.
+     *
+     * @return The average turnaround time as a double value.
+     */
+    public double averageTurnaroundTime() {
+        return (double) totalTurnaroundTime / processCount;
+    }
+
+    /**
+     * Calculates the average response time of the processes, i.e. the time from arrival
+     * until a process first ran.
+     *
+     * @return The average response time as a double value.
+     */
+    public double averageResponseTime() {
+        return (double) totalResponseTime / processCount;
+    }
+
+    /**
+     * Calculates the CPU utilization based on the total burst time and the total time the CPU was busy.
+     *
+     * @return The CPU utilization as a percentage.
+     */
+    public double cpuUtilization() {
+        return (lastCompletionTime > 0) ? (double) totalBurstTime / lastCompletionTime * 100 : 0;
+    }
+}
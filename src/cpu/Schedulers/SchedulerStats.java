@@ -0,0 +1,83 @@
+package cpu.Schedulers;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The SchedulerStats class holds process-wide counters of what the CPU scheduling
+ * simulations did: dispatches, preemptions, context switches and idle time, summed over
+ * every run on every thread. They show where a slow sweep spends its time without a profiler
+ * attached, and complement the SchedulingRunEvent and DispatchBatchEvent Flight Recorder
+ * events, which break the same numbers down per run.
+ *
+ * The counters are off by default and are switched on for the whole JVM with
+ * -Dschedulers.stats=true. Engines count in plain fields of their own and add to the
+ * counters once every RunCounters.BATCH_SIZE dispatches and at the end of a run, and the
+ * counters are striped LongAdders, so parallel sweeps do not contend on them. When they are
+ * off, the check is a constant the JIT folds away.
+ */
+public final class SchedulerStats {
+    /** Whether the counters are updated, from the schedulers.stats system property. */
+    public static final boolean ENABLED = Boolean.getBoolean("schedulers.stats");
+
+    private static final LongAdder DISPATCHES = new LongAdder();
+    private static final LongAdder PREEMPTIONS = new LongAdder();
+    private static final LongAdder CONTEXT_SWITCHES = new LongAdder();
+    private static final LongAdder IDLE_TIME = new LongAdder();
+
+    private SchedulerStats() {
+    }
+
+    /**
+     * Returns the number of times a process was given a CPU.
+     *
+     * @return The dispatch count.
+     */
+    public static long getDispatchCount() {
+        return DISPATCHES.sum();
+    }
+
+    /**
+     * Returns the number of times a running process lost its CPU before completing, because
+     * of a preemption or an expired time quantum.
+     *
+     * @return The preemption count.
+     */
+    public static long getPreemptionCount() {
+        return PREEMPTIONS.sum();
+    }
+
+    /**
+     * Returns the number of times a CPU switched to a different process.
+     *
+     * @return The context switch count.
+     */
+    public static long getContextSwitchCount() {
+        return CONTEXT_SWITCHES.sum();
+    }
+
+    /**
+     * Returns the simulated time CPUs spent with nothing to run, summed over the CPUs.
+     *
+     * @return The idle time.
+     */
+    public static long getIdleTime() {
+        return IDLE_TIME.sum();
+    }
+
+    /**
+     * Sets every counter back to 0.
+     */
+    public static void reset() {
+        DISPATCHES.reset();
+        PREEMPTIONS.reset();
+        CONTEXT_SWITCHES.reset();
+        IDLE_TIME.reset();
+    }
+
+    static void add(long dispatches, long preemptions, long contextSwitches, long idleTime) {
+        DISPATCHES.add(dispatches);
+        PREEMPTIONS.add(preemptions);
+        CONTEXT_SWITCHES.add(contextSwitches);
+        IDLE_TIME.add(idleTime);
+    }
+}
@@ -0,0 +1,75 @@
+package cpu.Schedulers;
+
+/**
+ * The SchedulingContext interface is the view of a simulation that a SchedulingPolicy
+ * makes its decisions on: the clock and the attributes of the processes it is handed.
+ *
+ * The SimulationEngine is the context of a single CPU. On the MultiCoreEngine every core
+ * is its own context, and the slots a policy sees are numbered per core.
+ */
+public interface SchedulingContext {
+
+    /**
+     * Returns the current simulated time.
+     *
+     * @return The current time of the simulation clock.
+     */
+    int getCurrentTime();
+
+    /**
+     * Returns the number of slots the policy should size its ready queue for. Ready queues
+     * must still grow when a larger slot is handed to them.
+     *
+     * @return The expected number of slots.
+     */
+    int size();
+
+    /**
+     * Returns the remaining time of a process at the current time, including the progress
+     * made since it was dispatched if it is running.
+     *
+     * @param slot The slot of the process.
+     * @return The remaining execution time of the process.
+     */
+    int getRemainingTime(int slot);
+
+    /**
+     * Returns the arrival time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The arrival time of the process.
+     */
+    int getArrivalTime(int slot);
+
+    /**
+     * Returns the burst time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The burst time of the process.
+     */
+    int getBurstTime(int slot);
+
+    /**
+     * Returns the priority of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The priority of the process.
+     */
+    int getPriority(int slot);
+
+    /**
+     * Returns the absolute deadline of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The deadline of the process, or Process.NO_DEADLINE.
+     */
+    int getDeadline(int slot);
+
+    /**
+     * Returns the period of the task that released a process.
+     *
+     * @param slot The slot of the process.
+     * @return The period of the process, or 0 if it is aperiodic.
+     */
+    int getPeriod(int slot);
+}
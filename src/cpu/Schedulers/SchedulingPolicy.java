@@ -0,0 +1,84 @@
+package cpu.Schedulers;
+
+/**
+ * The SchedulingPolicy interface holds the decisions of a strategy that runs on the
+ * SimulationEngine. The engine owns the clock and the event queue; the policy owns the
+ * ready queue and decides which process runs next, for how long, and whether a newly
+ * arrived process should preempt the running one.
+ *
+ * Processes are identified by their slot, i.e. their index in the array handed to the
+ * engine, never by PID.
+ */
+public interface SchedulingPolicy {
+
+    /**
+     * Called when a process arrives and becomes ready for the first time.
+     *
+     * @param slot The slot of the arriving process.
+     */
+    void onArrival(int slot);
+
+    /**
+     * Removes and returns the next process to run.
+     *
+     * @return The slot of the next process, or -1 if no process is ready.
+     */
+    int pickNext();
+
+    /**
+     * Checks whether any process is waiting in the ready queue.
+     *
+     * @return true if at least one process is ready, false otherwise.
+     */
+    boolean hasReady();
+
+    /**
+     * Returns the longest time the given process may run before its quantum expires.
+     *
+     * @param slot The slot of the process being dispatched.
+     * @return The time slice, or Integer.MAX_VALUE to run until completion.
+     */
+    default int timeSlice(int slot) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Checks whether the engine may let a process run past the end of its time slice while
+     * no other process is ready, instead of expiring the quantum and handing the CPU straight
+     * back. Policies that change state on every expiry must return false.
+     *
+     * @return true if consecutive slices of a lone process may be merged, false otherwise.
+     */
+    default boolean allowsSliceExtension() {
+        return true;
+    }
+
+    /**
+     * Decides whether a newly arrived process should preempt the running process.
+     *
+     * @param running The slot of the running process.
+     * @param arrived The slot of the process that just arrived.
+     * @return true to preempt the running process, false otherwise.
+     */
+    default boolean shouldPreempt(int running, int arrived) {
+        return false;
+    }
+
+    /**
+     * Called when the running process has been preempted and is ready again.
+     *
+     * @param slot The slot of the preempted process.
+     */
+    default void onPreempted(int slot) {
+        onArrival(slot);
+    }
+
+    /**
+     * Called when the running process has used up its time slice and is ready again.
+     *
+     * @param slot The slot of the process whose quantum expired.
+     */
+    default void onQuantumExpired(int slot) {
+        onArrival(slot);
+    }
+}
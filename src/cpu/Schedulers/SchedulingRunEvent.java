@@ -0,0 +1,45 @@
+package cpu.Schedulers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The SchedulingRunEvent class is the Flight Recorder event for one run of a CPU scheduling
+ * simulation, from start to completion or halt. Its duration is the wall-clock time of the
+ * run; the simulated quantities are in simulation time units.
+ */
+@Name("cpu.Schedulers.SchedulingRun")
+@Label("Scheduling Run")
+@Category({"OS Simulator", "CPU Scheduling"})
+@Description("One run of a CPU scheduling strategy")
+@StackTrace(false)
+final class SchedulingRunEvent extends jdk.jfr.Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Processes")
+    int processes;
+
+    @Label("Cores")
+    int cores;
+
+    @Label("Dispatches")
+    long dispatches;
+
+    @Label("Preemptions")
+    @Description("Processes that lost a CPU before completing")
+    long preemptions;
+
+    @Label("Context Switches")
+    long contextSwitches;
+
+    @Label("Idle Time")
+    @Description("Simulated time CPUs had nothing to run, summed over the CPUs")
+    long idleTime;
+
+    @Label("Simulated Time")
+    long simulatedTime;
+}
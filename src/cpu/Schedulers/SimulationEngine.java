@@ -0,0 +1,534 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntConsumer;
+
+/**
+ * The SimulationEngine class runs preemptive scheduling strategies as a discrete-event
+ * simulation. Arrivals are consumed through an arrival-sorted cursor, completion,
+ * quantum-expiry and preemption events are kept on a time-ordered queue, and the clock jumps
+ * straight from one event to the next, so the cost of a run depends on the number of events
+ * rather than on how long the simulated clock runs.
+ *
+ * The engine works directly on a ProcessTable, tracks every process by its slot and
+ * delegates all scheduling decisions to a SchedulingPolicy.
+ *
+ * The context switching delay is charged whenever the CPU is handed to a different process
+ * than the one that ran last, so a process that keeps the CPU (for example because nobody
+ * else is ready when its quantum expires) does not pay for a switch.
+ *
+ * A halted engine can be checkpointed: its clock, pending events, ready queues and every
+ * process in the table are streamed to a channel, e.g. a FileChannel, and restore() builds
+ * an engine that continues exactly where the snapshot was taken. Restoring one snapshot
+ * several times gives independent what-if continuations that can run in parallel.
+ *
+ * Dispatches, preemptions, context switches and idle time are counted for SchedulerStats and
+ * for the SchedulingRunEvent and DispatchBatchEvent Flight Recorder events (see RunCounters).
+ */
+public final class SimulationEngine implements SchedulingContext {
+    private static final int COMPLETED = -2; // Marks lastRun when the last process on the CPU finished
+    private static final int SNAPSHOT_MAGIC = 0x53494D53; // "SIMS"
+    private static final int SNAPSHOT_VERSION = 2; // 2 added deadlines and periods
+
+    private final ProcessTable table; // Remaining time per slot is exact while the slot is not running
+    private final int contextSwitchingDelay;
+    private final ArrivalSource arrivals;
+    private final EventQueue events;
+    private IntConsumer completionListener; // Notified with the slot of every completed process
+    private ScheduleListener scheduleListener; // Notified of every dispatch, preemption and completion
+
+    private int currentTime;
+    private int running;              // Slot holding the CPU, -1 when idle
+    private int lastRun;              // Slot that last held the CPU, used to charge context switches
+    private int runStart;             // Time at which the running slot started executing
+    private int dispatchStamp;        // Identifies the current dispatch, older events are stale
+    private volatile boolean halted;  // Set by halt() to end the current run early
+    private boolean inRun;            // True while run() or resume() is processing events
+    private SchedulingPolicy policy;  // Policy of the current or last run, null before the first
+    private int ready;                // Processes that have arrived and wait for the CPU
+    private int idleSince;            // Time the CPU became idle, -1 while it is busy
+    private final RunCounters counters = new RunCounters();
+
+    /**
+     * Constructs an engine for the processes of the given table.
+     *
+     * @param table                 The processes to simulate.
+     * @param contextSwitchingDelay The delay incurred when the CPU switches to another process.
+     */
+    public SimulationEngine(ProcessTable table, int contextSwitchingDelay) {
+        this(table, new ArrivalCursor(table.arrivalTimes(), table.size()), contextSwitchingDelay);
+    }
+
+    /**
+     * Constructs an engine whose processes are loaded into the table by an arrival source
+     * as they arrive.
+     *
+     * @param table                 The table the arrival source fills.
+     * @param arrivals              The source of processes in arrival order.
+     * @param contextSwitchingDelay The delay incurred when the CPU switches to another process.
+     */
+    SimulationEngine(ProcessTable table, ArrivalSource arrivals, int contextSwitchingDelay) {
+        this.table = table;
+        this.contextSwitchingDelay = contextSwitchingDelay;
+        this.arrivals = arrivals;
+        this.events = new EventQueue(8);
+    }
+
+    /**
+     * Registers a listener that is called with the slot of every process as it completes,
+     * after its timing metrics have been written into the table.
+     *
+     * @param completionListener The listener, or null for none.
+     */
+    public void setCompletionListener(IntConsumer completionListener) {
+        this.completionListener = completionListener;
+    }
+
+    /**
+     * Registers a listener that is notified every time a process is dispatched, loses the
+     * CPU or completes, e.g. a TimelineRecorder.
+     *
+     * @param scheduleListener The listener, or null for none.
+     */
+    public void setScheduleListener(ScheduleListener scheduleListener) {
+        this.scheduleListener = scheduleListener;
+    }
+
+    /**
+     * Runs the simulation until every process has arrived and completed, or until halt() is
+     * called, writing completion, turnaround and waiting times into the table.
+     *
+     * @param policy The policy making the scheduling decisions.
+     */
+    public void run(SchedulingPolicy policy) {
+        arrivals.rewind();
+        events.clear();
+        currentTime = 0;
+        running = -1;
+        lastRun = -1;
+        dispatchStamp = 0;
+        ready = 0;
+        halted = false;
+        table.reset();
+        this.policy = policy;
+        simulate(policy);
+    }
+
+    /**
+     * Continues a run that was stopped by halt(), or a run restored from a snapshot, with the
+     * same policy until every process has completed or halt() is called again.
+     *
+     * @throws IllegalStateException if the engine has never run or is already running.
+     */
+    public void resume() {
+        if (policy == null) {
+            throw new IllegalStateException("Nothing to resume. Please run the engine first.");
+        }
+        if (inRun) {
+            throw new IllegalStateException("The engine is already running.");
+        }
+        halted = false;
+        simulate(policy);
+    }
+
+    private void simulate(SchedulingPolicy policy) {
+        inRun = true;
+        idleSince = running == -1 ? currentTime : -1;
+        counters.begin();
+        try {
+            loop(policy);
+        } finally {
+            inRun = false;
+            counters.end(policy, table.size(), 1, ready, currentTime);
+        }
+    }
+
+    private void loop(SchedulingPolicy policy) {
+        while (!halted) {
+            discardStaleEvents();
+            if (arrivals.hasNext() && (events.isEmpty() || arrivals.peekTime() <= events.peekTime())) {
+                currentTime = arrivals.peekTime();
+            } else if (!events.isEmpty()) {
+                currentTime = events.peekTime();
+            } else if (arrivals.awaitNext()) {
+                continue; // A live source produced another arrival while the CPU was idle
+            } else {
+                break; // Nothing is running and nothing else will arrive
+            }
+
+            // Jump straight to the next event and handle everything that happens at that instant,
+            // admitting arrivals first so a preemption sees every process that arrived with it
+            while (arrivals.hasNext() && arrivals.peekTime() == currentTime) {
+                int slot = arrivals.next();
+                if (slot == -1) {
+                    continue; // The source handled an event of its own, e.g. a disk request
+                }
+                policy.onArrival(slot);
+                ready++;
+                if (running != -1 && policy.shouldPreempt(running, slot)) {
+                    events.push(currentTime, EventQueue.PREEMPTION, running, dispatchStamp);
+                }
+            }
+            while (!events.isEmpty() && events.peekTime() == currentTime) {
+                int kind = events.peekKind();
+                int slot = events.peekSlot();
+                int stamp = events.peekStamp();
+                events.pop();
+
+                if (stamp != dispatchStamp || slot != running) {
+                    continue; // Belongs to a dispatch that already ended
+                }
+                if (kind == EventQueue.COMPLETION) {
+                    complete(slot);
+                } else if (kind == EventQueue.QUANTUM_EXPIRY) {
+                    stop(slot);
+                    ready++;
+                    counters.preempted();
+                    if (scheduleListener != null) {
+                        scheduleListener.onPreempt(0, table.getPid(slot), currentTime);
+                    }
+                    policy.onQuantumExpired(slot);
+                } else {
+                    stop(slot);
+                    ready++;
+                    counters.preempted();
+                    if (scheduleListener != null) {
+                        scheduleListener.onPreempt(0, table.getPid(slot), currentTime);
+                    }
+                    policy.onPreempted(slot);
+                }
+            }
+
+            if (running == -1) {
+                dispatch(policy);
+            }
+        }
+    }
+
+    /**
+     * Stops the current run at the end of the instant being processed, e.g. from a completion
+     * listener that has seen enough. Processes that have not completed by then are left
+     * incomplete in the table, and resume() continues from there. It may also be called from
+     * another thread, e.g. a timer pausing the run to take a checkpoint.
+     */
+    public void halt() {
+        halted = true;
+    }
+
+    /**
+     * Checks whether the last run was stopped by halt() before every process completed.
+     *
+     * @return true if the run was halted, false otherwise.
+     */
+    public boolean isHalted() {
+        return halted;
+    }
+
+    /**
+     * Writes the complete state of the engine to a channel: the clock, the pending events,
+     * the arrival position, every process of the table and the ready queues of the policy.
+     * The state is streamed through one direct buffer, so the cost is close to that of writing
+     * the table arrays. The channel is left open and positioned after the snapshot.
+     *
+     * @param channel The channel to write to, e.g. a FileChannel.
+     * @throws IOException           if the channel fails.
+     * @throws IllegalStateException if the engine is processing events, has never run, or
+     *                               its arrival source or policy cannot be saved.
+     */
+    public void checkpoint(WritableByteChannel channel) throws IOException {
+        if (inRun) {
+            throw new IllegalStateException("Checkpoints can only be taken while the engine is halted.");
+        }
+        if (policy == null) {
+            throw new IllegalStateException("Nothing to checkpoint. Please run the engine first.");
+        }
+        if (!(arrivals instanceof ArrivalCursor)) {
+            throw new IllegalStateException("Only engines built on a ProcessTable can be checkpointed.");
+        }
+        if (!(policy instanceof Checkpointable)) {
+            throw new IllegalStateException("The policy " + policy.getClass().getName() + " does not support checkpoints.");
+        }
+
+        SnapshotWriter out = new SnapshotWriter(channel);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeString(policy.getClass().getName());
+        out.writeInt(contextSwitchingDelay);
+        out.writeInt(currentTime);
+        out.writeInt(running);
+        out.writeInt(lastRun);
+        out.writeInt(runStart);
+        out.writeInt(dispatchStamp);
+        out.writeBoolean(halted);
+        table.writeTo(out);
+        out.writeInt(((ArrivalCursor) arrivals).position());
+        events.writeTo(out);
+        ((Checkpointable) policy).writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Rebuilds an engine from a snapshot written by checkpoint(), with the context switching
+     * delay it was taken with. Call resume() to continue the simulation.
+     *
+     * @param channel  The channel to read from, e.g. a FileChannel.
+     * @param strategy The strategy the snapshot was taken with. Its parameters, e.g. a time
+     *                 quantum, may differ to explore a what-if continuation.
+     * @return A halted engine in the state of the snapshot.
+     * @throws IOException              if the channel fails or the snapshot is corrupt.
+     * @throws IllegalArgumentException if the snapshot was taken with another strategy.
+     */
+    public static SimulationEngine restore(ReadableByteChannel channel, EventDrivenStrategy strategy) throws IOException {
+        return restore(channel, strategy, -1);
+    }
+
+    /**
+     * Rebuilds an engine from a snapshot written by checkpoint(), charging a different
+     * context switching delay from the snapshot on. Call resume() to continue the simulation.
+     *
+     * @param channel               The channel to read from, e.g. a FileChannel.
+     * @param strategy              The strategy the snapshot was taken with.
+     * @param contextSwitchingDelay The delay incurred when the CPU switches to another process.
+     * @return A halted engine in the state of the snapshot.
+     * @throws IOException              if the channel fails or the snapshot is corrupt.
+     * @throws IllegalArgumentException if the snapshot was taken with another strategy.
+     */
+    public static SimulationEngine restore(ReadableByteChannel channel, EventDrivenStrategy strategy,
+                                           int contextSwitchingDelay) throws IOException {
+        SnapshotReader in = new SnapshotReader(channel);
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a simulation snapshot.");
+        }
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        String policyName = in.readString();
+        int delay = in.readInt();
+        if (contextSwitchingDelay < 0) {
+            contextSwitchingDelay = delay;
+        }
+        int currentTime = in.readInt();
+        int running = in.readInt();
+        int lastRun = in.readInt();
+        int runStart = in.readInt();
+        int dispatchStamp = in.readInt();
+        in.readBoolean(); // Halted flag, a restored engine always starts halted
+        ProcessTable table = ProcessTable.readFrom(in);
+
+        ArrivalCursor arrivals = new ArrivalCursor(table.arrivalTimes(), table.size());
+        arrivals.seek(in.readInt());
+        SimulationEngine engine = new SimulationEngine(table, arrivals, contextSwitchingDelay);
+        engine.currentTime = currentTime;
+        engine.running = running;
+        engine.lastRun = lastRun;
+        engine.runStart = runStart;
+        engine.dispatchStamp = dispatchStamp;
+        engine.halted = true;
+        engine.ready = arrivals.position() - (running == -1 ? 0 : 1);
+        for (int slot = 0; slot < table.size(); slot++) {
+            if (table.isCompleted(slot)) {
+                engine.ready--;
+            }
+        }
+        engine.events.readFrom(in);
+
+        SchedulingPolicy policy = strategy.newPolicy(engine);
+        if (!policy.getClass().getName().equals(policyName) || !(policy instanceof Checkpointable)) {
+            throw new IllegalArgumentException("The snapshot was taken with " + policyName + ", not " + policy.getClass().getName() + ".");
+        }
+        ((Checkpointable) policy).readFrom(in);
+        engine.policy = policy;
+        return engine;
+    }
+
+    /**
+     * Returns the table the engine writes its results into.
+     *
+     * @return The process table.
+     */
+    public ProcessTable getProcessTable() {
+        return table;
+    }
+
+    /**
+     * Returns the current simulated time.
+     *
+     * @return The current time of the simulation clock.
+     */
+    @Override
+    public int getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Returns the number of process slots in the simulation.
+     *
+     * @return The number of processes.
+     */
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Returns the remaining time of a process at the current time, including the
+     * progress made by the running process since it was dispatched.
+     *
+     * @param slot The slot of the process.
+     * @return The remaining execution time of the process.
+     */
+    @Override
+    public int getRemainingTime(int slot) {
+        if (slot == running && currentTime > runStart) {
+            return table.getRemainingTime(slot) - (currentTime - runStart);
+        }
+        return table.getRemainingTime(slot);
+    }
+
+    /**
+     * Returns the arrival time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The arrival time of the process.
+     */
+    @Override
+    public int getArrivalTime(int slot) {
+        return table.getArrivalTime(slot);
+    }
+
+    /**
+     * Returns the burst time of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The burst time of the process.
+     */
+    @Override
+    public int getBurstTime(int slot) {
+        return table.getBurstTime(slot);
+    }
+
+    /**
+     * Returns the priority of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The priority of the process.
+     */
+    @Override
+    public int getPriority(int slot) {
+        return table.getPriority(slot);
+    }
+
+    /**
+     * Returns the absolute deadline of a process.
+     *
+     * @param slot The slot of the process.
+     * @return The deadline of the process, or Process.NO_DEADLINE.
+     */
+    @Override
+    public int getDeadline(int slot) {
+        return table.getDeadline(slot);
+    }
+
+    /**
+     * Returns the period of the task that released a process.
+     *
+     * @param slot The slot of the process.
+     * @return The period of the process, or 0 if it is aperiodic.
+     */
+    @Override
+    public int getPeriod(int slot) {
+        return table.getPeriod(slot);
+    }
+
+    /**
+     * Hands the CPU to the next process chosen by the policy and schedules the event
+     * that will take it away again.
+     */
+    private void dispatch(SchedulingPolicy policy) {
+        int slot = policy.pickNext();
+        if (slot == -1) {
+            if (idleSince == -1) {
+                idleSince = currentTime; // Idle until the next arrival
+            }
+            return;
+        }
+        ready--;
+        if (idleSince != -1) {
+            counters.idle(currentTime - idleSince);
+            idleSince = -1;
+        }
+        counters.dispatched(ready, currentTime);
+
+        int start = currentTime;
+        if (lastRun != -1 && lastRun != slot) {
+            start += contextSwitchingDelay;
+            table.countContextSwitch();
+            counters.contextSwitched();
+        }
+        table.start(slot, start);
+
+        running = slot;
+        runStart = start;
+        dispatchStamp++;
+        if (scheduleListener != null) {
+            scheduleListener.onDispatch(0, table.getPid(slot), start);
+        }
+
+        int runLength = table.getRemainingTime(slot);
+        int slice = policy.timeSlice(slot);
+        if (slice < runLength) {
+            if (policy.hasReady() || !policy.allowsSliceExtension()) {
+                runLength = slice;
+            } else if (arrivals.hasNext()) {
+                // Nobody else is waiting, so expiring the quantum would hand the CPU straight back.
+                // Skip to the first quantum boundary at or after the next arrival instead.
+                long gap = Math.max(1L, (long) arrivals.peekTime() - start);
+                long quanta = (gap + slice - 1) / slice;
+                runLength = (int) Math.min(runLength, quanta * slice);
+            }
+        }
+
+        if (runLength == table.getRemainingTime(slot)) {
+            events.push(start + runLength, EventQueue.COMPLETION, slot, dispatchStamp);
+        } else {
+            events.push(start + runLength, EventQueue.QUANTUM_EXPIRY, slot, dispatchStamp);
+        }
+    }
+
+    /**
+     * Takes the CPU away from the running process and records its progress.
+     */
+    private void stop(int slot) {
+        table.setRemainingTime(slot, getRemainingTime(slot));
+        running = -1;
+        lastRun = slot;
+        dispatchStamp++;
+    }
+
+    /**
+     * Marks the running process as completed and records its timing metrics.
+     */
+    private void complete(int slot) {
+        stop(slot);
+        table.complete(slot, currentTime);
+        lastRun = COMPLETED; // The slot may be reused by a later process
+        if (scheduleListener != null) {
+            scheduleListener.onComplete(0, table.getPid(slot), currentTime);
+        }
+        if (completionListener != null) {
+            completionListener.accept(slot);
+        }
+    }
+
+    /**
+     * Drops events that belong to an earlier dispatch.
+     */
+    private void discardStaleEvents() {
+        while (!events.isEmpty() && events.peekStamp() != dispatchStamp) {
+            events.pop();
+        }
+    }
+}
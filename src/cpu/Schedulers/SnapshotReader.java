@@ -0,0 +1,111 @@
+package cpu.Schedulers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The SnapshotReader class reads back the state written by a SnapshotWriter. It fills one
+ * direct buffer from the channel at a time and copies primitive arrays out of it in bulk.
+ */
+final class SnapshotReader {
+    private static final int BUFFER_SIZE = 1 << 18;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Constructs a reader starting at the current position of the given channel.
+     *
+     * @param channel The channel to read from.
+     */
+    SnapshotReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.limit(0);
+    }
+
+    int readInt() throws IOException {
+        ensure(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long readLong() throws IOException {
+        ensure(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    boolean readBoolean() throws IOException {
+        return readInt() != 0;
+    }
+
+    String readString() throws IOException {
+        byte[] bytes = new byte[readCount()];
+        for (int i = 0; i < bytes.length; ) {
+            ensure(1);
+            int n = Math.min(buffer.remaining(), bytes.length - i);
+            buffer.get(bytes, i, n);
+            i += n;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length or count written with writeInt and checks that it is not negative.
+     *
+     * @throws IOException if the value is negative, i.e. the snapshot is corrupt.
+     */
+    int readCount() throws IOException {
+        int count = readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt snapshot: negative length " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads count ints into an array, starting at offset.
+     */
+    void readInts(int[] values, int offset, int count) throws IOException {
+        while (count > 0) {
+            ensure(Integer.BYTES);
+            int n = Math.min(buffer.remaining() / Integer.BYTES, count);
+            buffer.asIntBuffer().get(values, offset, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            offset += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Reads count longs into an array, starting at offset.
+     */
+    void readLongs(long[] values, int offset, int count) throws IOException {
+        while (count > 0) {
+            ensure(Long.BYTES);
+            int n = Math.min(buffer.remaining() / Long.BYTES, count);
+            buffer.asLongBuffer().get(values, offset, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            offset += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Makes sure at least the given number of bytes is buffered, refilling from the channel.
+     */
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Snapshot ends unexpectedly.");
+            }
+        }
+        buffer.flip();
+    }
+}
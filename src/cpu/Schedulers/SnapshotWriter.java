@@ -0,0 +1,101 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The SnapshotWriter class streams the state of a simulation to a channel, usually a
+ * FileChannel, in a compact binary form. Values are gathered in one direct buffer that is
+ * written to the channel whenever it fills up, and whole primitive arrays are copied in bulk,
+ * so a snapshot costs about as much as writing the arrays themselves.
+ */
+final class SnapshotWriter {
+    private static final int BUFFER_SIZE = 1 << 18;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Constructs a writer appending to the current position of the given channel.
+     *
+     * @param channel The channel to write to.
+     */
+    SnapshotWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        writeInt(value ? 1 : 0);
+    }
+
+    void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        for (int i = 0; i < bytes.length; ) {
+            ensure(1);
+            int n = Math.min(buffer.remaining(), bytes.length - i);
+            buffer.put(bytes, i, n);
+            i += n;
+        }
+    }
+
+    /**
+     * Writes count ints of an array, starting at offset.
+     */
+    void writeInts(int[] values, int offset, int count) throws IOException {
+        while (count > 0) {
+            ensure(Integer.BYTES);
+            int n = Math.min(buffer.remaining() / Integer.BYTES, count);
+            buffer.asIntBuffer().put(values, offset, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            offset += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Writes count longs of an array, starting at offset.
+     */
+    void writeLongs(long[] values, int offset, int count) throws IOException {
+        while (count > 0) {
+            ensure(Long.BYTES);
+            int n = Math.min(buffer.remaining() / Long.BYTES, count);
+            buffer.asLongBuffer().put(values, offset, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            offset += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Writes everything buffered so far to the channel.
+     *
+     * @throws IOException if the channel fails.
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package cpu.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The StrategyComparison class runs several scheduling strategies on the same workload in
+ * parallel and reports the metrics of each run.
+ *
+ * Every run works on its own fork of the workload table, which shares the process data and
+ * only owns its scheduling state, so the runs never see each other's results and the
+ * workload itself is left untouched. Strategies that only accept a Process[] work on
+ * their own materialized copy.
+ *
+ * The runs are submitted to a ForkJoinPool, so comparing a handful of strategies on a
+ * machine with enough cores takes about as long as the slowest one.
+ */
+public class StrategyComparison {
+    private final ProcessTable workload;
+    private final int contextSwitchingDelay;
+    private final ForkJoinPool pool;
+    private final List<String> names = new ArrayList<>();
+    private final List<Strategy> strategies = new ArrayList<>();
+
+    /**
+     * Constructs a comparison that runs on the common ForkJoinPool.
+     *
+     * @param workload              The processes every strategy is run on.
+     * @param contextSwitchingDelay The delay incurred during context switching between processes.
+     */
+    public StrategyComparison(ProcessTable workload, int contextSwitchingDelay) {
+        this(workload, contextSwitchingDelay, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a comparison that runs on the given pool.
+     *
+     * @param workload              The processes every strategy is run on.
+     * @param contextSwitchingDelay The delay incurred during context switching between processes.
+     * @param pool                  The pool executing the runs.
+     * @throws IllegalArgumentException if the workload or pool is null or the delay is negative.
+     */
+    public StrategyComparison(ProcessTable workload, int contextSwitchingDelay, ForkJoinPool pool) {
+        if (workload == null || pool == null) {
+            throw new IllegalArgumentException("Workload and pool can't be null.");
+        }
+        if (contextSwitchingDelay < 0) {
+            throw new IllegalArgumentException("Context switching delay cannot be negative.");
+        }
+        this.workload = workload;
+        this.contextSwitchingDelay = contextSwitchingDelay;
+        this.pool = pool;
+    }
+
+    /**
+     * Adds a strategy to the comparison. Runs happen concurrently, so the same Strategy
+     * instance must not be added twice.
+     *
+     * @param name     The name the results are reported under.
+     * @param strategy The strategy to run.
+     * @return This comparison, for chaining.
+     * @throws IllegalArgumentException if the strategy is null, already added or the name is taken.
+     */
+    public StrategyComparison add(String name, Strategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy can't be null.");
+        }
+        if (names.contains(name)) {
+            throw new IllegalArgumentException("Duplicate strategy name: " + name);
+        }
+        for (Strategy added : strategies) {
+            if (added == strategy) {
+                throw new IllegalArgumentException("The same strategy instance can't be run twice concurrently.");
+            }
+        }
+        names.add(name);
+        strategies.add(strategy);
+        return this;
+    }
+
+    /**
+     * Adds a strategy by name, as accepted by scheduler.setStrategy(String).
+     *
+     * @param strategyName The name of the scheduling strategy (e.g., "fcfs", "sjf", "srtf").
+     * @return This comparison, for chaining.
+     * @throws IllegalArgumentException if the strategy name is invalid or already added.
+     */
+    public StrategyComparison add(String strategyName) {
+        scheduler lookup = new scheduler(workload, contextSwitchingDelay);
+        lookup.setStrategy(strategyName);
+        return add(strategyName.toLowerCase(Locale.ROOT), lookup.getStrategy());
+    }
+
+    /**
+     * Runs every added strategy on its own fork of the workload and waits for all of them.
+     *
+     * @return The metrics of each strategy, in the order the strategies were added.
+     * @throws IllegalStateException if no strategy was added or the workload is empty.
+     */
+    public Map<String, MetricsAccumulator> execute() {
+        if (strategies.isEmpty()) {
+            throw new IllegalStateException("No strategies added. Please add strategies before executing.");
+        }
+        if (workload.size() == 0) {
+            throw new IllegalStateException("No processes added. Please add processes before executing.");
+        }
+
+        List<ForkJoinTask<MetricsAccumulator>> runs = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            ProcessTable fork = workload.fork(); // Forked here, so the pool threads only read it
+            runs.add(pool.submit(() -> run(strategy, fork)));
+        }
+
+        Map<String, MetricsAccumulator> results = new LinkedHashMap<>();
+        for (int i = 0; i < runs.size(); i++) {
+            results.put(names.get(i), runs.get(i).join());
+        }
+        return results;
+    }
+
+    /**
+     * Prints comparison results as one row per strategy.
+     *
+     * @param results The results returned by execute().
+     */
+    public static void printResults(Map<String, MetricsAccumulator> results) {
+        System.out.printf("%-12s %-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
+                "Strategy", "Utilization %", "Throughput", "Avg Waiting", "Avg TAT", "p99 Waiting", "p999 Waiting",
+                "Deadline Misses");
+        for (Map.Entry<String, MetricsAccumulator> entry : results.entrySet()) {
+            MetricsAccumulator metrics = entry.getValue();
+            System.out.printf("%-12s %-15.2f %-15.4f %-15.2f %-15.2f %-15d %-15d %-15d%n",
+                    entry.getKey(),
+                    metrics.cpuUtilization(),
+                    metrics.throughput(),
+                    metrics.averageWaitingTime(),
+                    metrics.averageTurnaroundTime(),
+                    metrics.getWaitingTimeHistogram().percentile(99),
+                    metrics.getWaitingTimeHistogram().percentile(99.9),
+                    metrics.getDeadlineMissCount());
+        }
+    }
+
+    private MetricsAccumulator run(Strategy strategy, ProcessTable table) {
+        scheduler scheduler = new scheduler(table, contextSwitchingDelay);
+        scheduler.setStrategy(strategy);
+        scheduler.execute();
+
+        MetricsAccumulator metrics = new MetricsAccumulator();
+        for (int slot = 0; slot < table.size(); slot++) {
+            if (table.isCompleted(slot)) {
+                metrics.record(table, slot);
+            }
+        }
+        return metrics;
+    }
+}
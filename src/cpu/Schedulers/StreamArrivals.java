@@ -0,0 +1,80 @@
+package cpu.Schedulers;
+
+import java.util.Iterator;
+
+/**
+ * The StreamArrivals class feeds the SimulationEngine from an iterator of processes sorted
+ * by arrival time. Each process is copied into a slot of the engine's ProcessTable when it
+ * arrives, and slots released after completion are reused, so the table only ever grows to
+ * the number of processes that are live at the same time.
+ */
+final class StreamArrivals implements ArrivalSource {
+    private final Iterator<Process> processes;
+    private final ProcessTable table;
+    private final IntRingBuffer freeSlots = new IntRingBuffer(16);
+    private Process pending;   // Next process to arrive, read ahead from the iterator
+    private int lastArrivalTime = Integer.MIN_VALUE;
+    private boolean started;
+
+    /**
+     * Constructs a source over the given processes.
+     *
+     * @param processes The processes, sorted by arrival time.
+     * @param table     The table arriving processes are loaded into.
+     */
+    StreamArrivals(Iterator<Process> processes, ProcessTable table) {
+        this.processes = processes;
+        this.table = table;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending == null && processes.hasNext()) {
+            pending = processes.next();
+            if (pending.getArrivalTime() < lastArrivalTime) {
+                throw new IllegalArgumentException("Streamed processes must be sorted by arrival time.");
+            }
+            lastArrivalTime = pending.getArrivalTime();
+        }
+        return pending != null;
+    }
+
+    @Override
+    public int peekTime() {
+        hasNext();
+        return pending.getArrivalTime();
+    }
+
+    @Override
+    public int next() {
+        hasNext();
+        Process process = pending;
+        pending = null;
+        started = true;
+
+        int slot = freeSlots.pollFirst();
+        if (slot == -1) {
+            return table.add(process.getPid(), process.getArrivalTime(), process.getBurstTime(), process.getPriority(),
+                    process.getDeadline(), process.getPeriod());
+        }
+        table.load(slot, process.getPid(), process.getArrivalTime(), process.getBurstTime(), process.getPriority(),
+                process.getDeadline(), process.getPeriod());
+        return slot;
+    }
+
+    @Override
+    public void rewind() {
+        if (started) {
+            throw new IllegalStateException("A streamed workload can only be run once.");
+        }
+    }
+
+    /**
+     * Hands the slot of a completed process back for reuse by a later arrival.
+     *
+     * @param slot The slot to release.
+     */
+    void release(int slot) {
+        freeSlots.addLast(slot);
+    }
+}
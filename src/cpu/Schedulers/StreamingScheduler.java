@@ -0,0 +1,85 @@
+package cpu.Schedulers;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * The StreamingScheduler class replays workloads that are too large to hold in memory.
+ * Processes are pulled from an iterator or stream sorted by arrival time as the simulated
+ * clock reaches them; completed processes are folded into a MetricsAccumulator and their
+ * slots reused, so memory stays proportional to the number of processes waiting in the
+ * ready queue rather than to the length of the workload.
+ *
+ * Any EventDrivenStrategy can be streamed, e.g. FCFS, SRTF and RoundRobin. The context
+ * switching delay is charged by the SimulationEngine whenever the CPU moves to another
+ * process. Policies break ties by slot, and slots are reused here, so processes that tie
+ * may be ordered differently than in a batch run of the same workload.
+ */
+public final class StreamingScheduler {
+    private final EventDrivenStrategy strategy;
+    private final int contextSwitchingDelay;
+    private ScheduleListener scheduleListener;
+
+    /**
+     * Constructs a streaming scheduler.
+     *
+     * @param strategy              The strategy to run.
+     * @param contextSwitchingDelay The delay incurred during context switching between processes.
+     * @throws IllegalArgumentException if the strategy is null or the delay is negative.
+     */
+    public StreamingScheduler(EventDrivenStrategy strategy, int contextSwitchingDelay) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy can't be null.");
+        }
+        if (contextSwitchingDelay < 0) {
+            throw new IllegalArgumentException("Context switching delay cannot be negative.");
+        }
+        this.strategy = strategy;
+        this.contextSwitchingDelay = contextSwitchingDelay;
+    }
+
+    /**
+     * Registers a listener, e.g. a TimelineRecorder, that is notified of every dispatch,
+     * preemption and completion of later executions.
+     *
+     * @param scheduleListener The listener, or null for none.
+     */
+    public void setScheduleListener(ScheduleListener scheduleListener) {
+        this.scheduleListener = scheduleListener;
+    }
+
+    /**
+     * Runs the strategy over every process of the iterator.
+     *
+     * @param processes The processes, sorted by arrival time.
+     * @return The metrics of all completed processes.
+     * @throws IllegalArgumentException if the processes are not sorted by arrival time.
+     */
+    public MetricsAccumulator execute(Iterator<Process> processes) {
+        ProcessTable live = new ProcessTable(64);
+        StreamArrivals arrivals = new StreamArrivals(processes, live);
+        MetricsAccumulator metrics = new MetricsAccumulator();
+
+        SimulationEngine engine = new SimulationEngine(live, arrivals, contextSwitchingDelay);
+        engine.setScheduleListener(scheduleListener);
+        engine.setCompletionListener(slot -> {
+            metrics.record(live, slot);
+            arrivals.release(slot);
+        });
+        engine.run(strategy.newPolicy(engine));
+        return metrics;
+    }
+
+    /**
+     * Runs the strategy over every process of the stream.
+     *
+     * @param processes The processes, sorted by arrival time.
+     * @return The metrics of all completed processes.
+     * @throws IllegalArgumentException if the processes are not sorted by arrival time.
+     */
+    public MetricsAccumulator execute(Stream<Process> processes) {
+        try (Stream<Process> stream = processes) {
+            return execute(stream.iterator());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package cpu.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The StrideScheduling class implements deterministic proportional-share scheduling. Every
+ * process holds as many tickets as its priority (at least one) and has a stride inversely
+ * proportional to them. Each process keeps a pass value that grows by its stride for every
+ * time unit it runs, and the ready process with the lowest pass runs next, for one time
+ * quantum. CPU shares therefore follow the ticket counts like in LotteryScheduling, but
+ * exactly rather than on average.
+ *
+ * A process that arrives starts at the pass of the process dispatched last, so it neither
+ * monopolizes the CPU to catch up nor waits behind everybody. Strides are 2^20 divided by the
+ * ticket count, and passes are longs, so a pass cannot overflow within the int clock.
+ */
+public class StrideScheduling implements EventDrivenStrategy {
+    /** Time quantum used when none is given, e.g. by scheduler.setStrategy("stride"). */
+    public static final int DEFAULT_TIME_QUANTUM = 10;
+
+    private static final long STRIDE1 = 1L << 20; // Stride of a process holding one ticket
+
+    private final int timeQuantum;
+
+    /**
+     * Constructs a stride scheduler with the default time quantum.
+     */
+    public StrideScheduling() {
+        this(DEFAULT_TIME_QUANTUM);
+    }
+
+    /**
+     * Constructs a stride scheduler.
+     *
+     * @param timeQuantum The time the process with the lowest pass runs before the next decision.
+     * @throws IllegalArgumentException if the time quantum is not positive.
+     */
+    public StrideScheduling(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be greater than 0.");
+        }
+        this.timeQuantum = timeQuantum;
+    }
+
+    @Override
+    public SchedulingPolicy newPolicy(SchedulingContext context) {
+        return new Policy(timeQuantum, context);
+    }
+
+    /**
+     * Keeps ready slots in a heap keyed on pass. The pass of the running process is charged
+     * for the time it actually ran when its quantum expires, so slices the engine merges for
+     * a lone process are charged in full.
+     */
+    private static final class Policy implements SchedulingPolicy, Checkpointable {
+        private final int timeQuantum;
+        private final SchedulingContext context;
+        private final IndexedMinHeap ready; // Keyed on pass
+        private long[] passes;              // Pass per slot
+        private long globalPass;            // Pass of the process dispatched last
+        private int dispatchedRemaining;    // Remaining time of the running process when it was dispatched
+
+        Policy(int timeQuantum, SchedulingContext context) {
+            this.timeQuantum = timeQuantum;
+            this.context = context;
+            this.ready = new IndexedMinHeap(context.size());
+            this.passes = new long[Math.max(context.size(), 16)];
+        }
+
+        @Override
+        public void onArrival(int slot) {
+            if (slot >= passes.length) {
+                passes = Arrays.copyOf(passes, Math.max(slot + 1, passes.length * 2));
+            }
+            passes[slot] = globalPass;
+            ready.add(slot, globalPass);
+        }
+
+        @Override
+        public int pickNext() {
+            int slot = ready.poll();
+            if (slot != -1) {
+                globalPass = passes[slot];
+                dispatchedRemaining = context.getRemainingTime(slot);
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasReady() {
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public int timeSlice(int slot) {
+            return timeQuantum;
+        }
+
+        @Override
+        public void onQuantumExpired(int slot) {
+            long ran = dispatchedRemaining - context.getRemainingTime(slot);
+            passes[slot] += Math.max(1, STRIDE1 / LotteryScheduling.tickets(context.getPriority(slot))) * ran;
+            ready.add(slot, passes[slot]);
+        }
+
+        @Override
+        public void writeTo(SnapshotWriter out) throws IOException {
+            ready.writeTo(out);
+            out.writeInt(passes.length);
+            out.writeLongs(passes, 0, passes.length);
+            out.writeLong(globalPass);
+            out.writeInt(dispatchedRemaining);
+        }
+
+        @Override
+        public void readFrom(SnapshotReader in) throws IOException {
+            ready.readFrom(in);
+            passes = new long[in.readCount()];
+            in.readLongs(passes, 0, passes.length);
+            globalPass = in.readLong();
+            dispatchedRemaining = in.readInt();
+        }
+    }
+}
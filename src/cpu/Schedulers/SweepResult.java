@@ -0,0 +1,79 @@
+package cpu.Schedulers;
+
+import java.util.Arrays;
+
+/**
+ * The SweepResult class holds the outcome of one grid point of a ParameterSweep: the
+ * parameters that were tried and the metrics of the run.
+ */
+public final class SweepResult {
+    private final String strategyName;
+    private final int[] timeQuantums;
+    private final int contextSwitchingDelay;
+    private final MetricsAccumulator metrics;
+    private final boolean cutOff;
+
+    SweepResult(String strategyName, int[] timeQuantums, int contextSwitchingDelay,
+                MetricsAccumulator metrics, boolean cutOff) {
+        this.strategyName = strategyName;
+        this.timeQuantums = timeQuantums;
+        this.contextSwitchingDelay = contextSwitchingDelay;
+        this.metrics = metrics;
+        this.cutOff = cutOff;
+    }
+
+    /**
+     * Returns the name of the strategy that was run.
+     *
+     * @return "rr" for Round Robin or "mlfq" for the multi-level feedback queue.
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    /**
+     * Returns the time quantums that were tried: one for Round Robin, one per queue for MLFQ.
+     *
+     * @return A copy of the time quantums.
+     */
+    public int[] getTimeQuantums() {
+        return timeQuantums.clone();
+    }
+
+    /**
+     * Returns the context switching delay that was tried.
+     *
+     * @return The context switching delay.
+     */
+    public int getContextSwitchingDelay() {
+        return contextSwitchingDelay;
+    }
+
+    /**
+     * Returns the metrics of the run. For a point that was cut off they only cover the
+     * processes that completed before the run was stopped.
+     *
+     * @return The metrics of the run.
+     */
+    public MetricsAccumulator getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Checks whether the run was stopped early because it could no longer beat the best
+     * point with the same context switching delay.
+     *
+     * @return true if the point was cut off, false if it ran to completion.
+     */
+    public boolean isCutOff() {
+        return cutOff;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s delay=%d avgWaiting=%.2f avgTAT=%.2f%s",
+                strategyName, Arrays.toString(timeQuantums), contextSwitchingDelay,
+                metrics.averageWaitingTime(), metrics.averageTurnaroundTime(),
+                cutOff ? " (cut off)" : "");
+    }
+}
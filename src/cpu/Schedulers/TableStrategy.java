@@ -0,0 +1,46 @@
+package cpu.Schedulers;
+
+/**
+ * The TableStrategy interface is the struct-of-arrays counterpart of Strategy. Implementing
+ * classes schedule the processes of a ProcessTable in place, reading and writing its
+ * primitive arrays directly instead of going through Process objects.
+ *
+ * The scheduler prefers this entry point when its strategy implements it. Process arrays
+ * are still accepted: they are copied into a table, scheduled, and the results copied back.
+ */
+public interface TableStrategy extends Strategy {
+
+    @Override
+    default void execute(Process[] processes, int contextSwitchingDelay) {
+        ProcessTable table = ProcessTable.of(processes);
+        execute(table, contextSwitchingDelay);
+        table.copyTo(processes);
+    }
+
+    /**
+     * Executes the scheduling algorithm on the processes of the given table, recording
+     * completion, turnaround and waiting times in the table.
+     *
+     * @param table                 The processes to be scheduled.
+     * @param contextSwitchingDelay The delay incurred during context switching
+     *                               between processes.
+     */
+    void execute(ProcessTable table, int contextSwitchingDelay);
+
+    /**
+     * Executes the scheduling algorithm like execute(table, contextSwitchingDelay), notifying
+     * the listener of every dispatch, preemption and completion on the way.
+     *
+     * @param table                 The processes to be scheduled.
+     * @param contextSwitchingDelay The delay incurred during context switching
+     *                               between processes.
+     * @param scheduleListener      The listener, or null for none.
+     * @throws IllegalStateException if a listener is given and the strategy cannot report to it.
+     */
+    default void execute(ProcessTable table, int contextSwitchingDelay, ScheduleListener scheduleListener) {
+        if (scheduleListener != null) {
+            throw new IllegalStateException("This strategy does not report to a schedule listener.");
+        }
+        execute(table, contextSwitchingDelay);
+    }
+}
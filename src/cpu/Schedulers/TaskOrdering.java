@@ -0,0 +1,139 @@
+package cpu.Schedulers;
+
+/**
+ * The TaskOrdering interface decides in which order a PolicyExecutor runs the tasks that are
+ * waiting for a thread. Every task gets a sort key when it is submitted, from its cost
+ * estimate, its priority and its submission time; the task with the smallest key runs next
+ * and equal keys run in submission order.
+ *
+ * The factory methods carry the ordering rules of the simulated strategies over to real
+ * tasks. Tasks are never preempted, so preemptive strategies map to the non-preemptive rule
+ * they converge to, e.g. SRTF to shortest job first. Cost estimates and submission times are
+ * in nanoseconds.
+ */
+@FunctionalInterface
+public interface TaskOrdering {
+
+    /**
+     * Computes the sort key of a task.
+     *
+     * @param cost       The estimated running time of the task in nanoseconds.
+     * @param priority   The priority of the task.
+     * @param submitTime The System.nanoTime() at which the task was submitted.
+     * @return The key; smaller keys run first.
+     */
+    long key(long cost, int priority, long submitTime);
+
+    /**
+     * Runs tasks in submission order, like FCFS and a plain ThreadPoolExecutor.
+     *
+     * @return The ordering.
+     */
+    static TaskOrdering fifo() {
+        return (cost, priority, submitTime) -> 0;
+    }
+
+    /**
+     * Runs the task with the smallest cost estimate first, like SJF.
+     *
+     * @return The ordering.
+     */
+    static TaskOrdering shortestJobFirst() {
+        return (cost, priority, submitTime) -> cost;
+    }
+
+    /**
+     * Runs the task with the largest cost estimate first, like LJF.
+     *
+     * @return The ordering.
+     */
+    static TaskOrdering longestJobFirst() {
+        return (cost, priority, submitTime) -> -cost;
+    }
+
+    /**
+     * Runs the task with the lowest priority value first, like PriorityScheduling.
+     *
+     * @return The ordering.
+     */
+    static TaskOrdering priority() {
+        return (cost, priority, submitTime) -> priority;
+    }
+
+    /**
+     * Orders tasks by response ratio with aging, like HRRN. The response ratio of a task,
+     * (waiting time + cost) / cost, grows while it waits, so ordering by the time at which it
+     * reaches 1 + stretch is a fixed key: short tasks reach it quickly, and long tasks reach
+     * it eventually, so they cannot starve behind a steady stream of short ones.
+     *
+     * @param stretch The waiting time, in multiples of its cost, after which a task is due.
+     * @return The ordering.
+     * @throws IllegalArgumentException if the stretch is not positive.
+     */
+    static TaskOrdering responseRatio(double stretch) {
+        if (!(stretch > 0)) {
+            throw new IllegalArgumentException("Stretch must be greater than 0.");
+        }
+        return (cost, priority, submitTime) -> submitTime + (long) (stretch * cost);
+    }
+
+    /**
+     * Orders tasks like a MultiLevelFeedbackQueue: a task would be moved down one level each
+     * time it used up a quantum, so it is queued directly on the level it would finish on.
+     * Lower levels run first, and tasks on the same level run in submission order.
+     *
+     * @param timeQuantums The time quantum of each level in nanoseconds.
+     * @return The ordering.
+     * @throws IllegalArgumentException if there are no levels or a time quantum is not positive.
+     */
+    static TaskOrdering multiLevelFeedback(long... timeQuantums) {
+        if (timeQuantums.length == 0) {
+            throw new IllegalArgumentException("Number of queues must be greater than 0.");
+        }
+        for (long timeQuantum : timeQuantums) {
+            if (timeQuantum <= 0) {
+                throw new IllegalArgumentException("Time quantum must be greater than 0.");
+            }
+        }
+        long[] quantums = timeQuantums.clone();
+        return (cost, priority, submitTime) -> {
+            long served = 0;
+            for (int level = 0; level < quantums.length - 1; level++) {
+                served += quantums[level];
+                if (cost <= served || served < 0) {
+                    return level;
+                }
+            }
+            return quantums.length - 1;
+        };
+    }
+
+    /**
+     * Returns the ordering that matches a simulated strategy.
+     *
+     * @param strategy The strategy, e.g. an SJF, PriorityScheduling, HRRN or MultiLevelFeedbackQueue.
+     * @return The ordering.
+     * @throws IllegalArgumentException if the strategy has no task ordering.
+     */
+    static TaskOrdering of(Strategy strategy) {
+        if (strategy instanceof FCFS || strategy instanceof RoundRobin) {
+            return fifo();
+        } else if (strategy instanceof SJF || strategy instanceof SRTF) {
+            return shortestJobFirst();
+        } else if (strategy instanceof LJF || strategy instanceof LRTF) {
+            return longestJobFirst();
+        } else if (strategy instanceof PriorityScheduling) {
+            return priority();
+        } else if (strategy instanceof HRRN) {
+            return responseRatio(1);
+        } else if (strategy instanceof MultiLevelFeedbackQueue) {
+            int[] timeQuantums = ((MultiLevelFeedbackQueue) strategy).timeQuantums();
+            long[] quantums = new long[timeQuantums.length];
+            for (int level = 0; level < quantums.length; level++) {
+                quantums[level] = timeQuantums[level];
+            }
+            return multiLevelFeedback(quantums);
+        }
+        throw new IllegalArgumentException("No task ordering for " + strategy.getClass().getSimpleName() + ".");
+    }
+}
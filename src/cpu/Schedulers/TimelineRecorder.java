@@ -0,0 +1,190 @@
+package cpu.Schedulers;
+
+import java.util.Arrays;
+
+/**
+ * The TimelineRecorder class records what ran when, as a Gantt timeline of slices
+ * (start, end, pid, core). It is a ScheduleListener, so recording is opt-in: attach it to a
+ * scheduler or engine for the runs that need a timeline.
+ *
+ * Slices are stored in parallel primitive arrays split into fixed-size chunks, so the
+ * timeline grows without ever copying what was already recorded and without an object per
+ * slice. The core array is only allocated once a slice runs on a core other than 0. Back to
+ * back slices of the same process on the same core are merged into one (run-length
+ * encoding), and empty slices are dropped.
+ */
+public final class TimelineRecorder implements ScheduleListener {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int[][] starts = new int[0][];
+    private int[][] ends = new int[0][];
+    private int[][] pids = new int[0][];
+    private int[][] cores;       // Null while every slice ran on core 0
+    private long size;
+
+    private int[] openPid = new int[1];    // Process running on each core, -1 when idle
+    private int[] openStart = new int[1];  // Start of the slice running on each core
+    private long[] lastSlice = new long[1]; // Index of the last slice recorded for each core, -1 for none
+
+    /**
+     * Constructs an empty recorder.
+     */
+    public TimelineRecorder() {
+        clear();
+    }
+
+    @Override
+    public void onDispatch(int core, int pid, int time) {
+        if (core >= openPid.length) {
+            growCores(core + 1);
+        }
+        openPid[core] = pid;
+        openStart[core] = time;
+    }
+
+    @Override
+    public void onPreempt(int core, int pid, int time) {
+        close(core, pid, time);
+    }
+
+    @Override
+    public void onComplete(int core, int pid, int time) {
+        close(core, pid, time);
+    }
+
+    /**
+     * Returns the number of recorded slices.
+     *
+     * @return The number of slices.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the start time of a slice.
+     *
+     * @param index The index of the slice, in the order slices ended.
+     * @return The time the process started executing.
+     */
+    public int getStart(long index) {
+        return starts[chunk(index)][(int) index & CHUNK_MASK];
+    }
+
+    /**
+     * Returns the end time of a slice.
+     *
+     * @param index The index of the slice, in the order slices ended.
+     * @return The time the process stopped executing.
+     */
+    public int getEnd(long index) {
+        return ends[chunk(index)][(int) index & CHUNK_MASK];
+    }
+
+    /**
+     * Returns the process that ran during a slice.
+     *
+     * @param index The index of the slice, in the order slices ended.
+     * @return The process ID.
+     */
+    public int getPid(long index) {
+        return pids[chunk(index)][(int) index & CHUNK_MASK];
+    }
+
+    /**
+     * Returns the core a slice ran on.
+     *
+     * @param index The index of the slice, in the order slices ended.
+     * @return The index of the core.
+     */
+    public int getCore(long index) {
+        int chunk = chunk(index);
+        return cores == null ? 0 : cores[chunk][(int) index & CHUNK_MASK];
+    }
+
+    /**
+     * Removes every recorded slice, keeping the allocated chunks for reuse.
+     */
+    public void clear() {
+        size = 0;
+        Arrays.fill(openPid, -1);
+        Arrays.fill(lastSlice, -1);
+    }
+
+    /**
+     * Prints the timeline, one slice per line.
+     */
+    public void printTimeline() {
+        System.out.printf("%-5s %-15s %-15s %-5s%n", "Core", "Start", "End", "PID");
+        for (long i = 0; i < size; i++) {
+            System.out.printf("%-5d %-15d %-15d %-5d%n", getCore(i), getStart(i), getEnd(i), getPid(i));
+        }
+    }
+
+    private void close(int core, int pid, int time) {
+        if (core >= openPid.length || openPid[core] != pid) {
+            return; // Never saw the dispatch
+        }
+        int start = openStart[core];
+        openPid[core] = -1;
+        if (time <= start) {
+            return; // Preempted during its context switch
+        }
+
+        long last = lastSlice[core];
+        if (last != -1 && getPid(last) == pid && getEnd(last) == start) {
+            ends[chunk(last)][(int) last & CHUNK_MASK] = time;
+            return;
+        }
+
+        long index = size;
+        int chunk = chunk(index);
+        if (chunk == starts.length) {
+            addChunk();
+        }
+        int offset = (int) index & CHUNK_MASK;
+        starts[chunk][offset] = start;
+        ends[chunk][offset] = time;
+        pids[chunk][offset] = pid;
+        if (core != 0 && cores == null) {
+            cores = new int[starts.length][];
+            for (int i = 0; i < cores.length; i++) {
+                cores[i] = new int[CHUNK_SIZE];
+            }
+        }
+        if (cores != null) {
+            cores[chunk][offset] = core;
+        }
+        lastSlice[core] = index;
+        size++;
+    }
+
+    private static int chunk(long index) {
+        return (int) (index >>> CHUNK_BITS);
+    }
+
+    private void addChunk() {
+        int chunks = starts.length + 1;
+        starts = Arrays.copyOf(starts, chunks);
+        ends = Arrays.copyOf(ends, chunks);
+        pids = Arrays.copyOf(pids, chunks);
+        starts[chunks - 1] = new int[CHUNK_SIZE];
+        ends[chunks - 1] = new int[CHUNK_SIZE];
+        pids[chunks - 1] = new int[CHUNK_SIZE];
+        if (cores != null) {
+            cores = Arrays.copyOf(cores, chunks);
+            cores[chunks - 1] = new int[CHUNK_SIZE];
+        }
+    }
+
+    private void growCores(int count) {
+        int old = openPid.length;
+        openPid = Arrays.copyOf(openPid, count);
+        openStart = Arrays.copyOf(openStart, count);
+        lastSlice = Arrays.copyOf(lastSlice, count);
+        Arrays.fill(openPid, old, count, -1);
+        Arrays.fill(lastSlice, old, count, -1);
+    }
+}
@@ -1,18 +1,45 @@
 package cpu.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The CpuScheduler class is responsible for managing and executing process scheduling strategies.
  * It initializes processes based on arrival times, burst times, and priorities, and allows
  * the user to set different scheduling strategies (e.g., FCFS, SJF, Priority Scheduling, HRRN, LJF).
+ *
+ * The processes are stored in a ProcessTable. Strategies that implement TableStrategy run on
+ * it directly; other strategies get a Process[] materialized from the table for each run.
+ *
+ * With more than one core set, event-driven strategies run in SMP mode on a MultiCoreEngine,
+ * where every core schedules its own run queue and a LoadBalancer spreads the processes.
+ *
+ * Long single-core runs of event-driven strategies can write periodic checkpoints, and a
+ * run interrupted for any reason can be resumed from the last one instead of from time zero.
  */
 public class scheduler {
 
     private Strategy strategy;
-    private Process[] processes;
+    private ProcessTable table;
     private int contextSwitchingDelay;
+    private int coreCount = 1;
+    private LoadBalancer loadBalancer;
+    private MultiCoreEngine multiCoreEngine; // Engine of the last SMP run
+    private ScheduleListener scheduleListener;
+    private ScheduleMetrics metrics;         // Cached summary of the last execution, null until computed
+    private Path checkpointFile;             // Where periodic checkpoints go, null for none
+    private Duration checkpointInterval;
 
     /**
      * Constructor to initialize the CpuScheduler with arrival times, burst times, and priorities.
@@ -24,7 +51,7 @@ public class scheduler {
      */
     public scheduler(Object arrivalTimes, Object burstTimes, Object priorities) {
         this.contextSwitchingDelay = 0; // Default to 0
-        this.processes = initializeProcesses(arrivalTimes, burstTimes, priorities);
+        this.table = initializeProcesses(arrivalTimes, burstTimes, priorities);
     }
 
     /**
@@ -38,7 +65,19 @@ public class scheduler {
      */
     public scheduler(Object arrivalTimes, Object burstTimes, Object priorities, int contextSwitchingDelay) {
         this.contextSwitchingDelay = contextSwitchingDelay;
-        this.processes = initializeProcesses(arrivalTimes, burstTimes, priorities);
+        this.table = initializeProcesses(arrivalTimes, burstTimes, priorities);
+    }
+
+    /**
+     * Constructor to initialize the CpuScheduler with an existing process table.
+     * The table is used as is, so results of later executions are written into it.
+     *
+     * @param table                 The processes to schedule.
+     * @param contextSwitchingDelay The delay incurred during context switching between processes.
+     */
+    public scheduler(ProcessTable table, int contextSwitchingDelay) {
+        this.contextSwitchingDelay = contextSwitchingDelay;
+        this.table = table;
     }
 
     /**
@@ -47,28 +86,22 @@ public class scheduler {
      * @param arrivalTimes An array or list of arrival times.
      * @param burstTimes   An array or list of burst times.
      * @param priorities   An array or list of priorities.
-     * @return An array of Process objects initialized with the provided parameters.
+     * @return A ProcessTable filled with the provided parameters.
      * @throws IllegalArgumentException if the input arrays or lists do not have the same size.
      */
-    private Process[] initializeProcesses(Object arrivalTimes, Object burstTimes, Object priorities) {
+    private ProcessTable initializeProcesses(Object arrivalTimes, Object burstTimes, Object priorities) {
         int[] arrival = convertToIntArray(arrivalTimes);
         int[] burst = convertToIntArray(burstTimes);
-        int[] priority = (priorities != null) ? convertToIntArray(priorities) : new int[arrival.length];
+        int[] priority = (priorities != null) ? convertToIntArray(priorities) : null;
 
-        if (arrival.length != burst.length || (priorities != null && burst.length != priority.length)) {
-            throw new IllegalArgumentException("Input arrays or lists must have the same size.");
-        }
-
-        Process[] processes = new Process[arrival.length];
-        for (int i = 0; i < arrival.length; i++) {
-            processes[i] = new Process(i + 1, arrival[i], burst[i], priority[i]);
-        }
-        return processes;
+        return new ProcessTable(arrival, burst, priority);
     }
 
     /**
      * Converts the input to an integer array.
      *
+     * An int[] is returned as is, without copying or boxing.
+     *
      * @param input The input to convert, which can be an int[] or a List<Integer>.
      * @return An integer array containing the converted values.
      * @throws IllegalArgumentException if the input type is invalid.
@@ -79,8 +112,9 @@ public class scheduler {
         } else if (input instanceof List) {
             List<?> list = (List<?>) input;
             int[] array = new int[list.size()];
-            for (int i = 0; i < list.size(); i++) {
-                array[i] = (Integer) list.get(i);
+            int i = 0;
+            for (Object value : list) {
+                array[i++] = (Integer) value;
             }
             return array;
         } else {
@@ -91,7 +125,8 @@ public class scheduler {
     /**
      * Sets the scheduling strategy based on the provided strategy name.
      *
-     * @param strategyName The name of the scheduling strategy (e.g., "fcfs", "sjf", "priority", "hrrn", "ljf").
+     * @param strategyName The name of the scheduling strategy (e.g., "fcfs", "sjf", "priority", "hrrn", "ljf",
+     *                     "lottery", "stride", "cfs", "edf", "rm").
      * @throws IllegalArgumentException if the strategy name is invalid.
      */
     public void setStrategy(String strategyName) {
@@ -117,6 +152,21 @@ public class scheduler {
             case "lrtf" :
                  this.strategy = new LRTF();
                  break;
+            case "lottery":
+                this.strategy = new LotteryScheduling();
+                break;
+            case "stride":
+                this.strategy = new StrideScheduling();
+                break;
+            case "cfs":
+                this.strategy = new CFS();
+                break;
+            case "edf":
+                this.strategy = new EDF();
+                break;
+            case "rm":
+                this.strategy = new RateMonotonic();
+                break;
             default:
                 throw new IllegalArgumentException("Invalid strategy name: " + strategyName);
         }
@@ -131,6 +181,15 @@ public class scheduler {
         this.strategy = strategy;
     }
 
+    /**
+     * Returns the scheduling strategy currently set.
+     *
+     * @return The strategy, or null if none is set.
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
     /**
      * Updates the priorities of the existing processes.
      *
@@ -139,12 +198,13 @@ public class scheduler {
      */
     public void setPriorities(Object priorities) {
         int[] priority = convertToIntArray(priorities);
-        if (processes.length != priority.length) {
+        if (table.size() != priority.length) {
             throw new IllegalArgumentException("The length of priorities must match the existing processes.");
         }
-        for (int i = 0; i < processes.length; i++) {
-            processes[i].setPriority(priority[i]);
+        for (int i = 0; i < priority.length; i++) {
+            table.setPriority(i, priority[i]);
         }
+        metrics = null;
     }
 
     /**
@@ -160,6 +220,57 @@ public class scheduler {
         this.contextSwitchingDelay = contextSwitchingDelay;
     }
 
+    /**
+     * Sets the number of simulated cores. With more than one core, execute() runs the
+     * strategy in SMP mode, which requires an event-driven strategy such as FCFS, SRTF,
+     * LRTF or RoundRobin.
+     *
+     * @param coreCount    The number of cores.
+     * @param loadBalancer The policy spreading processes over the cores, e.g. IdleWorkStealing.
+     * @throws IllegalArgumentException if there are no cores or the balancer is null.
+     */
+    public void setCores(int coreCount, LoadBalancer loadBalancer) {
+        if (coreCount <= 0) {
+            throw new IllegalArgumentException("Number of cores must be greater than 0.");
+        }
+        if (loadBalancer == null) {
+            throw new IllegalArgumentException("Load balancer can't be null.");
+        }
+        this.coreCount = coreCount;
+        this.loadBalancer = loadBalancer;
+    }
+
+    /**
+     * Registers a listener, e.g. a TimelineRecorder, that is notified of every dispatch,
+     * preemption and completion of later executions. Every TableStrategy reports to it;
+     * executing a strategy that only implements Strategy with a listener set throws an
+     * IllegalStateException.
+     *
+     * @param scheduleListener The listener, or null for none.
+     */
+    public void setScheduleListener(ScheduleListener scheduleListener) {
+        this.scheduleListener = scheduleListener;
+    }
+
+    /**
+     * Makes later executions write a checkpoint of the whole simulation to the given file
+     * every interval of wall-clock time, so that an interrupted run can be continued with
+     * resume(). Each checkpoint is written next to the file and then moved over it, so the
+     * file always holds a complete snapshot. Checkpoints work with any EventDrivenStrategy
+     * running on one core.
+     *
+     * @param checkpointFile     The file to keep the latest checkpoint in, or null for none.
+     * @param checkpointInterval The wall-clock time between two checkpoints.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public void setCheckpoints(Path checkpointFile, Duration checkpointInterval) {
+        if (checkpointFile != null && (checkpointInterval.isZero() || checkpointInterval.isNegative())) {
+            throw new IllegalArgumentException("Checkpoint interval must be greater than 0.");
+        }
+        this.checkpointFile = checkpointFile;
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Adds a new process to the scheduler.
      *
@@ -176,34 +287,189 @@ public class scheduler {
             throw new IllegalArgumentException("Priority must be greater than 0 for Priority Scheduling.");
         }
 
-        Process[] newProcesses = new Process[processes.length + 1];
-        System.arraycopy(processes, 0, newProcesses, 0, processes.length);
-        newProcesses[processes.length] = new Process(pid, arrivalTime, burstTime, processPriority);
-        processes = newProcesses;
+        table.add(pid, arrivalTime, burstTime, processPriority);
+        metrics = null;
+    }
+
+    /**
+     * Adds a new real-time process to the scheduler, e.g. one job of a periodic task.
+     *
+     * @param pid         The process ID.
+     * @param arrivalTime The arrival time of the process.
+     * @param burstTime   The burst time of the process.
+     * @param priority    The priority of the process.
+     * @param deadline    The absolute time by which the process should complete.
+     * @param period      The period of the task releasing the process, or 0 if aperiodic.
+     */
+    public void addProcess(int pid, int arrivalTime, int burstTime, int priority, int deadline, int period) {
+        table.add(pid, arrivalTime, burstTime, priority, deadline, period);
+        metrics = null;
     }
 
     /**
      * Executes the selected scheduling strategy.
      *
-     * @throws IllegalStateException if the strategy is not set or no processes are added.
+     * @throws IllegalStateException if the strategy is not set, no processes are added, or
+     *                               the strategy cannot report to the schedule listener set.
      */
     public void execute() {
         if (strategy == null) {
             throw new IllegalStateException("Strategy is not set. Please set a valid strategy before executing.");
         }
-        if (processes.length == 0) {
+        if (table.size() == 0) {
             throw new IllegalStateException("No processes added. Please add processes before executing.");
         }
 
-        strategy.execute(processes, contextSwitchingDelay);
+        metrics = null;
+        if (checkpointFile != null && (coreCount > 1 || !(strategy instanceof EventDrivenStrategy))) {
+            throw new IllegalStateException("Checkpoints require an event-driven strategy running on one core.");
+        }
+        if (coreCount > 1) {
+            if (!(strategy instanceof EventDrivenStrategy)) {
+                throw new IllegalStateException("SMP mode requires an event-driven strategy such as FCFS, SRTF, LRTF or RoundRobin.");
+            }
+            multiCoreEngine = new MultiCoreEngine(table, coreCount, contextSwitchingDelay, loadBalancer);
+            multiCoreEngine.setScheduleListener(scheduleListener);
+            multiCoreEngine.run((EventDrivenStrategy) strategy);
+        } else if (strategy instanceof EventDrivenStrategy) {
+            // One path whether or not a listener or checkpoints are set, so neither changes the results
+            SimulationEngine engine = new SimulationEngine(table, contextSwitchingDelay);
+            engine.setScheduleListener(scheduleListener);
+            runWithCheckpoints(engine, false);
+        } else if (strategy instanceof TableStrategy) {
+            ((TableStrategy) strategy).execute(table, contextSwitchingDelay, scheduleListener);
+        } else {
+            if (scheduleListener != null) {
+                throw new IllegalStateException("Schedule listeners require a strategy that implements TableStrategy.");
+            }
+            // The strategy may reorder the array, so keep the slot order to copy results back
+            Process[] processes = table.toProcesses();
+            Process[] slots = processes.clone();
+            strategy.execute(processes, contextSwitchingDelay);
+            table.copyFrom(slots);
+            table.setContextSwitchCount(Math.max(0, table.size() - 1)); // Each process runs once
+        }
+    }
+
+    /**
+     * Continues a simulation from a checkpoint written by an earlier execution, possibly of
+     * another scheduler or process, and runs it to completion. The processes and results of
+     * this scheduler are replaced by those of the checkpoint, and if checkpoints are still
+     * set, the resumed run keeps writing them.
+     *
+     * @param checkpoint The checkpoint file to resume from.
+     * @throws IllegalStateException    if the strategy is not set or not event-driven.
+     * @throws IllegalArgumentException if the checkpoint was taken with another strategy.
+     * @throws UncheckedIOException     if the checkpoint cannot be read.
+     */
+    public void resume(Path checkpoint) {
+        if (!(strategy instanceof EventDrivenStrategy)) {
+            throw new IllegalStateException("Resuming requires the event-driven strategy the checkpoint was taken with.");
+        }
+        SimulationEngine engine;
+        try (FileChannel channel = FileChannel.open(checkpoint, StandardOpenOption.READ)) {
+            engine = SimulationEngine.restore(channel, (EventDrivenStrategy) strategy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read checkpoint " + checkpoint, e);
+        }
+        table = engine.getProcessTable();
+        metrics = null;
+        engine.setScheduleListener(scheduleListener);
+        runWithCheckpoints(engine, true);
+    }
+
+    /**
+     * Runs or resumes the engine to completion. When checkpoints are set, a timer halts the
+     * engine once per interval, and every halt writes a checkpoint before the run continues.
+     */
+    private void runWithCheckpoints(SimulationEngine engine, boolean resume) {
+        if (checkpointFile == null) {
+            if (resume) {
+                engine.resume();
+            } else {
+                engine.run(((EventDrivenStrategy) strategy).newPolicy(engine));
+            }
+            return;
+        }
+
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "checkpoint-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = checkpointInterval.toNanos();
+        timer.scheduleAtFixedRate(engine::halt, period, period, TimeUnit.NANOSECONDS);
+        try {
+            if (resume) {
+                engine.resume();
+            } else {
+                engine.run(((EventDrivenStrategy) strategy).newPolicy(engine));
+            }
+            while (engine.isHalted()) {
+                writeCheckpoint(engine);
+                engine.resume();
+            }
+        } finally {
+            timer.shutdownNow();
+        }
+    }
+
+    private void writeCheckpoint(SimulationEngine engine) {
+        Path partial = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".partial");
+        try {
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                engine.checkpoint(channel);
+            }
+            Files.move(partial, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write checkpoint " + checkpointFile, e);
+        }
     }
 
     /**
      * Resets all processes to their initial state.
      */
     public void reset() {
-        for (Process process : processes) {
-            process.reset();
+        table.reset();
+        metrics = null;
+    }
+
+    /**
+     * Returns the table holding the processes and their scheduling results.
+     *
+     * @return The process table of this scheduler.
+     */
+    public ProcessTable getProcessTable() {
+        return table;
+    }
+
+    /**
+     * Returns the engine of the last run in SMP mode, which holds the per-core statistics.
+     *
+     * @return The multi-core engine, or null if no SMP run was executed.
+     */
+    public MultiCoreEngine getMultiCoreEngine() {
+        return multiCoreEngine;
+    }
+
+    /**
+     * Prints the per-core statistics of the last run in SMP mode.
+     *
+     * @throws IllegalStateException if no SMP run was executed.
+     */
+    public void printCores() {
+        if (multiCoreEngine == null) {
+            throw new IllegalStateException("No SMP run executed. Please set more than one core and execute first.");
+        }
+        System.out.printf("%-5s %-15s %-15s %-15s %-15s%n", "Core", "Busy Time", "Utilization %", "Dispatches", "Migrations");
+        for (int core = 0; core < multiCoreEngine.getCoreCount(); core++) {
+            System.out.printf("%-5d %-15d %-15.2f %-15d %-15d%n",
+                    core,
+                    multiCoreEngine.getBusyTime(core),
+                    multiCoreEngine.getUtilization(core),
+                    multiCoreEngine.getDispatchCount(core),
+                    multiCoreEngine.getMigrationCount(core));
         }
     }
 
@@ -213,7 +479,9 @@ public class scheduler {
     public void printProcesses() {
         System.out.printf("%-5s %-15s %-15s %-15s %-15s %-15s %-15s %-10s%n",
                 "PID", "Arrival Time", "Burst Time", "Priority", "Completion Time", "TAT", "Waiting Time", "Completed");
-        for (Process process : processes) {
+        ProcessView process = table.view();
+        for (int slot = 0; slot < table.size(); slot++) {
+            process.at(slot);
             System.out.printf("%-5d %-15d %-15d %-15d %-15d %-15d %-15d %-10s%n",
                     process.getPid(),
                     process.getArrivalTime(),
@@ -226,21 +494,26 @@ public class scheduler {
         }
     }
 
+    /**
+     * Returns the metrics of the last execution. They are computed in one pass on first use
+     * and cached until the next execute() or reset().
+     *
+     * @return The metrics summary.
+     */
+    public ScheduleMetrics getMetrics() {
+        if (metrics == null) {
+            metrics = ScheduleMetrics.of(table);
+        }
+        return metrics;
+    }
+
     /**
      * Calculates the efficiency of the scheduling.
      *
      * @return The efficiency as a double value.
      */
     public double efficiency() {
-        int totalBurstTime = 0;
-        int lastCompletionTime = 0;
-
-        for (Process process : processes) {
-            totalBurstTime += process.getBurstTime();
-            lastCompletionTime = Math.max(lastCompletionTime, process.getCompletionTime());
-        }
-
-        return (double) totalBurstTime / lastCompletionTime;
+        return getMetrics().efficiency();
     }
 
     /**
@@ -249,14 +522,7 @@ public class scheduler {
      * @return The throughput as a double value.
      */
     public double throughput() {
-        int totalProcesses = processes.length;
-        int lastCompletionTime = 0;
-
-        for (Process process : processes) {
-            lastCompletionTime = Math.max(lastCompletionTime, process.getCompletionTime());
-        }
-
-        return (double) totalProcesses / lastCompletionTime;
+        return getMetrics().throughput();
     }
 
     /**
@@ -265,13 +531,25 @@ public class scheduler {
      * @return The average waiting time as a double value.
      */
     public double averageWaitingTime() {
-        int totalWaitingTime = 0;
+        return getMetrics().averageWaitingTime();
+    }
 
-        for (Process process : processes) {
-            totalWaitingTime += process.getWaitingTime();
-        }
+    /**
+     * Calculates the share of the processes with a deadline that completed after it.
+     *
+     * @return The deadline miss ratio, 0 if no process has a deadline.
+     */
+    public double deadlineMissRatio() {
+        return getMetrics().deadlineMissRatio();
+    }
 
-        return (double) totalWaitingTime / processes.length;
+    /**
+     * Returns the number of processes that completed after their deadline.
+     *
+     * @return The number of deadline misses.
+     */
+    public long deadlineMisses() {
+        return getMetrics().getDeadlineMissCount();
     }
 
     /**
@@ -280,13 +558,16 @@ public class scheduler {
      * @return The average turnaround time as a double value.
      */
     public double averageTurnaroundTime() {
-        int totalTurnaroundTime = 0;
-
-        for (Process process : processes) {
-            totalTurnaroundTime += process.getTurnAroundTime();
-        }
+        return getMetrics().averageTurnaroundTime();
+    }
 
-        return (double) totalTurnaroundTime / processes.length;
+    /**
+     * Calculates the average response time of the processes.
+     *
+     * @return The average response time as a double value.
+     */
+    public double averageResponseTime() {
+        return getMetrics().averageResponseTime();
     }
 
     /**
@@ -295,14 +576,6 @@ public class scheduler {
      * @return The CPU utilization as a percentage.
      */
     public double cpuUtilization() {
-        int totalBurstTime = 0;
-        int lastCompletionTime = 0;
-
-        for (Process process : processes) {
-            totalBurstTime += process.getBurstTime();
-            lastCompletionTime = Math.max(lastCompletionTime, process.getCompletionTime());
-        }
-
-        return (lastCompletionTime > 0) ? (double) totalBurstTime / lastCompletionTime * 100 : 0;
+        return getMetrics().cpuUtilization();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package disk.Schedulers;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Pending requests grouped by cylinder, for queues that pick requests by head position.
+ * <p>
+ * Each cylinder keeps its requests in a FIFO list linked through an array indexed by
+ * request id, and a bit set marks the cylinders with pending requests, so the closest
+ * cylinder in either direction is found without scanning the requests and nothing is
+ * allocated per request.
+ * </p>
+ */
+final class CylinderBuckets {
+    private final int[] first;  // First request per cylinder, -1 when none
+    private final int[] last;   // Last request per cylinder
+    private int[] links = new int[64]; // Next request on the same cylinder, -1 at the end
+    private final BitSet pending;
+    private int size;
+
+    CylinderBuckets(int diskSize) {
+        if (diskSize <= 0) {
+            throw new IllegalArgumentException("Disk size must be greater than 0.");
+        }
+        this.first = new int[diskSize];
+        this.last = new int[diskSize];
+        Arrays.fill(first, -1);
+        this.pending = new BitSet(diskSize);
+    }
+
+    void add(int request, int cylinder) {
+        if (cylinder < 0 || cylinder >= first.length) {
+            throw new IllegalArgumentException("Cylinder must be between 0 and disk size.");
+        }
+        if (request >= links.length) {
+            links = Arrays.copyOf(links, Math.max(request + 1, links.length * 2));
+        }
+        links[request] = -1;
+        if (first[cylinder] == -1) {
+            first[cylinder] = request;
+            pending.set(cylinder);
+        } else {
+            links[last[cylinder]] = request;
+        }
+        last[cylinder] = request;
+        size++;
+    }
+
+    /**
+     * Removes the oldest request on a cylinder that has pending requests.
+     */
+    int poll(int cylinder) {
+        int request = first[cylinder];
+        first[cylinder] = links[request];
+        if (first[cylinder] == -1) {
+            pending.clear(cylinder);
+        }
+        size--;
+        return request;
+    }
+
+    /**
+     * Returns the closest cylinder at or above the given one with pending requests, or -1.
+     */
+    int ceiling(int cylinder) {
+        return cylinder >= first.length ? -1 : pending.nextSetBit(Math.max(cylinder, 0));
+    }
+
+    /**
+     * Returns the closest cylinder at or below the given one with pending requests, or -1.
+     */
+    int floor(int cylinder) {
+        return cylinder < 0 ? -1 : pending.previousSetBit(Math.min(cylinder, first.length - 1));
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,34 @@
+package disk.Schedulers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The DiskScheduleEvent class is the Flight Recorder event for one run of a disk scheduling
+ * strategy over a batch of requests. Its duration is the wall-clock time of the run.
+ */
+@Name("disk.Schedulers.DiskSchedule")
+@Label("Disk Schedule")
+@Category({"OS Simulator", "Disk Scheduling"})
+@Description("One run of a disk scheduling strategy")
+@StackTrace(false)
+final class DiskScheduleEvent extends jdk.jfr.Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Requests")
+    int requests;
+
+    @Label("Disk Size")
+    int diskSize;
+
+    @Label("Head Movement")
+    @Description("Cylinders the head moved over")
+    long headMovement;
+
+    @Label("Direction Changes")
+    int directionChanges;
+}
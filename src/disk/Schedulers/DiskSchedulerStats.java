@@ -0,0 +1,97 @@
+package disk.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The DiskSchedulerStats class holds process-wide counters of what the disk scheduling runs
+ * did: requests served, head movement and reversals of the head's direction, summed over
+ * every run on every thread. They complement the DiskScheduleEvent Flight Recorder event,
+ * which breaks the same numbers down per run. Disk strategies order a batch of requests
+ * without a clock and never preempt a seek, so there is no idle time or preemption to count;
+ * a reversal is the disk's counterpart of a context switch.
+ *
+ * Like cpu.Schedulers.SchedulerStats, the counters are off by default, are switched on with
+ * -Dschedulers.stats=true and are striped LongAdders updated once per run.
+ */
+public final class DiskSchedulerStats {
+    /** Whether the counters are updated, from the schedulers.stats system property. */
+    public static final boolean ENABLED = Boolean.getBoolean("schedulers.stats");
+
+    private static final LongAdder REQUESTS = new LongAdder();
+    private static final LongAdder HEAD_MOVEMENT = new LongAdder();
+    private static final LongAdder DIRECTION_CHANGES = new LongAdder();
+
+    private DiskSchedulerStats() {
+    }
+
+    /**
+     * Returns the number of requests served.
+     *
+     * @return The request count.
+     */
+    public static long getRequestCount() {
+        return REQUESTS.sum();
+    }
+
+    /**
+     * Returns the total number of cylinders the head moved over.
+     *
+     * @return The head movement.
+     */
+    public static long getHeadMovement() {
+        return HEAD_MOVEMENT.sum();
+    }
+
+    /**
+     * Returns the number of times the head reversed its direction.
+     *
+     * @return The direction change count.
+     */
+    public static long getDirectionChangeCount() {
+        return DIRECTION_CHANGES.sum();
+    }
+
+    /**
+     * Sets every counter back to 0.
+     */
+    public static void reset() {
+        REQUESTS.reset();
+        HEAD_MOVEMENT.reset();
+        DIRECTION_CHANGES.reset();
+    }
+
+    static void add(long requests, long headMovement, long directionChanges) {
+        REQUESTS.add(requests);
+        HEAD_MOVEMENT.add(headMovement);
+        DIRECTION_CHANGES.add(directionChanges);
+    }
+
+    /**
+     * Counts the reversals of the head along a seek sequence.
+     *
+     * @param headPosition The initial position of the head.
+     * @param sequence     The cylinders visited, in order, or null if the strategy does not
+     *                     report its sequence.
+     * @return The number of times the direction of travel changed, 0 without a sequence.
+     */
+    static int directionChanges(int headPosition, List<Integer> sequence) {
+        if (sequence == null) {
+            return 0;
+        }
+        int changes = 0;
+        int direction = 0;
+        int position = headPosition;
+        for (int cylinder : sequence) {
+            int step = Integer.signum(cylinder - position);
+            if (step != 0) {
+                if (direction != 0 && step != direction) {
+                    changes++;
+                }
+                direction = step;
+            }
+            position = cylinder;
+        }
+        return changes;
+    }
+}
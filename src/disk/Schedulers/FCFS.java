@@ -1,19 +1,79 @@
 package disk.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-public class FCFS implements Strategy {
+public class FCFS implements Strategy, OnlineStrategy {
 
     List<Integer> seekList;
 
     @Override
     public int execute(List<Integer> requests, int headPosition) {
-        // TODO Auto-generated method stub
-        return 0;
+        seekList = new ArrayList<>(requests);
+        int totalHeadCount = 0;
+        int currentHead = headPosition;
+        for (int request : requests) {
+            totalHeadCount += Math.abs(request - currentHead);
+            currentHead = request;
+        }
+        return totalHeadCount;
     }
 
     @Override
     public List<Integer> seekSequence() {
         return seekList;
     }
+
+    @Override
+    public RequestQueue newQueue(int diskSize) {
+        return new Queue(diskSize);
+    }
+
+    /**
+     * Services requests in the order they were added, kept in a circular array of ids.
+     */
+    private static final class Queue implements RequestQueue {
+        private final int diskSize;
+        private int[] requests = new int[64];
+        private int head;
+        private int size;
+
+        Queue(int diskSize) {
+            if (diskSize <= 0) {
+                throw new IllegalArgumentException("Disk size must be greater than 0.");
+            }
+            this.diskSize = diskSize;
+        }
+
+        @Override
+        public void add(int request, int cylinder) {
+            if (cylinder < 0 || cylinder >= diskSize) {
+                throw new IllegalArgumentException("Cylinder must be between 0 and disk size.");
+            }
+            if (size == requests.length) {
+                int[] grown = Arrays.copyOf(requests, size * 2);
+                System.arraycopy(requests, 0, grown, size, head); // Unwrap the part before head
+                requests = grown;
+            }
+            requests[(head + size) & (requests.length - 1)] = request;
+            size++;
+        }
+
+        @Override
+        public int next(int headPosition) {
+            if (size == 0) {
+                return -1;
+            }
+            int request = requests[head];
+            head = (head + 1) & (requests.length - 1);
+            size--;
+            return request;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -1,16 +1,84 @@
 package disk.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-public class LOOK  implements Strategy{
+/**
+ * LOOK moves the head towards higher cylinders first, servicing every request on the way,
+ * and reverses as soon as no request is left ahead of it, instead of running on to the end
+ * of the disk like SCAN.
+ */
+public class LOOK implements Strategy, OnlineStrategy {
+    private List<Integer> seekList;
+
     @Override
     public int execute(List<Integer> requests, int headPosition) {
-        // TODO Auto-generated method stub
-        return 0;
+        List<Integer> sorted = new ArrayList<>(requests);
+        Collections.sort(sorted);
+        int split = 0;
+        while (split < sorted.size() && sorted.get(split) < headPosition) {
+            split++;
+        }
+
+        seekList = new ArrayList<>(sorted.size());
+        seekList.addAll(sorted.subList(split, sorted.size())); // Upwards first
+        for (int i = split - 1; i >= 0; i--) {
+            seekList.add(sorted.get(i)); // Then back down
+        }
+
+        int totalHeadCount = 0;
+        int currentHead = headPosition;
+        for (int request : seekList) {
+            totalHeadCount += Math.abs(request - currentHead);
+            currentHead = request;
+        }
+        return totalHeadCount;
     }
+
     @Override
     public List<Integer> seekSequence() {
-        // TODO Auto-generated method stub
-        return null;
+        return seekList;
+    }
+
+    @Override
+    public RequestQueue newQueue(int diskSize) {
+        return new Queue(diskSize);
+    }
+
+    /**
+     * Services the closest pending request in the current direction of the head, reversing
+     * when there is none.
+     */
+    private static final class Queue implements RequestQueue {
+        private final CylinderBuckets buckets;
+        private boolean upwards = true;
+
+        Queue(int diskSize) {
+            this.buckets = new CylinderBuckets(diskSize);
+        }
+
+        @Override
+        public void add(int request, int cylinder) {
+            buckets.add(request, cylinder);
+        }
+
+        @Override
+        public int next(int headPosition) {
+            if (buckets.size() == 0) {
+                return -1;
+            }
+            int cylinder = upwards ? buckets.ceiling(headPosition) : buckets.floor(headPosition);
+            if (cylinder == -1) {
+                upwards = !upwards;
+                cylinder = upwards ? buckets.ceiling(headPosition) : buckets.floor(headPosition);
+            }
+            return buckets.poll(cylinder);
+        }
+
+        @Override
+        public int size() {
+            return buckets.size();
+        }
     }
 }
@@ -0,0 +1,17 @@
+package disk.Schedulers;
+
+/**
+ * Interface for Disk Scheduling Strategies that can also order requests arriving while
+ * the disk is running, e.g. when the disk is simulated together with the CPU.
+ */
+public interface OnlineStrategy {
+
+    /**
+     * Creates an empty queue that orders requests by the rule of this strategy.
+     *
+     * @param diskSize The number of cylinders of the disk.
+     * @return A new request queue.
+     * @throws IllegalArgumentException if the disk size is not positive.
+     */
+    RequestQueue newQueue(int diskSize);
+}
@@ -0,0 +1,45 @@
+package disk.Schedulers;
+
+/**
+ * Interface for the pending requests of a disk that receives requests while it is running.
+ * <p>
+ * Requests are identified by a non-negative id chosen by the caller. Whenever the head is
+ * free, the caller asks the queue which request to service next from the current head
+ * position, so the order is decided one request at a time instead of for a fixed list.
+ * </p>
+ */
+public interface RequestQueue {
+
+    /**
+     * Adds a pending request.
+     *
+     * @param request  The id of the request.
+     * @param cylinder The cylinder the request reads or writes.
+     * @throws IllegalArgumentException if the cylinder is outside the disk.
+     */
+    void add(int request, int cylinder);
+
+    /**
+     * Removes the request to service next.
+     *
+     * @param headPosition The current position of the disk head.
+     * @return The id of the request, or -1 if no request is pending.
+     */
+    int next(int headPosition);
+
+    /**
+     * Returns the number of pending requests.
+     *
+     * @return The number of requests waiting for the head.
+     */
+    int size();
+
+    /**
+     * Checks whether no request is pending.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -2,33 +2,58 @@ package disk.Schedulers;
 // import java.util.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-public class SSTF implements Strategy {
+/**
+ * SSTF (Shortest Seek Time First) always services the pending request closest to the head.
+ * When the closest requests below and above the head are equally far away, the one on the
+ * lower cylinder goes first, both for a fixed list and for requests arriving while the disk
+ * is running, so the two orders agree. Requests on the same cylinder are serviced in the
+ * order they were listed or added.
+ */
+public class SSTF implements Strategy, OnlineStrategy {
     private int totalHeadCount;
     private List<Integer> seekList;
 
-    private int minSeekProcess(List<Integer> list ,int headPosition) {
-        int min = Integer.MAX_VALUE;
-        for (int i = 0; i < list.size(); i++) {
-            if (Math.abs(list.get(i) - headPosition) < min)
-                min = list.get(i);
-        }
-        return min;
-    }
-
+    /**
+     * Serves the requests in SSTF order in O(n log n). Requests are sorted by cylinder, and
+     * the requests served so far always form one contiguous run of the sorted order around
+     * the initial head position, so the closest remaining request is always next to one of
+     * the two ends of that run.
+     */
     @Override
     public int execute(List<Integer> requests, int headPosition) {
+        int n = requests.size();
         totalHeadCount = 0;
-        int currentHead = headPosition;
-        List<Integer> copy = new ArrayList<>(requests);
+        seekList = new ArrayList<>(n);
+
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = requests.get(i);
+        }
+        Arrays.sort(sorted);
 
-        while(copy.size() > 0) {
-            int next = minSeekProcess(copy, currentHead);
-            totalHeadCount += next;
+        int right = 0;
+        while (right < n && sorted[right] < headPosition) {
+            right++;
+        }
+        int left = right - 1;
+        int currentHead = headPosition;
+        while (left >= 0 || right < n) {
+            boolean takeLeft;
+            if (right == n) {
+                takeLeft = true;
+            } else if (left < 0) {
+                takeLeft = false;
+            } else {
+                // The lower cylinder wins a tie
+                takeLeft = (long) currentHead - sorted[left] <= (long) sorted[right] - currentHead;
+            }
+            int next = sorted[takeLeft ? left-- : right++];
+            totalHeadCount += Math.abs(next - currentHead);
             seekList.add(next);
             currentHead = next;
-            copy.remove(copy.indexOf(next));
         }
         return totalHeadCount;
     }
@@ -37,4 +62,43 @@ public class SSTF implements Strategy {
     public List<Integer> seekSequence() {
         return seekList;
     }
+
+    @Override
+    public RequestQueue newQueue(int diskSize) {
+        return new Queue(diskSize);
+    }
+
+    /**
+     * Services the pending request closest to the head, the lower cylinder on a tie.
+     */
+    private static final class Queue implements RequestQueue {
+        private final CylinderBuckets buckets;
+
+        Queue(int diskSize) {
+            this.buckets = new CylinderBuckets(diskSize);
+        }
+
+        @Override
+        public void add(int request, int cylinder) {
+            buckets.add(request, cylinder);
+        }
+
+        @Override
+        public int next(int headPosition) {
+            int below = buckets.floor(headPosition);
+            int above = buckets.ceiling(headPosition);
+            if (below == -1 && above == -1) {
+                return -1;
+            }
+            if (above == -1 || (below != -1 && headPosition - below <= above - headPosition)) {
+                return buckets.poll(below);
+            }
+            return buckets.poll(above);
+        }
+
+        @Override
+        public int size() {
+            return buckets.size();
+        }
+    }
 }
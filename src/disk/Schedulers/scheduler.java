@@ -1,5 +1,7 @@
 package disk.Schedulers;
 
+import jdk.jfr.EventType;
+
 import java.util.List;
 
 
@@ -21,6 +23,8 @@ public class scheduler {
     public static final int DEFAULT_HEAD_POSITION = 0; // Default head position
     public static final Strategy DEFAULT_STRATEGY = new FCFS(); // Default scheduling strategy
 
+    private static final EventType SCHEDULE_EVENT = EventType.getEventType(DiskScheduleEvent.class);
+
     /**
      * Constructs a scheduler with the specified strategy, disk size, requests, and
      * head position.
@@ -97,7 +101,8 @@ public class scheduler {
     }
 
     /**
-     * Executes the disk scheduling algorithm based on the specified strategy.
+     * Executes the disk scheduling algorithm based on the specified strategy. The run is
+     * counted in DiskSchedulerStats and recorded as a DiskScheduleEvent.
      *
      * @throws IllegalCallerException if the strategy is not set
      */
@@ -105,7 +110,28 @@ public class scheduler {
         if (strategy == null) {
             throw new IllegalCallerException("Strategy is not set!");
         }
+        // Only allocated while Flight Recorder records the event, so a plain run allocates nothing
+        DiskScheduleEvent event = null;
+        if (SCHEDULE_EVENT.isEnabled()) {
+            event = new DiskScheduleEvent();
+            event.begin();
+        }
         totalMovement = strategy.execute(requests, headPosition);
+        boolean commit = event != null && event.shouldCommit();
+        if (DiskSchedulerStats.ENABLED || commit) {
+            int directionChanges = DiskSchedulerStats.directionChanges(headPosition, strategy.seekSequence());
+            if (DiskSchedulerStats.ENABLED) {
+                DiskSchedulerStats.add(requests.size(), totalMovement, directionChanges);
+            }
+            if (commit) {
+                event.strategy = strategy.getClass().getSimpleName();
+                event.requests = requests.size();
+                event.diskSize = diskSize;
+                event.headMovement = totalMovement;
+                event.directionChanges = directionChanges;
+                event.commit();
+            }
+        }
     }
 
     /**
@@ -83,6 +83,29 @@ public class Main {
         scheduler.execute();
         scheduler.printProcesses();
         printAdditionalMetrics(scheduler);
+        scheduler.reset();
+
+        // Proportional share: the priority of each process is its ticket count
+        System.out.println("\n=== Lottery Scheduling ===");
+        scheduler.setStrategy("lottery");
+        scheduler.execute();
+        scheduler.printProcesses();
+        printAdditionalMetrics(scheduler);
+        scheduler.reset();
+
+        System.out.println("\n=== Stride Scheduling ===");
+        scheduler.setStrategy("stride");
+        scheduler.execute();
+        scheduler.printProcesses();
+        printAdditionalMetrics(scheduler);
+        scheduler.reset();
+
+        // CFS reads the priority of each process as its nice value
+        System.out.println("\n=== Completely Fair Scheduling ===");
+        scheduler.setStrategy("cfs");
+        scheduler.execute();
+        scheduler.printProcesses();
+        printAdditionalMetrics(scheduler);
         scheduler.reset();
 
          System.out.println("=== MLFQ Scheduling ===");
@@ -104,6 +127,68 @@ public class Main {
         scheduler.printProcesses();
         printAdditionalMetrics(scheduler);
         scheduler.reset();
+
+        System.out.println("\n=== CPU and Disk Co-simulation ===");
+
+        // Jobs alternate CPU bursts with I/O bursts that request disk cylinders
+        IoJob[] jobs = {
+            new IoJob(1, 0, 1, new int[]{4, 2}, new int[][]{{98}}),
+            new IoJob(2, 1, 1, new int[]{3, 1, 2}, new int[][]{{183, 37}, {122}}),
+            new IoJob(3, 2, 1, new int[]{1}, new int[0][]),
+            new IoJob(4, 3, 1, new int[]{2, 3}, new int[][]{{14, 124}}),
+            new IoJob(5, 4, 1, new int[]{5, 1}, new int[][]{{65, 67}})
+        };
+        IoSimulation simulation = new IoSimulation(jobs, 200, 53, 1, 20);
+
+        System.out.println("\n--- SRTF + LOOK ---");
+        simulation.run(new SRTF(), new disk.Schedulers.LOOK(), contextSwitchingDelay);
+        simulation.printSummary();
+
+        System.out.println("\n--- Round Robin + SSTF ---");
+        simulation.run(new RoundRobin(2), new disk.Schedulers.SSTF(), contextSwitchingDelay);
+        simulation.printSummary();
+
+        System.out.println("\n=== Real-Time Scheduling ===");
+
+        // Periodic tasks: ID, period, execution time; the deadline of a job is its next release
+        PeriodicTask[] tasks = {
+            new PeriodicTask(1, 5, 2),
+            new PeriodicTask(2, 7, 4),  // Fits under EDF only
+            new PeriodicTask(3, 20, 1)  // Fits under RM only, since task 2 was rejected there
+        };
+        AdmissionController edfAdmission = AdmissionController.edf();
+        AdmissionController rmAdmission = AdmissionController.rateMonotonic();
+        for (PeriodicTask task : tasks) {
+            System.out.printf("Task %d (U = %.2f): EDF %s, RM %s\n", task.getId(), task.utilization(),
+                    edfAdmission.admit(task) ? "admitted" : "rejected",
+                    rmAdmission.admit(task) ? "admitted" : "rejected");
+        }
+
+        System.out.println("\n--- EDF ---");
+        printDeadlineMetrics(edfAdmission.releaseJobs(60), new EDF());
+        System.out.println("\n--- Rate Monotonic ---");
+        printDeadlineMetrics(rmAdmission.releaseJobs(60), new RateMonotonic());
+
+        System.out.println("\n=== Generated Workload ===");
+
+        // 100000 jobs arriving in bursts, mostly short with a heavy tail of long ones
+        workload.WorkloadGenerator generator = new workload.WorkloadGenerator(
+                workload.ArrivalProcess.mmpp(new double[]{0.01, 0.2}, new double[]{2000, 200}),
+                workload.Distribution.pareto(10, 1.5),
+                workload.Distribution.uniform(1, 10),
+                42);
+        scheduler generated = generator.newScheduler(100_000, contextSwitchingDelay);
+        generated.setStrategy("srtf");
+        generated.execute();
+        printAdditionalMetrics(generated);
+    }
+
+    // Run the jobs of a task set and print how many of them missed their deadline
+    private static void printDeadlineMetrics(ProcessTable jobs, EventDrivenStrategy strategy) {
+        strategy.execute(jobs, 0);
+        ScheduleMetrics metrics = ScheduleMetrics.of(jobs);
+        System.out.printf("Jobs: %d, Deadline Misses: %d (%.2f%%), Max Lateness: %d ms\n", jobs.size(),
+                metrics.getDeadlineMissCount(), metrics.deadlineMissRatio() * 100, metrics.getMaxLateness());
     }
 
     // Print additional metrics for each algorithm
@@ -113,5 +198,11 @@ public class Main {
         System.out.printf("Throughput: %.2f processes/ms\n", scheduler.throughput());
         System.out.printf("Average Waiting Time: %.2f ms\n", scheduler.averageWaitingTime());
         System.out.printf("Average Turnaround Time: %.2f ms\n", scheduler.averageTurnaroundTime());
+        System.out.printf("Average Response Time: %.2f ms\n", scheduler.averageResponseTime());
+        System.out.printf("Max Waiting Time: %d ms\n", scheduler.getMetrics().getMaxWaitingTime());
+        LogLinearHistogram waitingTimes = scheduler.getMetrics().getWaitingTimeHistogram();
+        System.out.printf("Waiting Time p50/p95/p99: %d / %d / %d ms\n",
+                waitingTimes.percentile(50), waitingTimes.percentile(95), waitingTimes.percentile(99));
+        System.out.printf("Context Switches: %d\n", scheduler.getMetrics().getContextSwitchCount());
     }
 }
@@ -0,0 +1,128 @@
+package workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * The ArrivalProcess interface models when generated jobs arrive, as a sequence of gaps
+ * between consecutive arrivals. A process may have state, such as the phase of a bursty
+ * source, so every independent run of it is started with start() and draws from its own
+ * random source.
+ */
+@FunctionalInterface
+public interface ArrivalProcess {
+
+    /**
+     * Starts an independent run of the process.
+     *
+     * @param random The random source the run draws from.
+     * @return The gaps of the run.
+     */
+    Gaps start(SplittableRandom random);
+
+    /**
+     * The gaps between consecutive arrivals of one run of an arrival process.
+     */
+    @FunctionalInterface
+    interface Gaps {
+
+        /**
+         * Draws the time from the previous arrival, or from the start of the run, to the next one.
+         *
+         * @return The gap, never negative.
+         */
+        double next();
+    }
+
+    /**
+     * Jobs arrive independently at a constant rate, so the gaps are exponentially distributed.
+     *
+     * @param rate The mean number of arrivals per time unit.
+     * @return The arrival process.
+     * @throws IllegalArgumentException if the rate is not positive.
+     */
+    static ArrivalProcess poisson(double rate) {
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Rate must be finite and greater than 0.");
+        }
+        double meanGap = 1 / rate;
+        return random -> () -> -meanGap * Math.log(1 - random.nextDouble());
+    }
+
+    /**
+     * Jobs arrive in bursts, following a Markov-modulated Poisson process (MMPP): the source
+     * stays in each of its states for an exponentially distributed time and meanwhile emits
+     * Poisson arrivals at the rate of that state. On leaving a state it moves to one of the
+     * others chosen uniformly, so each state is occupied for a share of time proportional to
+     * its mean dwell time. A run starts in a state drawn from these shares.
+     *
+     * Two states, e.g. rates {0.1, 5} with dwell times {1000, 50}, give a quiet source with
+     * occasional floods.
+     *
+     * @param rates          The arrival rate in each state; 0 for a silent state.
+     * @param meanDwellTimes The mean time spent in each state per visit.
+     * @return The arrival process.
+     * @throws IllegalArgumentException if there are fewer than two states, the arrays differ in
+     *                                  length, a rate is negative, no rate is positive or a
+     *                                  dwell time is not positive.
+     */
+    static ArrivalProcess mmpp(double[] rates, double[] meanDwellTimes) {
+        int n = rates.length;
+        if (n < 2 || meanDwellTimes.length != n) {
+            throw new IllegalArgumentException("An MMPP needs at least two states, with one rate and one dwell time each.");
+        }
+        double totalDwell = 0;
+        boolean emits = false;
+        for (int state = 0; state < n; state++) {
+            if (!(rates[state] >= 0) || Double.isInfinite(rates[state])) {
+                throw new IllegalArgumentException("Rates must be finite and non-negative.");
+            }
+            if (!(meanDwellTimes[state] > 0) || Double.isInfinite(meanDwellTimes[state])) {
+                throw new IllegalArgumentException("Dwell times must be finite and greater than 0.");
+            }
+            emits |= rates[state] > 0;
+            totalDwell += meanDwellTimes[state];
+        }
+        if (!emits) {
+            throw new IllegalArgumentException("At least one state must have a positive rate.");
+        }
+        double[] rateOf = rates.clone();
+        double[] dwellOf = meanDwellTimes.clone();
+        double dwellSum = totalDwell;
+        return random -> new Gaps() {
+            private int state = initialState(random.nextDouble() * dwellSum);
+            private double dwell = exponential(dwellOf[state]); // Time left in the state
+
+            @Override
+            public double next() {
+                double gap = 0;
+                while (true) {
+                    if (rateOf[state] > 0) {
+                        double arrival = exponential(1 / rateOf[state]);
+                        if (arrival <= dwell) {
+                            dwell -= arrival;
+                            return gap + arrival;
+                        }
+                    }
+                    // No arrival before the state changes; both times are memoryless, so
+                    // the next state can start from scratch
+                    gap += dwell;
+                    int next = random.nextInt(n - 1);
+                    state = next >= state ? next + 1 : next;
+                    dwell = exponential(dwellOf[state]);
+                }
+            }
+
+            private int initialState(double point) {
+                int chosen = 0;
+                while (chosen < n - 1 && point >= dwellOf[chosen]) {
+                    point -= dwellOf[chosen++];
+                }
+                return chosen;
+            }
+
+            private double exponential(double mean) {
+                return -mean * Math.log(1 - random.nextDouble());
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package workload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The CsvTraceConverter class turns text workloads into binary traces, so they only have to
+ * be parsed once.
+ * <p>
+ * CPU files have one process per line as {@code arrival,burst[,priority]}; disk files have
+ * one request per line as {@code cylinder[,arrival]}. Missing optional columns default to 0.
+ * Blank lines, lines starting with {@code #} and a non-numeric header line are skipped.
+ * </p>
+ */
+public final class CsvTraceConverter {
+
+    private CsvTraceConverter() {
+    }
+
+    /**
+     * Converts a CPU workload CSV into a binary trace.
+     *
+     * @param csv   The CSV file to read.
+     * @param trace The trace file to write.
+     * @return The number of processes written.
+     * @throws IOException if a file cannot be read or written.
+     * @throws IllegalArgumentException if a line is malformed.
+     */
+    public static long convertCpu(Path csv, Path trace) throws IOException {
+        int[] fields = new int[3];
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             TraceWriter writer = TraceWriter.cpu(trace)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int count = parseLine(line, fields, lineNumber);
+                if (count == 0) {
+                    continue;
+                }
+                if (count < 2) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected arrival,burst[,priority].");
+                }
+                writer.writeProcess(fields[0], fields[1], count > 2 ? fields[2] : 0);
+            }
+            return writer.getRecordCount();
+        }
+    }
+
+    /**
+     * Converts a disk request CSV into a binary trace.
+     *
+     * @param csv          The CSV file to read.
+     * @param trace        The trace file to write.
+     * @param diskSize     The size of the disk.
+     * @param headPosition The initial position of the disk head.
+     * @return The number of requests written.
+     * @throws IOException if a file cannot be read or written.
+     * @throws IllegalArgumentException if a line is malformed.
+     */
+    public static long convertDisk(Path csv, Path trace, int diskSize, int headPosition) throws IOException {
+        int[] fields = new int[2];
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             TraceWriter writer = TraceWriter.disk(trace, diskSize, headPosition)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int count = parseLine(line, fields, lineNumber);
+                if (count == 0) {
+                    continue;
+                }
+                writer.writeRequest(fields[0], count > 1 ? fields[1] : 0);
+            }
+            return writer.getRecordCount();
+        }
+    }
+
+    /**
+     * Parses the comma-separated integers of a line without allocating.
+     *
+     * @return The number of fields parsed, or 0 if the line should be skipped.
+     */
+    private static int parseLine(String line, int[] fields, long lineNumber) {
+        int length = line.length();
+        int i = 0;
+        while (i < length && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        if (i == length || line.charAt(i) == '#') {
+            return 0;
+        }
+        if (lineNumber == 1 && !isNumberStart(line.charAt(i))) {
+            return 0; // Header line
+        }
+
+        int count = 0;
+        while (i < length) {
+            if (count == fields.length) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": too many columns.");
+            }
+            while (i < length && line.charAt(i) == ' ') {
+                i++;
+            }
+            boolean negative = i < length && line.charAt(i) == '-';
+            if (negative) {
+                i++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (i < length && line.charAt(i) >= '0' && line.charAt(i) <= '9') {
+                value = value * 10 + (line.charAt(i++) - '0');
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": value out of range.");
+                }
+                digits++;
+            }
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (digits == 0 || (i < length && line.charAt(i) != ',')) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": not a number.");
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": value out of range.");
+            }
+            fields[count++] = (int) value;
+            if (i == length - 1) {
+                // A comma ends the line, so an empty column follows the last value
+                throw new IllegalArgumentException("Line " + lineNumber
+                        + (count == fields.length ? ": too many columns." : ": not a number."));
+            }
+            i++; // Skip the comma
+        }
+        return count;
+    }
+
+    private static boolean isNumberStart(char c) {
+        return c == '-' || (c >= '0' && c <= '9');
+    }
+}
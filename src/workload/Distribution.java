@@ -0,0 +1,189 @@
+package workload;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The Distribution interface draws the integer attributes of generated jobs, such as burst
+ * times and priorities. A distribution holds no state of its own: every draw comes from the
+ * random source it is given, so the same source always yields the same values and one
+ * distribution can serve any number of threads at once.
+ *
+ * The continuous distributions are rounded to the nearest int and clamped to [1, Integer.MAX_VALUE],
+ * so they can be used for burst times directly.
+ */
+@FunctionalInterface
+public interface Distribution {
+
+    /**
+     * Draws a value.
+     *
+     * @param random The random source.
+     * @return The value.
+     */
+    int sample(SplittableRandom random);
+
+    /**
+     * Always returns the same value.
+     *
+     * @param value The value.
+     * @return The distribution.
+     */
+    static Distribution constant(int value) {
+        return random -> value;
+    }
+
+    /**
+     * Draws uniformly from a range of ints.
+     *
+     * @param min The smallest value, inclusive.
+     * @param max The largest value, inclusive.
+     * @return The distribution.
+     * @throws IllegalArgumentException if min exceeds max.
+     */
+    static Distribution uniform(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Minimum cannot exceed maximum.");
+        }
+        long span = (long) max - min + 1;
+        return random -> (int) (min + random.nextLong(span));
+    }
+
+    /**
+     * Draws from the exponential distribution, the usual model of memoryless service times.
+     *
+     * @param mean The mean of the distribution.
+     * @return The distribution.
+     * @throws IllegalArgumentException if the mean is not positive.
+     */
+    static Distribution exponential(double mean) {
+        if (!(mean > 0)) {
+            throw new IllegalArgumentException("Mean must be greater than 0.");
+        }
+        return random -> positive(-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * Draws from the Pareto distribution, whose heavy tail models workloads where a few very
+     * long jobs carry much of the total work. The mean is shape * scale / (shape - 1) for a
+     * shape above 1 and infinite otherwise.
+     *
+     * @param scale The smallest value the distribution takes.
+     * @param shape The tail index; smaller values give heavier tails.
+     * @return The distribution.
+     * @throws IllegalArgumentException if the scale or the shape is not positive.
+     */
+    static Distribution pareto(double scale, double shape) {
+        if (!(scale > 0) || !(shape > 0)) {
+            throw new IllegalArgumentException("Scale and shape must be greater than 0.");
+        }
+        double exponent = -1 / shape;
+        return random -> positive(scale * Math.pow(1 - random.nextDouble(), exponent));
+    }
+
+    /**
+     * Draws one of two values, e.g. many short interactive jobs mixed with a few long batch jobs.
+     *
+     * @param shortValue      The value drawn most of the time.
+     * @param longValue       The other value.
+     * @param longProbability The probability of drawing the long value.
+     * @return The distribution.
+     * @throws IllegalArgumentException if the probability is not between 0 and 1.
+     */
+    static Distribution bimodal(int shortValue, int longValue, double longProbability) {
+        if (!(longProbability >= 0 && longProbability <= 1)) {
+            throw new IllegalArgumentException("Probability must be between 0 and 1.");
+        }
+        return random -> random.nextDouble() < longProbability ? longValue : shortValue;
+    }
+
+    /**
+     * Draws from observed values, e.g. the burst times of a real trace, each with the same
+     * probability.
+     *
+     * @param samples The observed values; copied.
+     * @return The distribution.
+     * @throws IllegalArgumentException if there are no samples.
+     */
+    static Distribution empirical(int[] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("At least one sample is required.");
+        }
+        int[] values = samples.clone();
+        return random -> values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Draws from a discrete distribution given as values and their relative weights. Draws
+     * cost O(1) whatever the number of values, using Walker's alias method.
+     *
+     * @param values  The values.
+     * @param weights The weight of each value; they need not sum to 1.
+     * @return The distribution.
+     * @throws IllegalArgumentException if the arrays are empty or differ in length, or a weight is
+     *                                  negative or they are all 0.
+     */
+    static Distribution empirical(int[] values, double[] weights) {
+        int n = values.length;
+        if (n == 0 || weights.length != n) {
+            throw new IllegalArgumentException("Values and weights must be non-empty and have the same length.");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative.");
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one weight must be greater than 0.");
+        }
+
+        // Split the weights into n columns of height 1, each shared by at most two values
+        double[] probabilities = new double[n];
+        int[] aliases = new int[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        double[] scaled = new double[n];
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[largeCount - 1];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] -= 1 - scaled[less];
+            if (scaled[more] < 1) {
+                largeCount--;
+                small[smallCount++] = more;
+            }
+        }
+        while (largeCount > 0) {
+            probabilities[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probabilities[small[--smallCount]] = 1; // Only left over by rounding errors
+        }
+
+        int[] table = Arrays.copyOf(values, n);
+        return random -> {
+            int column = random.nextInt(n);
+            return random.nextDouble() < probabilities[column] ? table[column] : table[aliases[column]];
+        };
+    }
+
+    /**
+     * Rounds a positive real to an int of at least 1.
+     */
+    private static int positive(double value) {
+        return value >= Integer.MAX_VALUE ? Integer.MAX_VALUE : Math.max(1, (int) Math.round(value));
+    }
+}
@@ -0,0 +1,41 @@
+package workload;
+
+import java.nio.ByteOrder;
+
+/**
+ * The TraceFormat class describes the binary workload trace format shared by TraceWriter
+ * and TraceReader.
+ * <p>
+ * A trace is a fixed 32-byte header followed by fixed-width records, all little-endian:
+ * </p>
+ * <pre>
+ * offset  size  field
+ *      0     4  magic ("OSTR")
+ *      4     4  format version
+ *      8     4  kind (1 = CPU processes, 2 = disk requests)
+ *     12     4  record width in bytes
+ *     16     8  record count
+ *     24     4  disk size (disk traces only, 0 otherwise)
+ *     28     4  initial head position (disk traces only, 0 otherwise)
+ * </pre>
+ * <p>
+ * CPU records are 12 bytes: arrival time, burst time and priority as ints. Disk records are
+ * 8 bytes: cylinder and arrival time as ints. Because every record has the same width, a
+ * reader can address record i directly without parsing anything before it.
+ * </p>
+ */
+public final class TraceFormat {
+    public static final int MAGIC = 0x5254534F; // "OSTR" read as a little-endian int
+    public static final int VERSION = 1;
+    public static final int KIND_CPU = 1;
+    public static final int KIND_DISK = 2;
+    public static final int HEADER_SIZE = 32;
+    public static final int CPU_RECORD_WIDTH = 12;
+    public static final int DISK_RECORD_WIDTH = 8;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int COUNT_OFFSET = 16;
+
+    private TraceFormat() {
+    }
+}
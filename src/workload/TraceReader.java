@@ -0,0 +1,283 @@
+package workload;
+
+import cpu.Schedulers.Process;
+import cpu.Schedulers.ProcessTable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * The TraceReader class reads a binary workload trace (see TraceFormat) by memory-mapping it
+ * with FileChannel.map. Records are read straight out of the mapping on demand, so the trace
+ * is never parsed or copied into the heap as a whole; files larger than 2 GB are mapped in
+ * several windows.
+ * <p>
+ * A CPU trace feeds the StreamingScheduler through processes(), or the batch scheduler
+ * through toProcessTable(). A disk trace feeds disk.Schedulers.scheduler through requests(),
+ * a List view backed by the mapping.
+ * </p>
+ */
+public final class TraceReader implements AutoCloseable {
+    private static final long MAX_WINDOW_BYTES = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final int kind;
+    private final int recordWidth;
+    private final long recordCount;
+    private final int diskSize;
+    private final int headPosition;
+    private final MappedByteBuffer[] windows;
+    private final long recordsPerWindow;
+
+    private TraceReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, TraceFormat.HEADER_SIZE)
+                .order(TraceFormat.BYTE_ORDER);
+        if (header.getInt(0) != TraceFormat.MAGIC) {
+            throw new IOException("Not a workload trace.");
+        }
+        if (header.getInt(4) != TraceFormat.VERSION) {
+            throw new IOException("Unsupported trace version: " + header.getInt(4));
+        }
+        this.kind = header.getInt(8);
+        this.recordWidth = header.getInt(12);
+        this.recordCount = header.getLong(TraceFormat.COUNT_OFFSET);
+        this.diskSize = header.getInt(24);
+        this.headPosition = header.getInt(28);
+
+        int expectedWidth = kind == TraceFormat.KIND_CPU ? TraceFormat.CPU_RECORD_WIDTH
+                : kind == TraceFormat.KIND_DISK ? TraceFormat.DISK_RECORD_WIDTH : -1;
+        if (recordWidth != expectedWidth) {
+            throw new IOException("Unsupported trace kind " + kind + " with record width " + recordWidth);
+        }
+        if (channel.size() < TraceFormat.HEADER_SIZE + recordCount * recordWidth) {
+            throw new IOException("Trace is truncated.");
+        }
+
+        // Map the records in windows of whole records that each stay below 2 GB
+        this.recordsPerWindow = MAX_WINDOW_BYTES / recordWidth;
+        int windowCount = (int) Math.max(1, (recordCount + recordsPerWindow - 1) / recordsPerWindow);
+        this.windows = new MappedByteBuffer[windowCount];
+        for (int w = 0; w < windowCount; w++) {
+            long first = w * recordsPerWindow;
+            long records = Math.min(recordsPerWindow, recordCount - first);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    TraceFormat.HEADER_SIZE + first * recordWidth, records * recordWidth);
+            window.order(TraceFormat.BYTE_ORDER);
+            windows[w] = window;
+        }
+    }
+
+    /**
+     * Opens and maps a trace file.
+     *
+     * @param path The trace to read.
+     * @return A reader over the trace.
+     * @throws IOException if the file cannot be read or is not a valid trace.
+     */
+    public static TraceReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new TraceReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public boolean isCpuTrace() {
+        return kind == TraceFormat.KIND_CPU;
+    }
+
+    public boolean isDiskTrace() {
+        return kind == TraceFormat.KIND_DISK;
+    }
+
+    /**
+     * Returns the number of records in the trace.
+     *
+     * @return The record count.
+     */
+    public long size() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the disk size stored in the header of a disk trace.
+     *
+     * @return The size of the disk, or 0 for a CPU trace.
+     */
+    public int getDiskSize() {
+        return diskSize;
+    }
+
+    /**
+     * Returns the initial head position stored in the header of a disk trace.
+     *
+     * @return The initial head position, or 0 for a CPU trace.
+     */
+    public int getHeadPosition() {
+        return headPosition;
+    }
+
+    /**
+     * Returns the arrival time of a record (the issue time for disk requests).
+     *
+     * @param index The index of the record.
+     * @return The arrival time.
+     */
+    public int getArrivalTime(long index) {
+        return field(index, kind == TraceFormat.KIND_CPU ? 0 : 4);
+    }
+
+    /**
+     * Returns the burst time of a process record.
+     *
+     * @param index The index of the record.
+     * @return The burst time.
+     */
+    public int getBurstTime(long index) {
+        requireKind(TraceFormat.KIND_CPU);
+        return field(index, 4);
+    }
+
+    /**
+     * Returns the priority of a process record.
+     *
+     * @param index The index of the record.
+     * @return The priority.
+     */
+    public int getPriority(long index) {
+        requireKind(TraceFormat.KIND_CPU);
+        return field(index, 8);
+    }
+
+    /**
+     * Returns the cylinder of a disk request record.
+     *
+     * @param index The index of the record.
+     * @return The cylinder requested.
+     */
+    public int getCylinder(long index) {
+        requireKind(TraceFormat.KIND_DISK);
+        return field(index, 0);
+    }
+
+    /**
+     * Returns an iterator that creates one Process per record as it is consumed, with PIDs
+     * assigned in order starting at 1. This is the intended input of the StreamingScheduler.
+     *
+     * @return An iterator over the processes of a CPU trace.
+     * @throws IllegalStateException if this is not a CPU trace.
+     */
+    public Iterator<Process> processes() {
+        requireKind(TraceFormat.KIND_CPU);
+        return new Iterator<>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < recordCount;
+            }
+
+            @Override
+            public Process next() {
+                if (next >= recordCount) {
+                    throw new NoSuchElementException();
+                }
+                long i = next++;
+                return new Process((int) (i + 1), field(i, 0), field(i, 4), field(i, 8));
+            }
+        };
+    }
+
+    /**
+     * Loads a CPU trace into a new ProcessTable for the batch scheduler, with PIDs assigned
+     * in order starting at 1.
+     *
+     * @return A table holding every process of the trace.
+     * @throws IllegalStateException if this is not a CPU trace or it has more records than a table can hold.
+     */
+    public ProcessTable toProcessTable() {
+        requireKind(TraceFormat.KIND_CPU);
+        if (recordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Trace is too large for a ProcessTable, stream it instead.");
+        }
+        ProcessTable table = new ProcessTable((int) recordCount);
+        for (long i = 0; i < recordCount; i++) {
+            table.add((int) (i + 1), field(i, 0), field(i, 4), field(i, 8));
+        }
+        return table;
+    }
+
+    /**
+     * Returns the cylinders of a disk trace as a read-only List backed by the mapping.
+     *
+     * @return The disk requests in trace order.
+     * @throws IllegalStateException if this is not a disk trace or it has more than Integer.MAX_VALUE records.
+     */
+    public List<Integer> requests() {
+        requireKind(TraceFormat.KIND_DISK);
+        if (recordCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Trace has too many requests for a List.");
+        }
+        int size = (int) recordCount;
+        return new MappedRequestList(size);
+    }
+
+    /**
+     * Closes the underlying file. The mappings stay valid until they are garbage collected.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int field(long index, int offset) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " out of " + recordCount);
+        }
+        int window = (int) (index / recordsPerWindow);
+        int position = (int) ((index % recordsPerWindow) * recordWidth) + offset;
+        return windows[window].getInt(position);
+    }
+
+    private void requireKind(int required) {
+        if (kind != required) {
+            throw new IllegalStateException(required == TraceFormat.KIND_CPU
+                    ? "Not a CPU trace." : "Not a disk trace.");
+        }
+    }
+
+    /**
+     * A read-only List view of the cylinders of a disk trace.
+     */
+    private final class MappedRequestList extends AbstractList<Integer> implements RandomAccess {
+        private final int size;
+
+        MappedRequestList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return field(index, 0);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package workload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The TraceWriter class writes a binary workload trace (see TraceFormat). Records are
+ * buffered in a direct buffer and written to a FileChannel in large blocks; the record
+ * count in the header is filled in when the writer is closed.
+ */
+public final class TraceWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final int kind;
+    private final ByteBuffer buffer;
+    private long recordCount;
+
+    private TraceWriter(Path path, int kind, int recordWidth, int diskSize, int headPosition) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.kind = kind;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(TraceFormat.BYTE_ORDER);
+
+        buffer.putInt(TraceFormat.MAGIC);
+        buffer.putInt(TraceFormat.VERSION);
+        buffer.putInt(kind);
+        buffer.putInt(recordWidth);
+        buffer.putLong(0L); // Record count, patched on close
+        buffer.putInt(diskSize);
+        buffer.putInt(headPosition);
+    }
+
+    /**
+     * Creates a writer for a CPU workload trace.
+     *
+     * @param path The file to write, replaced if it exists.
+     * @return A new writer.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static TraceWriter cpu(Path path) throws IOException {
+        return new TraceWriter(path, TraceFormat.KIND_CPU, TraceFormat.CPU_RECORD_WIDTH, 0, 0);
+    }
+
+    /**
+     * Creates a writer for a disk request trace.
+     *
+     * @param path         The file to write, replaced if it exists.
+     * @param diskSize     The size of the disk.
+     * @param headPosition The initial position of the disk head.
+     * @return A new writer.
+     * @throws IOException if the file cannot be opened.
+     * @throws IllegalArgumentException if diskSize is non-positive or headPosition is out of bounds.
+     */
+    public static TraceWriter disk(Path path, int diskSize, int headPosition) throws IOException {
+        if (diskSize <= 0) {
+            throw new IllegalArgumentException("Disk size must be greater than 0.");
+        }
+        if (headPosition < 0 || headPosition >= diskSize) {
+            throw new IllegalArgumentException("Head position must be between 0 and disk size.");
+        }
+        return new TraceWriter(path, TraceFormat.KIND_DISK, TraceFormat.DISK_RECORD_WIDTH, diskSize, headPosition);
+    }
+
+    /**
+     * Appends a process record to a CPU trace.
+     *
+     * @param arrivalTime The arrival time of the process.
+     * @param burstTime   The burst time of the process.
+     * @param priority    The priority of the process.
+     * @throws IOException if the buffer cannot be flushed.
+     * @throws IllegalStateException if this is not a CPU trace.
+     */
+    public void writeProcess(int arrivalTime, int burstTime, int priority) throws IOException {
+        if (kind != TraceFormat.KIND_CPU) {
+            throw new IllegalStateException("Process records can only be written to a CPU trace.");
+        }
+        if (buffer.remaining() < TraceFormat.CPU_RECORD_WIDTH) {
+            flush();
+        }
+        buffer.putInt(arrivalTime);
+        buffer.putInt(burstTime);
+        buffer.putInt(priority);
+        recordCount++;
+    }
+
+    /**
+     * Appends a request record to a disk trace.
+     *
+     * @param cylinder    The cylinder requested.
+     * @param arrivalTime The time at which the request is issued.
+     * @throws IOException if the buffer cannot be flushed.
+     * @throws IllegalStateException if this is not a disk trace.
+     */
+    public void writeRequest(int cylinder, int arrivalTime) throws IOException {
+        if (kind != TraceFormat.KIND_DISK) {
+            throw new IllegalStateException("Request records can only be written to a disk trace.");
+        }
+        if (buffer.remaining() < TraceFormat.DISK_RECORD_WIDTH) {
+            flush();
+        }
+        buffer.putInt(cylinder);
+        buffer.putInt(arrivalTime);
+        recordCount++;
+    }
+
+    /**
+     * Returns the number of records written so far.
+     *
+     * @return The record count.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Flushes the remaining records, writes the record count into the header and closes the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).order(TraceFormat.BYTE_ORDER);
+            count.putLong(0, recordCount);
+            channel.write(count, TraceFormat.COUNT_OFFSET);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,189 @@
+package workload;
+
+import cpu.Schedulers.ProcessTable;
+import cpu.Schedulers.scheduler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The WorkloadGenerator class generates large synthetic CPU workloads: arrival times from an
+ * ArrivalProcess, and burst times and priorities from two Distributions. Jobs are written
+ * straight into int arrays, never boxed, and go to a ProcessTable, a scheduler or a binary
+ * trace file (see TraceFormat).
+ * <p>
+ * Jobs are generated in blocks of BLOCK_SIZE. Every block draws from its own SplittableRandom,
+ * split in block order from one seeded root, so blocks can be generated on any number of
+ * threads and the workload only depends on the seed: the same seed gives the same jobs
+ * whether they go to a table or a trace, and whatever the number of cores. Each block runs
+ * its arrival process from time 0, and the blocks are then shifted by the total time of the
+ * blocks before them, so arrival times keep increasing across blocks. A stateful arrival
+ * process, such as an MMPP, restarts from its stationary state at every block; with blocks
+ * of this size, that only affects a negligible fraction of the gaps.
+ * </p>
+ * <p>
+ * Arrival times are ints like everywhere else in the simulator, so the workload must end
+ * before Integer.MAX_VALUE; lower the arrival rate or the number of jobs otherwise.
+ * </p>
+ */
+public final class WorkloadGenerator {
+    /** Number of jobs drawn from one random stream. */
+    public static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int BLOCKS_PER_WRITE = 64; // Blocks generated at once for a trace
+
+    private final ArrivalProcess arrivals;
+    private final Distribution bursts;
+    private final Distribution priorities;
+    private final long seed;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param arrivals   The arrival process of the jobs.
+     * @param bursts     The distribution of burst times; values below 1 are raised to 1.
+     * @param priorities The distribution of priorities.
+     * @param seed       The seed of the root random stream.
+     */
+    public WorkloadGenerator(ArrivalProcess arrivals, Distribution bursts, Distribution priorities, long seed) {
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+        this.priorities = priorities;
+        this.seed = seed;
+    }
+
+    /**
+     * Generates jobs into a new table. Process IDs are assigned in order starting at 1.
+     *
+     * @param count The number of jobs.
+     * @return A table holding the jobs, backed by the generated arrays.
+     * @throws IllegalArgumentException if the count is negative.
+     * @throws IllegalStateException    if an arrival time exceeds Integer.MAX_VALUE.
+     */
+    public ProcessTable generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Job count cannot be negative.");
+        }
+        int[] arrivalTimes = new int[count];
+        int[] burstTimes = new int[count];
+        int[] jobPriorities = new int[count];
+        generate(new SplittableRandom(seed), 0, arrivalTimes, burstTimes, jobPriorities, count);
+        return ProcessTable.wrap(arrivalTimes, burstTimes, jobPriorities);
+    }
+
+    /**
+     * Generates jobs into a new scheduler.
+     *
+     * @param count                 The number of jobs.
+     * @param contextSwitchingDelay The delay incurred during context switching.
+     * @return A scheduler holding the jobs, with no strategy set.
+     * @throws IllegalArgumentException if the count is negative.
+     * @throws IllegalStateException    if an arrival time exceeds Integer.MAX_VALUE.
+     */
+    public scheduler newScheduler(int count, int contextSwitchingDelay) {
+        return new scheduler(generate(count), contextSwitchingDelay);
+    }
+
+    /**
+     * Generates jobs into a CPU trace file, a group of blocks at a time, so memory use stays
+     * constant however many jobs are written. The file holds the same jobs as generate() for
+     * the same count.
+     *
+     * @param path  The file to write, replaced if it exists.
+     * @param count The number of jobs.
+     * @return The number of jobs written.
+     * @throws IOException              if the file cannot be written.
+     * @throws IllegalArgumentException if the count is negative.
+     * @throws IllegalStateException    if an arrival time exceeds Integer.MAX_VALUE.
+     */
+    public long writeTrace(Path path, long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Job count cannot be negative.");
+        }
+        int capacity = (int) Math.min(count, (long) BLOCKS_PER_WRITE * BLOCK_SIZE);
+        int[] arrivalTimes = new int[capacity];
+        int[] burstTimes = new int[capacity];
+        int[] jobPriorities = new int[capacity];
+        SplittableRandom root = new SplittableRandom(seed);
+        long start = 0; // Arrival time the next group is shifted by
+        try (TraceWriter writer = TraceWriter.cpu(path)) {
+            for (long written = 0; written < count; ) {
+                int length = (int) Math.min(capacity, count - written);
+                start = generate(root, start, arrivalTimes, burstTimes, jobPriorities, length);
+                for (int i = 0; i < length; i++) {
+                    writer.writeProcess(arrivalTimes[i], burstTimes[i], jobPriorities[i]);
+                }
+                written += length;
+            }
+            return writer.getRecordCount();
+        }
+    }
+
+    /**
+     * Fills the first length elements of the arrays with the next blocks of jobs, in parallel.
+     *
+     * @param root  The stream the blocks are split from, in block order.
+     * @param start The time the first block starts at.
+     * @return The time the next block starts at.
+     */
+    private long generate(SplittableRandom root, long start, int[] arrivalTimes, int[] burstTimes,
+                          int[] jobPriorities, int length) {
+        int blockCount = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        SplittableRandom[] streams = new SplittableRandom[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            streams[block] = root.split();
+        }
+
+        // Each block runs from time 0 and reports how long it took
+        double[] spans = new double[blockCount];
+        IntStream.range(0, blockCount).parallel().forEach(block -> {
+            int from = block * BLOCK_SIZE;
+            spans[block] = fill(streams[block], arrivalTimes, burstTimes, jobPriorities,
+                    from, Math.min(length, from + BLOCK_SIZE));
+        });
+
+        // Shift every block by the whole time units of the blocks before it, which keeps
+        // arrival times non-decreasing across blocks
+        long[] offsets = new long[blockCount];
+        long time = start;
+        for (int block = 0; block < blockCount; block++) {
+            offsets[block] = time;
+            time += (long) spans[block];
+            if (time > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Arrival times exceed Integer.MAX_VALUE; lower the arrival rate or the job count.");
+            }
+        }
+        IntStream.range(0, blockCount).parallel().forEach(block -> {
+            int offset = (int) offsets[block];
+            if (offset != 0) {
+                for (int i = block * BLOCK_SIZE, end = Math.min(length, i + BLOCK_SIZE); i < end; i++) {
+                    arrivalTimes[i] += offset;
+                }
+            }
+        });
+        return time;
+    }
+
+    /**
+     * Draws the jobs of one block, with arrival times relative to the start of the block.
+     *
+     * @return The arrival time of the last job of the block.
+     */
+    private double fill(SplittableRandom random, int[] arrivalTimes, int[] burstTimes, int[] jobPriorities,
+                        int from, int to) {
+        ArrivalProcess.Gaps gaps = arrivals.start(random);
+        double clock = 0;
+        for (int i = from; i < to; i++) {
+            clock += gaps.next();
+            if (clock > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Arrival times exceed Integer.MAX_VALUE; lower the arrival rate or the job count.");
+            }
+            arrivalTimes[i] = (int) clock;
+            burstTimes[i] = Math.max(1, bursts.sample(random));
+            jobPriorities[i] = priorities.sample(random);
+        }
+        return clock;
+    }
+}